@@ -0,0 +1,7 @@
+ALTER TABLE post
+    ADD COLUMN like_count    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE post p
+SET p.like_count    = (SELECT COUNT(*) FROM post_like l WHERE l.post_id = p.post_id),
+    p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id AND c.deleted_at IS NULL);
@@ -0,0 +1,8 @@
+ALTER TABLE ocr_result
+    ADD COLUMN image_url_hash CHAR(64) NULL AFTER image_url;
+
+UPDATE ocr_result
+SET image_url_hash = SHA2(image_url, 256)
+WHERE image_url_hash IS NULL;
+
+CREATE INDEX idx_ocr_result_image_url_hash ON ocr_result (image_url_hash);
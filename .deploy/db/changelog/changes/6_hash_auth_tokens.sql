@@ -0,0 +1,24 @@
+DELETE FROM blacklisted_token
+WHERE expired_at <= NOW(6);
+
+ALTER TABLE blacklisted_token
+    ADD COLUMN token_digest BINARY(32) NULL FIRST;
+
+UPDATE blacklisted_token
+SET token_digest = UNHEX(SHA2(token, 256));
+
+ALTER TABLE blacklisted_token
+    DROP PRIMARY KEY,
+    DROP COLUMN token,
+    MODIFY COLUMN token_digest BINARY(32) NOT NULL,
+    ADD PRIMARY KEY (token_digest);
+
+ALTER TABLE refresh_token
+    ADD COLUMN token_digest BINARY(32) NULL AFTER expired_at;
+
+UPDATE refresh_token
+SET token_digest = UNHEX(SHA2(token, 256));
+
+ALTER TABLE refresh_token
+    DROP COLUMN token,
+    MODIFY COLUMN token_digest BINARY(32) NOT NULL;
@@ -13,4 +13,9 @@ public class MistralOcrAdapter implements OcrPort {
     public String requestOcr(String imageUrl) {
         return mistralOcrClient.requestOcr(imageUrl);
     }
+
+    @Override
+    public String requestOcr(String imageUrl, OcrPageListener pageListener) {
+        return mistralOcrClient.requestOcr(imageUrl, pageListener);
+    }
 }
@@ -1,6 +1,5 @@
 package org.veri.be.domain.image.client;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,52 +10,117 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
 
-import java.util.List;
+import java.io.InputStream;
 
 @Component
 public class MistralOcrClient {
 
+    private static final int DEFAULT_INITIAL_CAPACITY = 4 * 1024;
+    private static final long MAX_INITIAL_CAPACITY = 1024 * 1024;
+
     private final RestClient restClient;
+    private final ObjectMapper objectMapper;
     private final String mistralApiKey;
     private final String mistralOcrModel;
 
     public MistralOcrClient(
             RestClient.Builder restClientBuilder,
+            ObjectMapper objectMapper,
             @Value("${mistral.ocr.url}") String mistralApiUrl,
             @Value("${mistral.ocr.key}") String mistralApiKey,
             @Value("${mistral.ocr.model}") String mistralOcrModel
     ) {
         this.restClient = restClientBuilder.baseUrl(mistralApiUrl).build();
+        this.objectMapper = objectMapper;
         this.mistralApiKey = mistralApiKey;
         this.mistralOcrModel = mistralOcrModel;
     }
 
     public String requestOcr(String imageUrl) {
-        try {
-            MistralOcrRequest requestBody = MistralOcrRequest.builder()
-                    .model(mistralOcrModel)
-                    .document(new DocumentPayload(new ImageUrlPayload(imageUrl)))
-                    .build();
+        return requestOcr(imageUrl, OcrPageListener.NONE);
+    }
 
-            MistralOcrResponse response = restClient.post()
+    /**
+     * 응답 본문을 객체로 매핑하지 않고 스트리밍 파서로 읽으면서 페이지 markdown 을 하나의 버퍼에 이어 붙인다.
+     * 페이지가 하나 파싱될 때마다 pageListener 를 호출한다.
+     */
+    public String requestOcr(String imageUrl, OcrPageListener pageListener) {
+        MistralOcrRequest requestBody = MistralOcrRequest.builder()
+                .model(mistralOcrModel)
+                .document(new DocumentPayload(new ImageUrlPayload(imageUrl)))
+                .build();
+        try {
+            return restClient.post()
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + mistralApiKey)
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(requestBody)
-                    .retrieve()
-                    .body(MistralOcrResponse.class);
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new MistralOcrClientException("Mistral OCR request failed.");
+                        }
+                        return readPages(response.getBody(), response.getHeaders().getContentLength(), pageListener);
+                    });
+        } catch (RestClientException _) {
+            throw new MistralOcrClientException("Mistral OCR request failed.");
+        } catch (JacksonException _) {
+            throw new MistralOcrClientException("Failed to parse Mistral OCR response.");
+        }
+    }
+
+    private String readPages(InputStream body, long contentLength, OcrPageListener pageListener) {
+        // 본문 길이가 markdown 합의 상한이므로 알 수 있으면 그만큼 미리 잡는다.
+        int capacity = contentLength > 0 ? (int) Math.min(contentLength, MAX_INITIAL_CAPACITY) : DEFAULT_INITIAL_CAPACITY;
+        StringBuilder text = new StringBuilder(capacity);
+        int pageCount = 0;
 
-            if (response == null || response.pages == null || response.pages.isEmpty()) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
                 throw new MistralOcrClientException("Mistral OCR response is empty.");
             }
+            while (parser.nextToken() != JsonToken.END_OBJECT) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"pages".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    String markdown = readPage(parser, pageCount, pageListener);
+                    if (markdown != null) {
+                        text.append('\n').append(markdown);
+                    }
+                    pageCount++;
+                }
+            }
+        }
 
-            return response.pages.stream()
-                    .map(Page::getMarkdown)
-                    .reduce("", (acc, pageText) -> acc + "\n" + pageText)
-                    .trim();
-        } catch (RestClientException _) {
-            throw new MistralOcrClientException("Mistral OCR request failed.");
+        if (pageCount == 0) {
+            throw new MistralOcrClientException("Mistral OCR response is empty.");
         }
+        return text.toString().trim();
+    }
+
+    private static String readPage(JsonParser parser, int position, OcrPageListener pageListener) {
+        int index = position;
+        String markdown = null;
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "index" -> index = parser.getIntValue();
+                case "markdown" -> markdown = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        if (markdown != null) {
+            pageListener.onPage(index, markdown);
+        }
+        return markdown;
     }
 
     @Data
@@ -78,18 +142,4 @@ public class MistralOcrClient {
     private static class ImageUrlPayload {
         private String url;
     }
-
-    @Data
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class MistralOcrResponse {
-        private String model;
-        private List<Page> pages;
-    }
-
-    @Data
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class Page {
-        private int index;
-        private String markdown;
-    }
 }
@@ -8,16 +8,31 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.veri.be.global.storage.dto.PresignedPostFormResponse;
 import org.veri.be.global.storage.dto.PresignedUrlResponse;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Uri;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.Duration;
+import java.util.List;
+
+import static org.veri.be.global.storage.service.StorageConstants.MB;
 
 @Service
 public class AwsStorageService implements StorageService {
 
+    // 사용자가 넘긴 URL 로 서버 권한의 읽기를 하므로 OCR 업로드 경로만 허용한다.
+    private static final List<String> READABLE_PREFIXES = List.of("public/ocr/", "public/ocr-preprocessed/");
+    private static final long MAX_DOWNLOAD_BYTES = 10 * MB;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
@@ -88,6 +103,57 @@ public class AwsStorageService implements StorageService {
         return new PresignedPostFormResponse(presignedPostForm.url(), presignedPostForm.formFields());
     }
 
+    @Override
+    public boolean exists(String objectUrl) {
+        String key = readableKey(objectUrl);
+        try {
+            s3Client.headObject(b -> b.bucket(bucket).key(key));
+            return true;
+        } catch (NoSuchKeyException _) {
+            return false;
+        } catch (S3Exception e) {
+            // HEAD 응답에는 본문이 없어 없는 객체도 NoSuchKey 가 아닌 404 S3Exception 으로 올 수 있다.
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] download(String objectUrl) {
+        String key = readableKey(objectUrl);
+        try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(b -> b.bucket(bucket).key(key))) {
+            Long contentLength = object.response().contentLength();
+            if (contentLength != null && contentLength > MAX_DOWNLOAD_BYTES) {
+                object.abort();
+                throw new IllegalArgumentException("Object too large: " + contentLength + " bytes");
+            }
+            // Content-Length 가 없거나 틀려도 상한 이상은 읽지 않는다.
+            byte[] body = object.readNBytes((int) MAX_DOWNLOAD_BYTES + 1);
+            if (body.length > MAX_DOWNLOAD_BYTES) {
+                object.abort();
+                throw new IllegalArgumentException("Object too large: over " + MAX_DOWNLOAD_BYTES + " bytes");
+            }
+            return body;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 설정된 버킷의 OCR 업로드 경로에 있는 객체만 허용하고 그 키를 반환한다.
+     */
+    private String readableKey(String objectUrl) {
+        S3Uri uri = s3Client.utilities().parseUri(URI.create(objectUrl));
+        String key = uri.key().orElseThrow(() -> new IllegalArgumentException("Not an object URL: " + objectUrl));
+        if (!uri.bucket().map(bucket::equals).orElse(false)
+                || READABLE_PREFIXES.stream().noneMatch(key::startsWith)) {
+            throw new IllegalArgumentException("Object is not readable: " + objectUrl);
+        }
+        return key;
+    }
+
     private String getPublicUrl(String key) {
         // 주입받은 s3Client를 사용하여 URL을 생성합니다.
         return s3Client.utilities().getUrl(b -> b.bucket(bucket).key(key)).toString();
@@ -2,17 +2,26 @@ package org.veri.be.api.common;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.veri.be.global.auth.context.AuthenticatedMember;
 import org.veri.be.global.auth.context.CurrentMemberInfo;
 import org.veri.be.global.response.PageResponse;
+import org.veri.be.domain.image.dto.OcrBatchRequest;
+import org.veri.be.domain.image.dto.OcrBatchResponse;
+import org.veri.be.domain.image.dto.OcrJobResponse;
 import org.veri.be.domain.image.service.ImageCommandService;
 import org.veri.be.domain.image.service.ImageQueryService;
+import org.veri.be.domain.image.service.OcrBatchService;
+import org.veri.be.domain.image.service.OcrJobService;
 import org.veri.be.lib.response.ApiResponse;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -24,6 +33,8 @@ public class ImageController {
 
     private final ImageCommandService imageCmdService;
     private final ImageQueryService imageQueryService;
+    private final OcrJobService ocrJobService;
+    private final OcrBatchService ocrBatchService;
 
     @Operation(summary = "이미지 OCR 처리 및 저장", description = "이미지 URL을 받아 OCR을 수행하고 결과를 저장합니다.")
     @PostMapping("/v0/images/ocr")
@@ -44,14 +55,62 @@ public class ImageController {
         return ApiResponse.ok(imageCmdService.processWithMistral(memberInfo.id(), imageUrl));
     }
 
-    @Operation(summary = "업로드 이미지 목록 조회", description = "내가 업로드한 이미지 파일 목록을 페이지네이션으로 조회합니다.")
+    @Operation(summary = "여러 이미지 일괄 OCR",
+            description = "최대 20장의 이미지 URL 을 받아 병렬로 OCR 을 수행합니다. 결과는 입력 순서대로 반환하며 페이지별 성공/실패를 포함합니다.")
+    @PostMapping("/v1/images/ocr/batch")
+    public ApiResponse<OcrBatchResponse> extractTextFromImageUrls(
+            @RequestBody @Valid OcrBatchRequest request,
+            @AuthenticatedMember CurrentMemberInfo memberInfo
+    ) {
+        return ApiResponse.ok(ocrBatchService.extractAll(memberInfo.id(), request.imageUrls()));
+    }
+
+    @Operation(summary = "OCR 작업 등록",
+            description = "이미지 URL 로 OCR 작업을 등록하고 작업 ID 를 즉시 반환합니다. 결과는 작업 조회 또는 SSE 스트림으로 받습니다.")
+    @PostMapping("/v1/images/ocr/jobs")
+    public ApiResponse<OcrJobResponse> submitOcrJob(
+            @RequestParam("imageUrl") String imageUrl,
+            @AuthenticatedMember CurrentMemberInfo memberInfo
+    ) {
+        return ApiResponse.from(HttpStatus.ACCEPTED, ocrJobService.submit(memberInfo.id(), imageUrl));
+    }
+
+    @Operation(summary = "OCR 작업 조회", description = "OCR 작업의 상태와 결과를 조회합니다. (PENDING, RUNNING, SUCCEEDED, FAILED)")
+    @GetMapping("/v1/images/ocr/jobs/{jobId}")
+    public ApiResponse<OcrJobResponse> getOcrJob(
+            @PathVariable String jobId,
+            @AuthenticatedMember CurrentMemberInfo memberInfo
+    ) {
+        return ApiResponse.ok(ocrJobService.getJob(memberInfo.id(), jobId));
+    }
+
+    @Operation(summary = "OCR 작업 결과 스트림",
+            description = "현재 상태를 status 이벤트로 즉시 보내고, 작업이 끝나면 result 이벤트를 보낸 뒤 스트림을 닫습니다.")
+    @GetMapping(value = "/v1/images/ocr/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOcrJob(
+            @PathVariable String jobId,
+            @AuthenticatedMember CurrentMemberInfo memberInfo
+    ) {
+        return ocrJobService.subscribe(memberInfo.id(), jobId);
+    }
+
+    @Operation(summary = "업로드 이미지 목록 조회", description = """
+            내가 업로드한 이미지 파일 목록을 페이지네이션으로 조회합니다.
+            - slice=true 이면 전체 개수 조회 없이 hasNext 만 계산합니다. 전체 개수가 필요하면 withTotal=true 를 함께 전달합니다.
+            """)
     @GetMapping("/v0/images")
     public ApiResponse<PageResponse<List<String>>> getImageFiles(
             @RequestParam(defaultValue = "1") @Min(value = 1) int page,
             @RequestParam(defaultValue = "5") @Min(value = 1) int size,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @AuthenticatedMember CurrentMemberInfo memberInfo
     ) {
         Pageable pageable = PageRequest.of(page - 1, size); // 백 페이지네이션 시에는 1-based index 를 0으로 보정.
+        if (slice) {
+            Long total = withTotal ? imageQueryService.countUploadedImages(memberInfo.id()) : null;
+            return ApiResponse.ok(imageQueryService.fetchUploadedImageSlice(memberInfo.id(), pageable, total));
+        }
         return ApiResponse.ok(imageQueryService.fetchUploadedImages(memberInfo.id(), pageable));
     }
 }
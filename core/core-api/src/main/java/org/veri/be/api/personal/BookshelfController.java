@@ -6,6 +6,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.veri.be.domain.book.dto.book.AddBookRequest;
@@ -18,6 +19,7 @@ import org.veri.be.domain.book.dto.reading.response.ReadingListResponse;
 import org.veri.be.domain.book.dto.reading.response.ReadingResponse;
 import org.veri.be.domain.book.dto.reading.response.ReadingVisibilityUpdateResponse;
 import org.veri.be.domain.book.entity.Reading;
+import org.veri.be.domain.book.entity.enums.ReadingStatus;
 import org.veri.be.domain.book.service.BookService;
 import org.veri.be.domain.book.service.BookshelfService;
 import org.veri.be.domain.book.service.ReadingQueryService;
@@ -29,6 +31,9 @@ import org.veri.be.lib.exception.CommonErrorCode;
 import org.veri.be.lib.exception.ApplicationException;
 import org.veri.be.lib.response.ApiResponse;
 
+import java.util.List;
+import java.util.Map;
+
 @Tag(name = "책장")
 @RequestMapping("/api/v2/bookshelf")
 @RestController
@@ -47,6 +52,7 @@ public class BookshelfController {
                     - 정렬 기준은 'NEWEST', 'OLDEST', 'SCORE' 가 있습니다. (기본값 'NEWEST')
                     - 상태 목록으로 조회할 상태를 지정할 수 있습니다.
                     - 독서 상태는 'NOT_START', 'READING', 'DONE' 가 있습니다. (기본값 전체)
+                    - slice=true 이면 전체 개수 조회 없이 hasNext 만 계산합니다. 전체 개수가 필요하면 withTotal=true 를 함께 전달합니다.
                     """
     )
     @GetMapping("/my")
@@ -57,6 +63,15 @@ public class BookshelfController {
         if (request.getPage() < 1 || request.getSize() < 1) {
             throw ApplicationException.of(CommonErrorCode.INVALID_REQUEST);
         }
+        if (request.isSlice()) {
+            Slice<ReadingResponse> sliceData = readingQueryService.searchReadingSliceOfMember(
+                    memberInfo.id(),
+                    request.getStatuses(),
+                    request.getPage() - 1, request.getSize(), request.getSortType());
+            Long total = request.isWithTotal() ? countReadings(memberInfo.id(), request.getStatuses()) : null;
+
+            return ApiResponse.ok(ReadingListResponse.ofSlice(sliceData, total));
+        }
         Page<ReadingResponse> pageData = readingQueryService.searchAllReadingOfMember(
                 memberInfo.id(),
                 request.getStatuses(),
@@ -186,4 +201,11 @@ public class BookshelfController {
         return ApiResponse.noContent();
     }
 
+    private long countReadings(Long memberId, List<ReadingStatus> statuses) {
+        Map<ReadingStatus, Long> counts = readingQueryService.countReadingsByStatus(memberId);
+        return statuses.stream()
+                .distinct()
+                .mapToLong(status -> counts.getOrDefault(status, 0L))
+                .sum();
+    }
 }
@@ -56,18 +56,29 @@ public class CardController {
         return ApiResponse.ok(cardQueryService.getOwnedCardCount(memberInfo.id()));
     }
 
-    @Operation(summary = "내 카드 목록 조회", description = "로그인한 사용자의 카드 목록을 페이지네이션과 정렬 기준으로 조회합니다.")
+    @Operation(summary = "내 카드 목록 조회", description = """
+            로그인한 사용자의 카드 목록을 페이지네이션과 정렬 기준으로 조회합니다.
+            - slice=true 이면 전체 개수 조회 없이 hasNext 만 계산합니다. 전체 개수가 필요하면 withTotal=true 를 함께 전달합니다.
+            """)
     @GetMapping("/my")
     public ApiResponse<CardListResponse> getMyCards(
             @RequestParam(defaultValue = "1") @Min(1) int page,
             @RequestParam(defaultValue = "10") @Min(1) int size,
             @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @RequestParam(defaultValue = "false") boolean withTotal,
             @AuthenticatedMember CurrentMemberInfo memberInfo
     ) {
         if (page < 1 || size < 1) {
             throw ApplicationException.of(CommonErrorCode.INVALID_REQUEST);
         }
         CardSortType sortType = CardSortType.from(sort);
+        if (slice) {
+            Long total = withTotal ? (long) cardQueryService.getOwnedCardCount(memberInfo.id()) : null;
+            return ApiResponse.ok(CardListResponse.ofOwn(
+                    cardQueryService.getOwnedCardSlice(memberInfo.id(), page - 1, size, sortType), total)
+            );
+        }
         return ApiResponse.ok(CardListResponse.ofOwn(cardQueryService.getOwnedCards(memberInfo.id(), page - 1, size, sortType))
         );
     }
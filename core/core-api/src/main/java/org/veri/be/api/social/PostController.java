@@ -12,6 +12,7 @@ import org.veri.be.domain.post.controller.enums.PostSortType;
 import org.veri.be.domain.post.dto.request.PostCreateRequest;
 import org.veri.be.domain.post.dto.response.LikeInfoResponse;
 import org.veri.be.domain.post.dto.response.PostDetailResponse;
+import org.veri.be.domain.post.dto.response.PostFeedCursorResponse;
 import org.veri.be.domain.post.dto.response.PostFeedResponse;
 import org.veri.be.domain.post.dto.response.PostListResponse;
 import org.veri.be.domain.post.service.PostCommandService;
@@ -66,6 +67,17 @@ public class PostController {
         );
     }
 
+    @Operation(summary = "전체 게시글 커서 조회", description = "최신순 게시글 목록을 커서 기반으로 조회합니다. 전체 개수는 제공하지 않습니다.")
+    @GetMapping("/cursor")
+    public ApiResponse<PostFeedCursorResponse> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) int size
+    ) {
+        return ApiResponse.ok(
+                PostFeedCursorResponse.from(postQueryService.getPostFeedsByCursor(cursor, size))
+        );
+    }
+
     @GetMapping("/{postId}")
     @Operation(summary = "게시글 상세 조회", description = "게시글 ID로 게시글의 상세 정보를 조회합니다.")
     public ApiResponse<PostDetailResponse> getPostDetail(
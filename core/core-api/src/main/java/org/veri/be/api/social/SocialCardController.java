@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.veri.be.domain.card.controller.dto.response.CardFeedCursorResponse;
 import org.veri.be.domain.card.controller.dto.response.CardListResponse;
 import org.veri.be.domain.card.controller.dto.response.CardVisibilityUpdateResponse;
 import org.veri.be.domain.card.controller.enums.CardSortType;
@@ -37,6 +38,17 @@ public class SocialCardController {
         );
     }
 
+    @Operation(summary = "전체 카드 커서 조회", description = "최신순 공개 카드 목록을 커서 기반으로 조회합니다. 전체 개수는 제공하지 않습니다.")
+    @GetMapping("/cursor")
+    public ApiResponse<CardFeedCursorResponse> getCardsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) int size
+    ) {
+        return ApiResponse.ok(
+                CardFeedCursorResponse.from(cardQueryService.getAllCardsByCursor(cursor, size))
+        );
+    }
+
     @Operation(summary = "카드 공개 여부 수정", description = "독서가 비공개 상태라면 카드는 공개할 수 없습니다.")
     @PatchMapping("/{cardId}/visibility")
     public ApiResponse<CardVisibilityUpdateResponse> modifyVisibility(
@@ -0,0 +1,152 @@
+package org.veri.be.domain.auth.blacklist;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.veri.be.domain.auth.entity.BlacklistedToken;
+import org.veri.be.domain.auth.repository.BlacklistedTokenRepository;
+import org.veri.be.domain.auth.service.TokenBlacklistStore;
+import org.veri.be.domain.auth.service.TokenStorageService;
+import org.veri.be.lib.auth.jwt.TokenDigest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 블랙리스트 토큰을 메모리에 들고 있는 {@link TokenBlacklistStore}. 저장은 {@link TokenStorageService} 로 DB 에도 남긴다.
+ * <p>
+ * 조회는 Bloom filter 를 먼저 보고, 걸린 경우에만 digest → 만료 시각 맵을 확인하므로 블랙리스트가 아닌 대부분의 요청은 DB 를 거치지 않는다.
+ * 항목은 만료 시각 기준 시간 버킷에 묶어 두고 지난 버킷을 통째로 비운다.
+ * 다른 인스턴스에서 등록한 토큰은 기동 시점과 주기적인 동기화로 가져오므로, 기존 캐시 TTL 과 비슷하게 동기화 주기만큼 늦게 반영될 수 있다.
+ * 첫 동기화가 끝나기 전에는 DB 를 직접 조회한다.
+ */
+@Slf4j
+@Primary
+@Component
+public class InMemoryTokenBlacklistStore implements TokenBlacklistStore {
+
+    private final TokenStorageService tokenStorageService;
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final Clock clock;
+    private final int expectedInsertions;
+    private final long bucketMillis;
+
+    // 조회는 entries 와 filter 만 락 없이 읽는다. 쓰기(buckets 포함)와 filter 교체는 lock 으로 보호한다.
+    private final Object lock = new Object();
+    private final Map<TokenDigest, Long> entries = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, List<TokenDigest>> buckets = new TreeMap<>();
+    private volatile BloomFilter filter;
+    private volatile boolean loaded;
+
+    public InMemoryTokenBlacklistStore(
+            TokenStorageService tokenStorageService,
+            BlacklistedTokenRepository blacklistedTokenRepository,
+            Clock clock,
+            @Value("${auth.blacklist.expected-insertions:10000}") int expectedInsertions,
+            @Value("${auth.blacklist.bucket-seconds:60}") long bucketSeconds
+    ) {
+        this.tokenStorageService = tokenStorageService;
+        this.blacklistedTokenRepository = blacklistedTokenRepository;
+        this.clock = clock;
+        this.expectedInsertions = expectedInsertions;
+        this.bucketMillis = Math.max(1, bucketSeconds) * 1000;
+        this.filter = new BloomFilter(expectedInsertions);
+    }
+
+    @Override
+    public void addBlackList(String token, long expiredAtMillis) {
+        tokenStorageService.addBlackList(token, expiredAtMillis);
+        synchronized (lock) {
+            add(TokenDigest.of(token), clock.millis() + expiredAtMillis);
+            if (entries.size() > filter.capacity()) {
+                filter = rebuildFilter();
+            }
+        }
+    }
+
+    @Override
+    public boolean isBlackList(String token) {
+        if (token == null) {
+            return false;
+        }
+        if (!loaded) {
+            return tokenStorageService.isBlackList(token);
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        if (!filter.mightContain(digest)) {
+            return false;
+        }
+        Long expiresAt = entries.get(digest);
+        return expiresAt != null && expiresAt > clock.millis();
+    }
+
+    /**
+     * DB 의 만료되지 않은 블랙리스트를 합치고, 만료된 항목을 비운 뒤 filter 를 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${auth.blacklist.sync-interval-ms:30000}",
+            fixedDelayString = "${auth.blacklist.sync-interval-ms:30000}"
+    )
+    public void reload() {
+        List<BlacklistedToken> persisted;
+        try {
+            persisted = blacklistedTokenRepository.findAllByExpiredAtAfter(Instant.now(clock));
+        } catch (RuntimeException e) {
+            log.warn("Failed to load token blacklist. Keeping current state.", e);
+            return;
+        }
+
+        synchronized (lock) {
+            for (BlacklistedToken row : persisted) {
+                add(new TokenDigest(row.getTokenDigest()), row.getExpiredAt().toEpochMilli());
+            }
+            purgeExpired(clock.millis());
+            filter = rebuildFilter();
+            loaded = true;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // filter 보다 맵에 먼저 넣어야 filter 를 통과한 조회가 항목을 놓치지 않는다.
+    private void add(TokenDigest digest, long expiresAt) {
+        Long previous = entries.get(digest);
+        if (previous != null && previous >= expiresAt) {
+            return;
+        }
+        entries.put(digest, expiresAt);
+        buckets.computeIfAbsent(expiresAt / bucketMillis, ignored -> new ArrayList<>()).add(digest);
+        filter.put(digest);
+    }
+
+    // 현재 버킷보다 앞선 버킷은 모두 만료됐다. 더 늦은 만료 시각으로 다시 등록된 digest 는 남긴다.
+    private void purgeExpired(long now) {
+        Iterator<List<TokenDigest>> expired = buckets.headMap(now / bucketMillis, false).values().iterator();
+        while (expired.hasNext()) {
+            for (TokenDigest digest : expired.next()) {
+                entries.computeIfPresent(digest, (ignored, expiresAt) -> expiresAt <= now ? null : expiresAt);
+            }
+            expired.remove();
+        }
+    }
+
+    private BloomFilter rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, entries.size() * 2));
+        entries.keySet().forEach(rebuilt::put);
+        return rebuilt;
+    }
+}
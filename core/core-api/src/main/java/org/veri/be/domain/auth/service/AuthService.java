@@ -56,8 +56,7 @@ public class AuthService implements Authenticator {
         Object rawId = tokenProvider.parseRefreshToken(refreshToken).get("id");
         Long id = rawId == null ? null : ((Number) rawId).longValue();
 
-        String storedToken = tokenStorageService.getRefreshToken(id);
-        if (storedToken == null || !storedToken.equals(refreshToken)) {
+        if (!tokenStorageService.matchesRefreshToken(id, refreshToken)) {
             throw ApplicationException.of(AuthErrorInfo.UNAUTHORIZED);
         }
 
@@ -74,7 +73,7 @@ public class AuthService implements Authenticator {
     public void logout(String accessToken) {
         Object rawId = tokenProvider.parseAccessToken(accessToken).get("id");
         Long id = rawId == null ? null : ((Number) rawId).longValue();
-        String refreshToken = tokenStorageService.getRefreshToken(id);
+        // 리프레시 토큰은 저장된 digest 를 지우면 재발급에 쓸 수 없으므로 따로 블랙리스트에 올리지 않는다.
         tokenStorageService.deleteRefreshToken(id);
 
         // access token 만료시간 계산
@@ -85,16 +84,6 @@ public class AuthService implements Authenticator {
         if (accessRemainMs > 0) {
             tokenBlacklistStore.addBlackList(accessToken, accessRemainMs);
         }
-
-        // refresh token이 존재하면 만료시간 계산 후 블랙리스트 등록
-        if (refreshToken != null) {
-            java.util.Date refreshExpDate = tokenProvider.parseRefreshToken(refreshToken).getExpiration();
-            java.time.Instant refreshExp = refreshExpDate != null ? refreshExpDate.toInstant() : null;
-            long refreshRemainMs = (refreshExp != null) ? refreshExp.toEpochMilli() - now : 0L;
-            if (refreshRemainMs > 0) {
-                tokenBlacklistStore.addBlackList(refreshToken, refreshRemainMs);
-            }
-        }
     }
 
     public LoginResponse loginWithOAuth2(OAuth2UserInfo userInfo) {
@@ -1,18 +1,20 @@
 package org.veri.be.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.veri.be.domain.auth.entity.BlacklistedToken;
 import org.veri.be.domain.auth.entity.RefreshToken;
 import org.veri.be.domain.auth.repository.BlacklistedTokenRepository;
 import org.veri.be.domain.auth.repository.RefreshTokenRepository;
-import org.veri.be.global.cache.CacheConfig;
+import org.veri.be.lib.auth.jwt.TokenDigest;
 
+import java.security.MessageDigest;
 import java.time.Clock;
 import java.time.Instant;
 
+/**
+ * 리프레시 토큰과 블랙리스트 토큰 저장소. 토큰 원문 대신 SHA-256 digest 만 저장한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class TokenStorageService implements TokenBlacklistStore {
@@ -25,18 +27,17 @@ public class TokenStorageService implements TokenBlacklistStore {
         refreshTokenRepository.save(
                 RefreshToken.builder()
                         .userId(id)
-                        .token(refresh)
+                        .tokenDigest(TokenDigest.of(refresh).value())
                         .expiredAt(Instant.now(clock).plusMillis(expiredAt))
                         .build()
         );
     }
 
     @Override
-    @CacheEvict(cacheNames = CacheConfig.TOKEN_BLACKLIST, key = "#token", condition = "#token != null")
     public void addBlackList(String token, long expiredAt) {
         blacklistedTokenRepository.save(
                 BlacklistedToken.builder()
-                        .token(token)
+                        .tokenDigest(TokenDigest.of(token).value())
                         .expiredAt(Instant.now(clock).plusMillis(expiredAt))
                         .build()
         );
@@ -47,25 +48,24 @@ public class TokenStorageService implements TokenBlacklistStore {
     }
 
     @Override
-    @Cacheable(
-            cacheNames = CacheConfig.TOKEN_BLACKLIST,
-            key = "#token",
-            condition = "#token != null"
-    )
     public boolean isBlackList(String token) {
         if (token == null) {
             return false;
         }
 
-        return blacklistedTokenRepository.findById(token)
+        return blacklistedTokenRepository.findById(TokenDigest.of(token).value())
                 .map(b -> b.getExpiredAt().isAfter(Instant.now(clock)))
                 .orElse(false);
     }
 
-    public String getRefreshToken(Long id) {
+    /**
+     * 원문은 저장하지 않으므로 꺼내 주는 대신, 만료되지 않은 저장 토큰과 같은지만 확인한다.
+     */
+    public boolean matchesRefreshToken(Long id, String refresh) {
+        byte[] digest = TokenDigest.of(refresh).value();
         return refreshTokenRepository.findById(id)
                 .filter(r -> r.getExpiredAt().isAfter(Instant.now(clock)))
-                .map(RefreshToken::getToken)
-                .orElse(null);
+                .map(r -> MessageDigest.isEqual(r.getTokenDigest(), digest))
+                .orElse(false);
     }
 }
@@ -0,0 +1,135 @@
+package org.veri.be.domain.book.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.veri.be.domain.book.dto.book.NaverBookResponse;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 도서 검색 앞단 캐시.
+ * <p>
+ * 정규화한 (검색어, page, size) 단위로 결과를 TTL 동안 보관하고, 결과가 없는 검색은 더 짧은 TTL 로 보관한다.
+ * 정규화는 키에만 쓰고, 외부 API 에는 앞뒤 공백만 제거한 원래 검색어를 보낸다.
+ * 같은 키로 동시에 들어온 요청은 먼저 들어온 한 건만 외부 API 를 호출하고 나머지는 그 결과를 기다린다.
+ */
+@Component
+public class BookSearchCache {
+
+    private final BookSearchClient bookSearchClient;
+    private final Cache<SearchKey, NaverBookResponse> hits;
+    private final Cache<SearchKey, NaverBookResponse> misses;
+    private final ConcurrentMap<SearchKey, CompletableFuture<NaverBookResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter upstreamCalls;
+    private final Counter coalescedCalls;
+
+    public BookSearchCache(
+            BookSearchClient bookSearchClient,
+            MeterRegistry meterRegistry,
+            @Value("${book.search.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${book.search.cache.negative-ttl-seconds:60}") long negativeTtlSeconds,
+            @Value("${book.search.cache.maximum-size:2000}") long maximumSize
+    ) {
+        this.bookSearchClient = bookSearchClient;
+        this.hits = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.misses = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, hits, "bookSearch");
+        CaffeineCacheMetrics.monitor(meterRegistry, misses, "bookSearchEmpty");
+        this.upstreamCalls = Counter.builder("book.search.upstream.calls")
+                .description("외부 도서 검색 API 호출 수")
+                .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("book.search.coalesced")
+                .description("진행 중인 동일 검색에 합류한 요청 수")
+                .register(meterRegistry);
+    }
+
+    public NaverBookResponse search(String query, int page, int size) {
+        SearchKey key = SearchKey.of(query, page, size);
+        NaverBookResponse cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<NaverBookResponse> mine = new CompletableFuture<>();
+        CompletableFuture<NaverBookResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalescedCalls.increment();
+            return await(running);
+        }
+
+        try {
+            // 조회와 등록 사이에 다른 요청이 먼저 끝났을 수 있다.
+            NaverBookResponse response = lookup(key);
+            if (response == null) {
+                upstreamCalls.increment();
+                response = bookSearchClient.search(query == null ? "" : query.strip(), page, size);
+                store(key, response);
+            }
+            mine.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // Error 로 끝나도 합류한 요청이 기다리지 않도록 완료시킨다.
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private NaverBookResponse lookup(SearchKey key) {
+        NaverBookResponse hit = hits.getIfPresent(key);
+        return hit != null ? hit : misses.getIfPresent(key);
+    }
+
+    private void store(SearchKey key, NaverBookResponse response) {
+        if (response == null) {
+            return;
+        }
+        if (response.getItems() == null || response.getItems().isEmpty()) {
+            misses.put(key, response);
+        } else {
+            hits.put(key, response);
+        }
+    }
+
+    private static NaverBookResponse await(CompletableFuture<NaverBookResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 선행 요청의 예외를 그대로 전달해 호출 측의 예외 처리(NaverClientException 등)가 동일하게 동작하도록 한다.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    record SearchKey(String query, int page, int size) {
+
+        static SearchKey of(String query, int page, int size) {
+            String normalized = query == null ? "" : query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            return new SearchKey(normalized, page, size);
+        }
+    }
+}
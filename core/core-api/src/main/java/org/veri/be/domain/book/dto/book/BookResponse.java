@@ -3,6 +3,7 @@ package org.veri.be.domain.book.dto.book;
 import lombok.Builder;
 import lombok.Getter;
 import org.veri.be.domain.book.entity.Book;
+import org.veri.be.domain.book.repository.dto.BookSummaryQueryResult;
 
 @Getter
 @Builder
@@ -26,6 +27,19 @@ public class BookResponse {
                 .build();
     }
 
+    public static BookResponse from(BookSummaryQueryResult book) {
+        if (book == null) {
+            return null;
+        }
+        return BookResponse.builder()
+                .title(book.title())
+                .author(book.author())
+                .imageUrl(book.image())
+                .publisher(book.publisher())
+                .isbn(book.isbn())
+                .build();
+    }
+
     public static BookResponse from(NaverBookItem response) {
         return BookResponse.builder()
                 .author(response.getAuthor())
@@ -20,4 +20,8 @@ public class ReadingPageRequest {
     private List<ReadingStatus> statuses = List.of(ReadingStatus.values()); // all
 
     private ReadingSortType sortType = ReadingSortType.NEWEST;
+
+    private boolean slice = false; // true 이면 COUNT 없이 hasNext 만 계산
+
+    private boolean withTotal = false; // 슬라이스 모드에서 전체 개수를 함께 받을지 여부
 }
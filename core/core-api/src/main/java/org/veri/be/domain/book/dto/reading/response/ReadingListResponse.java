@@ -1,6 +1,8 @@
 package org.veri.be.domain.book.dto.reading.response;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.veri.be.global.response.PageResponse;
 
 import java.util.List;
 
@@ -8,8 +10,9 @@ public record ReadingListResponse(
         List<ReadingResponse> memberBooks,
         int page,
         int size,
-        long totalElements,
-        int totalPages
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext
 ) {
     public ReadingListResponse(Page<ReadingResponse> pageData) {
         this(
@@ -17,7 +20,22 @@ public record ReadingListResponse(
                 pageData.getNumber() + 1,
                 pageData.getSize(),
                 pageData.getTotalElements(),
-                pageData.getTotalPages()
+                pageData.getTotalPages(),
+                pageData.hasNext()
+        );
+    }
+
+    /**
+     * COUNT 없이 조회한 슬라이스 응답. totalElements 가 null 이면 전체 개수 필드도 비워 둔다.
+     */
+    public static ReadingListResponse ofSlice(Slice<ReadingResponse> sliceData, Long totalElements) {
+        return new ReadingListResponse(
+                sliceData.getContent(),
+                sliceData.getNumber() + 1,
+                sliceData.getSize(),
+                totalElements,
+                PageResponse.totalPages(totalElements, sliceData.getSize()),
+                sliceData.hasNext()
         );
     }
 }
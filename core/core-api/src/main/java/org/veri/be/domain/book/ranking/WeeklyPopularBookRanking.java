@@ -0,0 +1,254 @@
+package org.veri.be.domain.book.ranking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.veri.be.domain.book.dto.book.BookPopularResponse;
+import org.veri.be.domain.book.entity.Book;
+import org.veri.be.domain.book.repository.ReadingRepository;
+import org.veri.be.domain.book.repository.dto.BookWeeklyCountQueryResult;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이번 주(월요일 시작) 책장에 추가된 횟수 기준 인기 도서 랭킹.
+ * <p>
+ * 책장 추가/삭제가 커밋될 때 증감을 반영하고, 조회는 미리 만들어 둔 상위 K개 스냅샷을 그대로 반환하므로 DB 를 거치지 않는다.
+ * 다른 인스턴스의 변경이나 회원 탈퇴 등으로 생기는 오차는 기동 시점과 주기적인 재구성으로 맞춘다.
+ * <p>
+ * 재구성 중 들어온 증감은 따로 모아 두었다가 집계로 교체한 뒤 다시 반영한다.
+ * 재구성을 시작한 직후부터 집계 쿼리가 읽기 시작하기 전까지 커밋된 변경은 두 번 반영될 수 있으며, 다음 재구성에서 맞춰진다.
+ */
+@Slf4j
+@Component
+public class WeeklyPopularBookRanking {
+
+    public static final int SNAPSHOT_SIZE = 50;
+
+    // 추가 횟수 내림차순, 동률이면 먼저 등록된 책(id 오름차순) 우선
+    private static final Comparator<Entry> RANK_ORDER = Comparator
+            .comparingLong(Entry::count).reversed()
+            .thenComparing(Entry::bookId);
+
+    private final ReadingRepository readingRepository;
+    private final Clock clock;
+
+    // entries, ranks, week, recordedDuringRebuild 는 lock 으로 보호한다. 조회는 불변 스냅샷만 읽는다.
+    private final Object lock = new Object();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> ranks = new TreeSet<>(RANK_ORDER);
+    private LocalDate week;
+    private List<Delta> recordedDuringRebuild;
+    private volatile Snapshot snapshot;
+
+    // 재구성 중 기록을 한 곳에 모으므로 재구성은 한 번에 하나만 실행한다.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public WeeklyPopularBookRanking(ReadingRepository readingRepository, Clock clock) {
+        this.readingRepository = readingRepository;
+        this.clock = clock;
+        this.week = currentWeek();
+        this.snapshot = new Snapshot(week, List.of(), 0);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 해당 책의 추가 횟수를 1 올린다.
+     */
+    public void recordAddedAfterCommit(Book book) {
+        Long bookId = book.getId();
+        BookPopularResponse summary = BookPopularResponse.from(book);
+        afterCommit(() -> apply(bookId, summary, 1L));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤, 이번 주에 추가된 독서였다면 해당 책의 추가 횟수를 1 내린다.
+     */
+    public void recordRemovedAfterCommit(Long bookId, LocalDateTime readingCreatedAt) {
+        afterCommit(() -> {
+            if (readingCreatedAt != null && weekOf(readingCreatedAt).equals(currentWeek())) {
+                apply(bookId, null, -1L);
+            }
+        });
+    }
+
+    /**
+     * 상위 limit 개를 반환한다. limit 이 스냅샷 크기 이내면 O(limit) 으로 스냅샷에서 잘라 준다.
+     */
+    public List<BookPopularResponse> top(int limit) {
+        Snapshot current = snapshot;
+        if (!current.week().equals(currentWeek())) {
+            synchronized (lock) {
+                rollOverIfNeeded();
+                current = snapshot;
+            }
+        }
+        if (limit <= current.books().size() || current.ranked() <= current.books().size()) {
+            return current.books().subList(0, Math.min(limit, current.books().size()));
+        }
+        synchronized (lock) {
+            return collect(limit);
+        }
+    }
+
+    /**
+     * 랭킹에 올라 있는 책의 수.
+     */
+    public int size() {
+        return snapshot.ranked();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${book.popular.rebuild-interval-ms:600000}",
+            fixedDelayString = "${book.popular.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            replaceWithDatabaseCounts();
+        } finally {
+            synchronized (lock) {
+                recordedDuringRebuild = null;
+            }
+            rebuildLock.unlock();
+        }
+    }
+
+    private void replaceWithDatabaseCounts() {
+        LocalDate targetWeek = currentWeek();
+        LocalDateTime startOfWeek = targetWeek.atStartOfDay();
+        synchronized (lock) {
+            recordedDuringRebuild = new ArrayList<>();
+        }
+        List<BookWeeklyCountQueryResult> counts;
+        try {
+            counts = readingRepository.countBooksAddedBetween(startOfWeek, startOfWeek.plusWeeks(1));
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild weekly popular book ranking. Keeping current state.", e);
+            return;
+        }
+
+        synchronized (lock) {
+            week = targetWeek;
+            entries.clear();
+            ranks.clear();
+            for (BookWeeklyCountQueryResult count : counts) {
+                Entry entry = new Entry(
+                        count.bookId(),
+                        new BookPopularResponse(count.image(), count.title(), count.author(), count.publisher(), count.isbn()),
+                        count.count()
+                );
+                entries.put(entry.bookId(), entry);
+                ranks.add(entry);
+            }
+            // 집계 쿼리가 보지 못했을 수 있는 변경을 다시 반영한다.
+            rollOverIfNeeded();
+            for (Delta recorded : recordedDuringRebuild) {
+                update(recorded.bookId(), recorded.summary(), recorded.delta());
+            }
+            publish();
+        }
+    }
+
+    private void apply(Long bookId, BookPopularResponse summary, long delta) {
+        synchronized (lock) {
+            if (recordedDuringRebuild != null) {
+                recordedDuringRebuild.add(new Delta(bookId, summary, delta));
+            }
+            rollOverIfNeeded();
+            if (update(bookId, summary, delta)) {
+                publish();
+            }
+        }
+    }
+
+    private boolean update(Long bookId, BookPopularResponse summary, long delta) {
+        Entry previous = entries.get(bookId);
+        if (previous == null && (delta < 0 || summary == null)) {
+            return false;
+        }
+        if (previous != null) {
+            ranks.remove(previous);
+        }
+        long count = (previous == null ? 0L : previous.count()) + delta;
+        if (count <= 0) {
+            entries.remove(bookId);
+        } else {
+            Entry updated = new Entry(bookId, previous == null ? summary : previous.book(), count);
+            entries.put(bookId, updated);
+            ranks.add(updated);
+        }
+        return true;
+    }
+
+    private void rollOverIfNeeded() {
+        LocalDate now = currentWeek();
+        if (!now.equals(week)) {
+            week = now;
+            entries.clear();
+            ranks.clear();
+            publish();
+        }
+    }
+
+    private void publish() {
+        snapshot = new Snapshot(week, collect(SNAPSHOT_SIZE), ranks.size());
+    }
+
+    private List<BookPopularResponse> collect(int limit) {
+        List<BookPopularResponse> books = new ArrayList<>(Math.min(limit, ranks.size()));
+        Iterator<Entry> iterator = ranks.iterator();
+        while (iterator.hasNext() && books.size() < limit) {
+            books.add(iterator.next().book());
+        }
+        return List.copyOf(books);
+    }
+
+    private LocalDate currentWeek() {
+        return weekOf(LocalDateTime.now(clock));
+    }
+
+    private static LocalDate weekOf(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().with(DayOfWeek.MONDAY);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Entry(Long bookId, BookPopularResponse book, long count) {
+    }
+
+    private record Delta(Long bookId, BookPopularResponse summary, long delta) {
+    }
+
+    private record Snapshot(LocalDate week, List<BookPopularResponse> books, int ranked) {
+    }
+}
@@ -1,7 +1,7 @@
 package org.veri.be.domain.book.service;
 
 import lombok.RequiredArgsConstructor;
-import org.veri.be.domain.book.client.BookSearchClient;
+import org.veri.be.domain.book.client.BookSearchCache;
 import org.veri.be.domain.book.client.NaverClientException;
 import org.veri.be.domain.book.dto.book.BookSearchResponse;
 import org.veri.be.domain.book.entity.Book;
@@ -19,7 +19,7 @@ import java.util.Optional;
 public class BookService {
 
     private final BookRepository bookRepository;
-    private final BookSearchClient bookSearchClient;
+    private final BookSearchCache bookSearchCache;
 
     public Long addBook(String title, String image, String author, String publisher, String isbn) {
 
@@ -41,11 +41,11 @@ public class BookService {
     }
 
     /**
-     * Naver OpenAPI 활용해 책의 정보를 보여주는 메서드
+     * Naver OpenAPI 활용해 책의 정보를 보여주는 메서드. 동일 검색은 캐시에서 응답한다.
      */
     public BookSearchResponse searchBook(String query, int page, int size) {
         try {
-            return BookSearchResponse.from(bookSearchClient.search(query, page, size));
+            return BookSearchResponse.from(bookSearchCache.search(query, page, size));
         } catch (NaverClientException _) {
             throw ApplicationException.of(BookErrorCode.BAD_REQUEST);
         }
@@ -1,16 +1,20 @@
 package org.veri.be.domain.book.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.veri.be.domain.book.dto.reading.response.ReadingVisibilityUpdateResponse;
 import org.veri.be.domain.book.entity.Book;
 import org.veri.be.domain.book.entity.Reading;
 import org.veri.be.domain.book.exception.BookErrorCode;
+import org.veri.be.domain.book.ranking.WeeklyPopularBookRanking;
 import org.veri.be.domain.book.repository.BookRepository;
 import org.veri.be.domain.book.repository.ReadingRepository;
 import org.veri.be.domain.member.entity.Member;
 import org.veri.be.domain.member.repository.MemberRepository;
+import org.veri.be.global.cache.CacheConfig;
 import org.veri.be.lib.exception.ApplicationException;
 import org.veri.be.lib.exception.CommonErrorCode;
 
@@ -30,7 +34,9 @@ public class BookshelfService {
     private final BookRepository bookRepository;
     private final MemberRepository memberRepository;
     private final Clock clock;
+    private final WeeklyPopularBookRanking weeklyPopularBookRanking;
 
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_READING_COUNTS, key = "#memberId")
     @Transactional
     public Reading addToBookshelf(Long memberId, Long bookId, boolean isPublic) {
         Book book = bookRepository.findById(bookId)
@@ -54,9 +60,12 @@ public class BookshelfService {
                 .isPublic(isPublic)
                 .build();
 
-        return readingRepository.save(reading);
+        Reading saved = readingRepository.save(reading);
+        weeklyPopularBookRanking.recordAddedAfterCommit(book);
+        return saved;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_READING_COUNTS, key = "#memberId")
     @Transactional
     public void modifyBook(Long memberId, Double score, LocalDateTime startedAt, LocalDateTime endedAt, Long memberBookId) {
         Reading reading = getReadingById(memberBookId);
@@ -75,6 +84,7 @@ public class BookshelfService {
         readingRepository.save(reading);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_READING_COUNTS, key = "#memberId")
     @Transactional
     public void readStart(Long memberId, Long memberBookId) {
         Reading reading = getReadingById(memberBookId);
@@ -84,6 +94,7 @@ public class BookshelfService {
         readingRepository.save(reading);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_READING_COUNTS, key = "#memberId")
     @Transactional
     public void readOver(Long memberId, Long memberBookId) {
         Reading reading = getReadingById(memberBookId);
@@ -93,14 +104,20 @@ public class BookshelfService {
         readingRepository.save(reading);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CARD_FEED, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_READING_COUNTS, key = "#memberId")
+    })
     @Transactional
     public void deleteBook(Long memberId, Long memberBookId) {
         Reading reading = getReadingById(memberBookId);
         reading.authorizeOrThrow(memberId);
 
         readingRepository.delete(reading);
+        weeklyPopularBookRanking.recordRemovedAfterCommit(reading.getBook().getId(), reading.getCreatedAt());
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CARD_FEED, allEntries = true)
     @Transactional
     public ReadingVisibilityUpdateResponse modifyVisibility(Long memberId, Long readingId, boolean isPublic) {
         Reading reading = getReadingById(readingId);
@@ -1,10 +1,14 @@
 package org.veri.be.domain.book.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.veri.be.domain.book.controller.enums.ReadingSortType;
 import org.veri.be.domain.book.dto.book.BookPopularResponse;
@@ -13,18 +17,20 @@ import org.veri.be.domain.book.dto.reading.response.ReadingResponse;
 import org.veri.be.domain.book.entity.Reading;
 import org.veri.be.domain.book.entity.enums.ReadingStatus;
 import org.veri.be.domain.book.exception.BookErrorCode;
+import org.veri.be.domain.book.ranking.WeeklyPopularBookRanking;
 import org.veri.be.domain.book.repository.ReadingRepository;
-import org.veri.be.domain.book.repository.dto.BookPopularQueryResult;
 import org.veri.be.domain.book.repository.dto.ReadingQueryResult;
+import org.veri.be.domain.book.repository.dto.ReadingStatusCountQueryResult;
 import org.veri.be.global.auth.context.CurrentMemberAccessor;
 import org.veri.be.global.auth.context.CurrentMemberInfo;
+import org.veri.be.global.cache.CacheConfig;
 import org.veri.be.lib.exception.ApplicationException;
 import org.veri.be.lib.exception.CommonErrorCode;
 
-import java.time.Clock;
-import java.time.DayOfWeek;
-import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.veri.be.domain.book.entity.enums.ReadingStatus.DONE;
@@ -36,7 +42,7 @@ public class ReadingQueryService {
 
     private final ReadingRepository readingRepository;
     private final CurrentMemberAccessor currentMemberAccessor;
-    private final Clock clock;
+    private final WeeklyPopularBookRanking weeklyPopularBookRanking;
 
 
     @Transactional(readOnly = true)
@@ -54,6 +60,34 @@ public class ReadingQueryService {
         ).map(this::toReadingResponse);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<ReadingResponse> searchReadingSliceOfMember(
+            Long memberId,
+            List<ReadingStatus> statuses,
+            int page, int size, ReadingSortType sortType
+    ) {
+        Pageable pageRequest = PageRequest.of(page, size, sortType.getSort());
+
+        return readingRepository.findReadingSlice(
+                memberId,
+                statuses,
+                pageRequest
+        ).map(this::toReadingResponse);
+    }
+
+    /**
+     * 회원의 독서 상태별 개수. 상태 필터 조합과 무관하게 회원 단위로 캐싱하고 독서 변경 시 해당 회원만 무효화한다.
+     */
+    @Cacheable(cacheNames = CacheConfig.MEMBER_READING_COUNTS, key = "#memberId")
+    @Transactional(readOnly = true)
+    public Map<ReadingStatus, Long> countReadingsByStatus(Long memberId) {
+        Map<ReadingStatus, Long> counts = new EnumMap<>(ReadingStatus.class);
+        for (ReadingStatusCountQueryResult result : readingRepository.countGroupByStatus(memberId)) {
+            counts.put(result.status(), result.count());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
     @Transactional(readOnly = true)
     public ReadingDetailResponse searchDetail(Long memberBookId) {
         Reading reading = readingRepository.findByIdWithCardsAndBook(memberBookId)
@@ -67,16 +101,14 @@ public class ReadingQueryService {
         return ReadingDetailResponse.from(reading, memberInfo);
     }
 
-    @Transactional(readOnly = true)
+    // 메모리 랭킹만 읽으므로 커넥션을 잡지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<BookPopularResponse> searchWeeklyPopular(int page, int size) {
-        LocalDateTime now = LocalDateTime.now(clock);
-        LocalDateTime startOfWeek = now.with(DayOfWeek.MONDAY).toLocalDate().atStartOfDay();
-        LocalDateTime startOfNextWeek = startOfWeek.plusWeeks(1);
-
         Pageable pageRequest = PageRequest.of(page, size);
+        List<BookPopularResponse> ranked = weeklyPopularBookRanking.top((int) pageRequest.getOffset() + size);
+        int from = (int) Math.min(pageRequest.getOffset(), ranked.size());
 
-        return readingRepository.findMostPopularBook(startOfWeek, startOfNextWeek, pageRequest)
-                .map(this::toBookPopularResponse);
+        return new PageImpl<>(ranked.subList(from, ranked.size()), pageRequest, weeklyPopularBookRanking.size());
     }
 
     @Transactional(readOnly = true)
@@ -105,14 +137,4 @@ public class ReadingQueryService {
                 result.isPublic()
         );
     }
-
-    private BookPopularResponse toBookPopularResponse(BookPopularQueryResult result) {
-        return new BookPopularResponse(
-                result.image(),
-                result.title(),
-                result.author(),
-                result.publisher(),
-                result.isbn()
-        );
-    }
 }
@@ -0,0 +1,24 @@
+package org.veri.be.domain.card.controller.dto.response;
+
+import org.springframework.data.domain.Slice;
+import org.veri.be.domain.card.repository.dto.CardFeedItem;
+import org.veri.be.global.response.FeedCursor;
+
+import java.util.List;
+
+public record CardFeedCursorResponse(
+        List<CardFeedItem> cards,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static CardFeedCursorResponse from(Slice<CardFeedItem> slice) {
+        List<CardFeedItem> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            CardFeedItem last = content.getLast();
+            nextCursor = FeedCursor.of(last.created(), last.cardId()).encode();
+        }
+        return new CardFeedCursorResponse(content, slice.getSize(), slice.hasNext(), nextCursor);
+    }
+}
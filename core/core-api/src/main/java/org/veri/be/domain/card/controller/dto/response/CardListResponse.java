@@ -1,9 +1,11 @@
 package org.veri.be.domain.card.controller.dto.response;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.veri.be.domain.card.repository.dto.CardFeedItem;
 import org.veri.be.domain.card.repository.dto.CardListItem;
 import org.veri.be.domain.member.repository.dto.MemberProfileQueryResult;
+import org.veri.be.global.response.PageResponse;
 
 import java.util.List;
 
@@ -11,8 +13,9 @@ public record CardListResponse(
         List<CardFeedItem> cards,
         int page,
         int size,
-        long totalElements,
-        int totalPages
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext
 ) {
     public CardListResponse(Page<CardFeedItem> pageData) {
         this(
@@ -20,27 +23,47 @@ public record CardListResponse(
                 pageData.getNumber() + 1, // 페이지 번호는 0부터 시작하므로 +1
                 pageData.getSize(),
                 pageData.getTotalElements(),
-                pageData.getTotalPages()
+                pageData.getTotalPages(),
+                pageData.hasNext()
         );
     }
 
     public static CardListResponse ofOwn(Page<CardListItem> pageData) {
         return new CardListResponse(
-                pageData.getContent().stream()
-                        .map(card -> new CardFeedItem(
-                                card.getCardId(),
-                                (MemberProfileQueryResult) null, // 소유자의 프로필 정보는 필요하지 않음
-                                card.getBookTitle(),
-                                card.getContent(),
-                                card.getImage(),
-                                card.getCreated(),
-                                card.isPublic()
-                        ))
-                        .toList(),
+                toOwnItems(pageData.getContent()),
                 pageData.getNumber() + 1,
                 pageData.getSize(),
                 pageData.getTotalElements(),
-                pageData.getTotalPages()
+                pageData.getTotalPages(),
+                pageData.hasNext()
         );
     }
+
+    /**
+     * COUNT 없이 조회한 내 카드 슬라이스 응답. totalElements 가 null 이면 전체 개수 필드도 비워 둔다.
+     */
+    public static CardListResponse ofOwn(Slice<CardListItem> sliceData, Long totalElements) {
+        return new CardListResponse(
+                toOwnItems(sliceData.getContent()),
+                sliceData.getNumber() + 1,
+                sliceData.getSize(),
+                totalElements,
+                PageResponse.totalPages(totalElements, sliceData.getSize()),
+                sliceData.hasNext()
+        );
+    }
+
+    private static List<CardFeedItem> toOwnItems(List<CardListItem> items) {
+        return items.stream()
+                .map(card -> new CardFeedItem(
+                        card.getCardId(),
+                        (MemberProfileQueryResult) null, // 소유자의 프로필 정보는 필요하지 않음
+                        card.getBookTitle(),
+                        card.getContent(),
+                        card.getImage(),
+                        card.getCreated(),
+                        card.isPublic()
+                ))
+                .toList();
+    }
 }
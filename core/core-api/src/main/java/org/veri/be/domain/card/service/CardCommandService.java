@@ -2,6 +2,8 @@ package org.veri.be.domain.card.service;
 
 import org.veri.be.global.storage.dto.PresignedPostFormResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.veri.be.domain.book.entity.Reading;
@@ -13,6 +15,7 @@ import org.veri.be.domain.card.entity.CardErrorInfo;
 import org.veri.be.domain.card.repository.CardRepository;
 import org.veri.be.domain.member.entity.Member;
 import org.veri.be.domain.member.repository.MemberRepository;
+import org.veri.be.global.cache.CacheConfig;
 import org.veri.be.global.storage.dto.PresignedUrlRequest;
 import org.veri.be.global.storage.dto.PresignedUrlResponse;
 import org.veri.be.global.storage.service.StorageService;
@@ -33,6 +36,10 @@ public class CardCommandService {
     private final StorageService storageService;
     private final MemberRepository memberRepository;
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CARD_FEED, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_CARD_COUNT, key = "#memberId")
+    })
     @Transactional
     public Long createCard(Long memberId, String content, String imageUrl, Long memberBookId, Boolean isPublic) {
         Reading reading = readingRepository.findById(memberBookId)
@@ -51,6 +58,7 @@ public class CardCommandService {
         return card.getId();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CARD_FEED, allEntries = true)
     @Transactional
     public CardUpdateResponse updateCard(Long memberId, Long cardId, String content, String imageUrl) {
         Card card = this.getCard(cardId);
@@ -65,6 +73,7 @@ public class CardCommandService {
                 .orElseThrow(() -> ApplicationException.of(CommonErrorCode.RESOURCE_NOT_FOUND));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CARD_FEED, allEntries = true)
     @Transactional
     public CardVisibilityUpdateResponse modifyVisibility(Long memberId, Long cardId, boolean isPublic) {
         Card card = this.getCard(cardId);
@@ -74,6 +83,10 @@ public class CardCommandService {
         return new CardVisibilityUpdateResponse(card.getId(), card.isPublic());
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CARD_FEED, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_CARD_COUNT, key = "#memberId")
+    })
     @Transactional
     public void deleteCard(Long memberId, Long cardId) {
         Card card = getCard(cardId);
@@ -1,9 +1,11 @@
 package org.veri.be.domain.card.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.veri.be.domain.card.controller.dto.response.CardDetailResponse;
@@ -12,6 +14,8 @@ import org.veri.be.domain.card.entity.Card;
 import org.veri.be.domain.card.repository.CardRepository;
 import org.veri.be.domain.card.repository.dto.CardFeedItem;
 import org.veri.be.domain.card.repository.dto.CardListItem;
+import org.veri.be.global.cache.CacheConfig;
+import org.veri.be.global.response.FeedCursor;
 import org.veri.be.lib.exception.ApplicationException;
 import org.veri.be.lib.exception.CommonErrorCode;
 
@@ -28,6 +32,12 @@ public class CardQueryService {
         return cardRepository.findAllByMemberId(memberId, pageRequest);
     }
 
+    public Slice<CardListItem> getOwnedCardSlice(Long memberId, int page, int size, CardSortType sortType) {
+        Pageable pageRequest = PageRequest.of(page, size, sortType.getSort());
+
+        return cardRepository.findSliceByMemberId(memberId, pageRequest);
+    }
+
     public CardDetailResponse getCardDetail(Long cardId, Long viewerId) {
         Card card = cardRepository.findByIdWithAllAssociations(cardId)
                 .orElseThrow(() -> ApplicationException.of(CommonErrorCode.RESOURCE_NOT_FOUND));
@@ -42,12 +52,28 @@ public class CardQueryService {
                 .orElseThrow(() -> ApplicationException.of(CommonErrorCode.RESOURCE_NOT_FOUND));
     }
 
+    @Cacheable(cacheNames = CacheConfig.MEMBER_CARD_COUNT, key = "#memberId")
     public int getOwnedCardCount(Long memberId) {
         return cardRepository.countAllByMemberId(memberId);
     }
 
+    @Cacheable(
+            cacheNames = CacheConfig.CARD_FEED,
+            key = "'page:' + #page + ':' + #size",
+            condition = "#sortType.name() == 'NEWEST' && #page < T(org.veri.be.global.cache.CacheConfig).FEED_CACHED_PAGES"
+    )
     public Page<CardFeedItem> getAllCards(int page, int size, CardSortType sortType) {
         Pageable pageRequest = PageRequest.of(page, size, sortType.getSort());
         return cardRepository.findAllPublicItems(pageRequest);
     }
+
+    @Cacheable(cacheNames = CacheConfig.CARD_FEED, key = "'cursor:' + #size", condition = "#cursor == null")
+    public Slice<CardFeedItem> getAllCardsByCursor(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        if (cursor == null || cursor.isBlank()) {
+            return cardRepository.findLatestPublicItems(limit);
+        }
+        FeedCursor decoded = FeedCursor.decode(cursor);
+        return cardRepository.findPublicItemsBefore(decoded.createdAt(), decoded.id(), limit);
+    }
 }
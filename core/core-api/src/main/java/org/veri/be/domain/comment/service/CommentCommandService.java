@@ -9,6 +9,7 @@ import org.veri.be.domain.comment.repository.CommentRepository;
 import org.veri.be.domain.member.entity.Member;
 import org.veri.be.domain.member.repository.MemberRepository;
 import org.veri.be.domain.post.entity.Post;
+import org.veri.be.domain.post.repository.PostRepository;
 import org.veri.be.domain.post.service.PostQueryService;
 
 import java.time.Clock;
@@ -22,6 +23,7 @@ public class CommentCommandService {
     private final PostQueryService postQueryService;
     private final Clock clock;
     private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
 
     @Transactional
     public Long postComment(CommentPostRequest request, Long memberId) {
@@ -35,7 +37,9 @@ public class CommentCommandService {
                 .build();
 
         post.addComment(comment);
-        return commentRepository.save(comment).getId();
+        Long commentId = commentRepository.save(comment).getId();
+        postRepository.addCommentCount(post.getId(), 1);
+        return commentId;
     }
 
     @Transactional
@@ -44,7 +48,9 @@ public class CommentCommandService {
         Member member = memberRepository.getReferenceById(memberId);
 
         Comment reply = parentComment.replyBy(member, content);
-        return commentRepository.save(reply).getId();
+        Long replyId = commentRepository.save(reply).getId();
+        postRepository.addCommentCount(parentComment.getPost().getId(), 1);
+        return replyId;
     }
 
     public void editComment(Long commentId, String content, Long memberId) {
@@ -59,7 +65,11 @@ public class CommentCommandService {
     public void deleteComment(Long commentId, Long memberId) {
         Comment comment = commentQueryService.getCommentById(commentId);
         Member member = memberRepository.getReferenceById(memberId);
+        boolean alreadyDeleted = comment.isDeleted();
         comment.deleteBy(member, clock);
         commentRepository.save(comment);
+        if (!alreadyDeleted) {
+            postRepository.addCommentCount(comment.getPost().getId(), -1);
+        }
     }
 }
@@ -0,0 +1,88 @@
+package org.veri.be.domain.image.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.veri.be.domain.image.entity.OcrResult;
+import org.veri.be.domain.image.repository.OcrResultRepository;
+
+import java.util.Optional;
+
+/**
+ * OCR 결과 조회 계층. 메모리 LRU → ocr_result 테이블 순으로 같은 이미지 URL 의 이전 결과를 찾는다.
+ * <p>
+ * OCR 결과는 이미지가 바뀌지 않는 한 변하지 않으므로 TTL 없이 크기로만 제한한다.
+ */
+@Slf4j
+@Component
+public class OcrResultCache {
+
+    private final OcrResultRepository ocrResultRepository;
+    private final Cache<String, String> texts;
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public OcrResultCache(
+            OcrResultRepository ocrResultRepository,
+            MeterRegistry meterRegistry,
+            @Value("${ocr.result-cache.maximum-size:1000}") long maximumSize
+    ) {
+        this.ocrResultRepository = ocrResultRepository;
+        this.texts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, texts, "ocrResult");
+        this.memoryHits = lookupCounter(meterRegistry, "memory");
+        this.databaseHits = lookupCounter(meterRegistry, "database");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    public Optional<String> find(String imageUrl) {
+        String key = OcrResult.hashOf(imageUrl);
+        String cached = texts.getIfPresent(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<String> stored = findStored(key, imageUrl);
+        if (stored.isPresent()) {
+            databaseHits.increment();
+            texts.put(key, stored.get());
+        } else {
+            misses.increment();
+        }
+        return stored;
+    }
+
+    public void save(OcrResult result) {
+        ocrResultRepository.save(result);
+        texts.put(OcrResult.hashOf(result.getImageUrl()), result.getResultText());
+    }
+
+    private Optional<String> findStored(String key, String imageUrl) {
+        try {
+            return ocrResultRepository.findFirstByImageUrlHashOrderByIdDesc(key)
+                    .filter(result -> imageUrl.equals(result.getImageUrl()))
+                    .map(OcrResult::getResultText);
+        } catch (RuntimeException e) {
+            // 조회 실패는 캐시 미스로 보고 OCR 을 그대로 진행한다.
+            log.warn("Failed to look up stored OCR result", e);
+            return Optional.empty();
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ocr.result.lookups")
+                .description("OCR 결과 조회 결과별 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,260 @@
+package org.veri.be.domain.image.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.veri.be.domain.image.exception.ImageErrorCode;
+import org.veri.be.domain.image.preprocess.PreprocessedImageSource;
+import org.veri.be.domain.image.preprocess.PreprocessedImageSource.PreprocessedImage;
+import org.veri.be.lib.exception.ApplicationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 원본 이미지와 전처리 이미지를 헤지(hedge)해서 OCR 을 요청한다.
+ * <p>
+ * 원본 요청은 지연 없이 바로 보내고, hedge delay 안에 성공하지 못하면(또는 그 전에 실패하면) 전처리 요청을 추가로 보낸다.
+ * 먼저 성공한 쪽을 채택하고 나머지는 취소한다. delay 가 0 이면 두 요청을 동시에 보낸다.
+ * 전처리 이미지는 {@link PreprocessedImageSource} 가 준비한다. (Lambda 결과 대기 또는 in-process 전처리)
+ * 어느 쪽이 이겼는지와 걸린 시간을 기록해 delay 를 운영 데이터로 조정할 수 있게 한다.
+ * 기본 delay 는 전체 페이지 OCR 이 대부분 그 안에 끝나도록 넉넉히 잡아, 헤지는 원본이 실패하거나 유난히 느릴 때만 나간다.
+ * 전체 대기는 ocr.hedge.timeout-ms 로 제한하고, 그 안에 성공한 요청이 없으면 둘 다 취소하고 실패로 본다.
+ */
+@Slf4j
+@Component
+public class HedgedOcrRequester {
+
+    private final OcrPort ocrClient;
+    private final PreprocessedImageSource preprocessedImageSource;
+    private final OcrBulkhead ocrBulkhead;
+    private final Executor ocrExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Duration hedgeDelay;
+    private final Duration timeout;
+
+    public HedgedOcrRequester(
+            OcrPort ocrClient,
+            PreprocessedImageSource preprocessedImageSource,
+            OcrBulkhead ocrBulkhead,
+            @Qualifier("ocrExecutor") Executor ocrExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${ocr.hedge.delay-ms:15000}") long hedgeDelayMillis,
+            @Value("${ocr.hedge.timeout-ms:60000}") long timeoutMillis
+    ) {
+        this.ocrClient = ocrClient;
+        this.preprocessedImageSource = preprocessedImageSource;
+        this.ocrBulkhead = ocrBulkhead;
+        this.ocrExecutor = ocrExecutor;
+        this.meterRegistry = meterRegistry;
+        this.hedgeDelay = Duration.ofMillis(Math.max(0, hedgeDelayMillis));
+        this.timeout = Duration.ofMillis(Math.max(hedgeDelay.toMillis(), timeoutMillis));
+    }
+
+    /**
+     * @return 먼저 성공한 요청의 결과. 두 요청 모두 실패하거나 timeout 안에 끝나지 않으면 빈 값.
+     * @throws ApplicationException 동시 호출 제한으로 요청을 보내지 못한 경우 (OCR_BUSY)
+     */
+    public Optional<Result> request(String originalUrl, String preprocessedUrl) throws InterruptedException {
+        return request(originalUrl, preprocessedUrl, OcrPageListener.NONE);
+    }
+
+    /**
+     * 페이지는 처음 페이지를 내보낸 요청의 것만 pageListener 로 전달한다. 두 요청의 페이지가 섞이지 않도록 하기 위함이며,
+     * 그 요청이 결국 지더라도 최종 결과는 반환값으로 다시 전달된다.
+     */
+    public Optional<Result> request(String originalUrl, String preprocessedUrl, OcrPageListener pageListener)
+            throws InterruptedException {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + timeout.toNanos();
+        AtomicReference<Variant> pageSource = new AtomicReference<>();
+        Attempt original = launch(Variant.ORIGINAL, originalUrl, originalUrl, gate(pageSource, Variant.ORIGINAL, pageListener));
+        Attempt preprocessed = null;
+        Attempt winner = null;
+        try {
+            if (!hedgeDelay.isZero()) {
+                awaitQuietly(original.text, hedgeDelay);
+                if (original.succeeded()) {
+                    winner = original;
+                    return Optional.of(record(original, startedAt));
+                }
+            }
+
+            preprocessed = launch(Variant.PREPROCESSED, preprocessedUrl, originalUrl,
+                    gate(pageSource, Variant.PREPROCESSED, pageListener));
+            winner = firstSuccess(List.of(original, preprocessed), deadline);
+            if (winner == null) {
+                record(null, startedAt);
+                rethrowRejection(original);
+                rethrowRejection(preprocessed);
+                return Optional.empty();
+            }
+            return Optional.of(record(winner, startedAt));
+        } finally {
+            cancelUnless(original, winner);
+            cancelUnless(preprocessed, winner);
+        }
+    }
+
+    private static OcrPageListener gate(AtomicReference<Variant> pageSource, Variant variant, OcrPageListener pageListener) {
+        if (pageListener == OcrPageListener.NONE) {
+            return pageListener;
+        }
+        return (index, markdown) -> {
+            Variant owner = pageSource.compareAndExchange(null, variant);
+            if (owner == null || owner == variant) {
+                pageListener.onPage(index, markdown);
+            }
+        };
+    }
+
+    private Attempt launch(Variant variant, String url, String originalUrl, OcrPageListener pageListener) {
+        Attempt attempt = new Attempt(variant, url, originalUrl, pageListener);
+        try {
+            ocrExecutor.execute(attempt.task);
+        } catch (RejectedExecutionException e) {
+            attempt.text.completeExceptionally(e);
+        }
+        return attempt;
+    }
+
+    private Attempt firstSuccess(List<Attempt> attempts, long deadline) throws InterruptedException {
+        CompletableFuture<Attempt> first = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(attempts.size());
+        for (Attempt attempt : attempts) {
+            attempt.text.whenComplete((text, error) -> {
+                if (error == null && text != null) {
+                    first.complete(attempt);
+                } else {
+                    if (!first.isDone()) {
+                        log.warn("Mistral OCR 실패 ({}): {}", attempt.url, error != null ? rootMessage(error) : "empty result");
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        first.complete(null);
+                    }
+                }
+            });
+        }
+        try {
+            return first.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            log.warn("Mistral OCR 시간 초과 ({}ms)", timeout.toMillis());
+            return null;
+        }
+    }
+
+    private Result record(Attempt winner, long startedAt) {
+        String variant = winner == null ? "none" : winner.variant.tag();
+        meterRegistry.counter("ocr.hedge.winner", "variant", variant).increment();
+        Timer.builder("ocr.hedge.latency")
+                .description("헤지 OCR 요청 시작부터 채택된 결과까지 걸린 시간")
+                .tag("variant", variant)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return winner == null ? null : new Result(winner.variant, winner.storedUrl, winner.text.getNow(null));
+    }
+
+    private static void awaitQuietly(CompletableFuture<String> future, Duration timeout) throws InterruptedException {
+        try {
+            future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException _) {
+            // 실패했거나 아직 끝나지 않았으면 헤지 요청을 보낸다.
+        }
+    }
+
+    private static void rethrowRejection(Attempt attempt) {
+        if (attempt.text.state() == Future.State.FAILED
+                && attempt.text.exceptionNow() instanceof ApplicationException rejected
+                && rejected.getErrorCode() == ImageErrorCode.OCR_BUSY) {
+            throw rejected;
+        }
+    }
+
+    private static void cancelUnless(Attempt attempt, Attempt winner) {
+        if (attempt != null && attempt != winner) {
+            attempt.cancel();
+        }
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage();
+    }
+
+    public enum Variant {
+        ORIGINAL,
+        PREPROCESSED;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public record Result(Variant variant, String url, String text) {
+
+        public boolean preprocessed() {
+            return variant == Variant.PREPROCESSED;
+        }
+    }
+
+    private final class Attempt {
+
+        private final Variant variant;
+        private final String url;
+        private volatile String storedUrl;
+        private final CompletableFuture<String> text = new CompletableFuture<>();
+        // FutureTask 로 감싸야 취소 시 실행 중인 요청 스레드를 인터럽트할 수 있다.
+        private final FutureTask<Void> task;
+
+        private Attempt(Variant variant, String url, String originalUrl, OcrPageListener pageListener) {
+            this.variant = variant;
+            this.url = url;
+            this.storedUrl = url;
+            this.task = new FutureTask<>(() -> {
+                try {
+                    String requestUrl = url;
+                    if (variant == Variant.PREPROCESSED) {
+                        PreprocessedImage image = preprocessedImageSource.resolve(originalUrl, url);
+                        requestUrl = image.requestUrl();
+                        storedUrl = image.storedUrl();
+                    }
+                    String target = requestUrl;
+                    text.complete(ocrBulkhead.call(() -> ocrClient.requestOcr(target, pageListener)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    text.completeExceptionally(e);
+                } catch (Throwable e) {
+                    // Error 도 결과로 남겨야 기다리는 쪽이 풀린다.
+                    text.completeExceptionally(e);
+                }
+                return null;
+            });
+        }
+
+        private boolean succeeded() {
+            return text.isDone() && !text.isCompletedExceptionally() && text.getNow(null) != null;
+        }
+
+        private void cancel() {
+            task.cancel(true);
+            text.cancel(false);
+        }
+    }
+}
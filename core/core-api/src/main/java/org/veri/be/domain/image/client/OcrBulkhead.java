@@ -0,0 +1,66 @@
+package org.veri.be.domain.image.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.veri.be.domain.image.exception.ImageErrorCode;
+import org.veri.be.lib.exception.ApplicationException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * OCR 업스트림 동시 호출 수 제한.
+ * <p>
+ * 호출 스레드는 가상 스레드라 개수 자체는 제한이 없으므로, 실제 외부 호출 수는 세마포어로 묶는다.
+ * 허용 대기 시간 안에 자리를 얻지 못하면 OCR_BUSY 로 즉시 실패한다.
+ */
+@Component
+public class OcrBulkhead {
+
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+
+    public OcrBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${ocr.bulkhead.max-concurrent:8}") int maxConcurrent,
+            @Value("${ocr.bulkhead.max-wait-ms:2000}") long maxWaitMillis
+    ) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = Duration.ofMillis(maxWaitMillis);
+        this.permits = new Semaphore(maxConcurrent, true);
+        Gauge.builder("ocr.bulkhead.in_flight", this, OcrBulkhead::inFlight)
+                .description("진행 중인 OCR 업스트림 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("ocr.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("OCR 업스트림 호출 자리를 기다리는 요청 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("ocr.bulkhead.wait")
+                .description("OCR 업스트림 호출 자리를 얻기까지 기다린 시간")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> upstreamCall) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        boolean acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            throw ApplicationException.of(ImageErrorCode.OCR_BUSY);
+        }
+        try {
+            return upstreamCall.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
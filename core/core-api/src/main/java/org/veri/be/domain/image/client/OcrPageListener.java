@@ -0,0 +1,13 @@
+package org.veri.be.domain.image.client;
+
+/**
+ * OCR 응답을 파싱하는 동안 페이지가 하나 완성될 때마다 호출된다. OCR 요청 스레드에서 호출되므로 오래 막지 않아야 한다.
+ */
+@FunctionalInterface
+public interface OcrPageListener {
+
+    OcrPageListener NONE = (index, markdown) -> {
+    };
+
+    void onPage(int index, String markdown);
+}
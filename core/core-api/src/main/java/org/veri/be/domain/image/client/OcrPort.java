@@ -3,4 +3,11 @@ package org.veri.be.domain.image.client;
 public interface OcrPort {
 
     String requestOcr(String imageUrl);
+
+    /**
+     * 페이지 단위로 결과를 받을 수 있는 구현은 파싱한 페이지를 pageListener 로 먼저 넘긴다.
+     */
+    default String requestOcr(String imageUrl, OcrPageListener pageListener) {
+        return requestOcr(imageUrl);
+    }
 }
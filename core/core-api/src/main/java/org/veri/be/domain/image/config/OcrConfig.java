@@ -2,21 +2,31 @@ package org.veri.be.domain.image.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import java.util.concurrent.Executor;
 
 @Configuration
 public class OcrConfig {
 
+    /**
+     * OCR 업스트림 호출용 가상 스레드 실행기. 동시 호출 수는 OcrBulkhead 가 제한한다.
+     */
     @Bean("ocrExecutor")
     public Executor ocrExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("ocr-");
-        executor.initialize();
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ocr-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * 비동기 OCR 작업 파이프라인용 가상 스레드 실행기.
+     * 별도 큐를 두지 않고, 업스트림 호출 자리는 OcrBulkhead 가 대기 시간과 함께 관리한다. (초과 시 작업이 OCR_BUSY 로 실패)
+     */
+    @Bean("ocrJobExecutor")
+    public Executor ocrJobExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ocr-job-");
+        executor.setVirtualThreads(true);
         return executor;
     }
 }
@@ -0,0 +1,14 @@
+package org.veri.be.domain.image.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record OcrBatchRequest(
+        @NotNull
+        @Size(min = 1, max = 20)
+        List<@NotBlank String> imageUrls
+) {
+}
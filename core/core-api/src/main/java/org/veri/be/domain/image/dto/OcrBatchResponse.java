@@ -0,0 +1,14 @@
+package org.veri.be.domain.image.dto;
+
+import java.util.List;
+
+public record OcrBatchResponse(
+        List<OcrPageResult> pages,
+        int succeeded,
+        int failed
+) {
+    public static OcrBatchResponse of(List<OcrPageResult> pages) {
+        int succeeded = (int) pages.stream().filter(OcrPageResult::succeeded).count();
+        return new OcrBatchResponse(pages, succeeded, pages.size() - succeeded);
+    }
+}
@@ -0,0 +1,24 @@
+package org.veri.be.domain.image.dto;
+
+import org.veri.be.domain.image.job.OcrJob;
+import org.veri.be.domain.image.job.OcrJobStatus;
+import org.veri.be.lib.exception.ErrorCode;
+
+public record OcrJobResponse(
+        String jobId,
+        OcrJobStatus status,
+        String text,
+        String errorCode,
+        String errorMessage
+) {
+    public static OcrJobResponse from(OcrJob job) {
+        ErrorCode error = job.getError();
+        return new OcrJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getText(),
+                error == null ? null : error.getCode(),
+                error == null ? null : error.getMessage()
+        );
+    }
+}
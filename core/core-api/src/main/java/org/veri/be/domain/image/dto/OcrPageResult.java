@@ -0,0 +1,20 @@
+package org.veri.be.domain.image.dto;
+
+import org.veri.be.lib.exception.ErrorCode;
+
+public record OcrPageResult(
+        int page,
+        String imageUrl,
+        boolean succeeded,
+        String text,
+        String errorCode,
+        String errorMessage
+) {
+    public static OcrPageResult success(int page, String imageUrl, String text) {
+        return new OcrPageResult(page, imageUrl, true, text, null, null);
+    }
+
+    public static OcrPageResult failure(int page, String imageUrl, ErrorCode error) {
+        return new OcrPageResult(page, imageUrl, false, null, error.getCode(), error.getMessage());
+    }
+}
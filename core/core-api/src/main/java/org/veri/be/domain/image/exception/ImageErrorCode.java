@@ -9,7 +9,8 @@ import org.veri.be.lib.exception.ErrorCode;
 @Getter
 public enum ImageErrorCode implements ErrorCode {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.", "I1001"),
-    OCR_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "OCR 처리에 실패했습니다.", "I1002");
+    OCR_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "OCR 처리에 실패했습니다.", "I1002"),
+    OCR_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "OCR 요청이 많습니다. 잠시 후 다시 시도해주세요.", "I1003");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,110 @@
+package org.veri.be.domain.image.job;
+
+import lombok.Getter;
+import org.veri.be.lib.exception.ErrorCode;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 OCR 작업 하나의 상태. 요청 스레드와 OCR 파이프라인 스레드가 함께 읽고 쓴다.
+ */
+@Getter
+public class OcrJob {
+
+    private final String id;
+    private final Long memberId;
+    private final String imageUrl;
+    private final Instant createdAt;
+
+    private volatile OcrJobStatus status = OcrJobStatus.PENDING;
+    private volatile String text;
+    private volatile ErrorCode error;
+    private volatile Instant completedAt;
+
+    private final CompletableFuture<OcrJob> completion = new CompletableFuture<>();
+
+    // 작업이 끝나기 전까지만 쓰는 페이지 단위 중간 결과. 끝나면 최종 text 로 대체되므로 비운다.
+    @Getter(lombok.AccessLevel.NONE)
+    private final List<Page> pages = new ArrayList<>();
+    @Getter(lombok.AccessLevel.NONE)
+    private final List<Consumer<Page>> pageListeners = new ArrayList<>();
+
+    public OcrJob(Long memberId, String imageUrl, Instant createdAt) {
+        this.id = UUID.randomUUID().toString();
+        this.memberId = memberId;
+        this.imageUrl = imageUrl;
+        this.createdAt = createdAt;
+    }
+
+    public boolean isOwnedBy(Long memberId) {
+        return this.memberId.equals(memberId);
+    }
+
+    public void start() {
+        this.status = OcrJobStatus.RUNNING;
+    }
+
+    /**
+     * OCR 응답에서 페이지 하나가 파싱되면 호출된다. 등록된 page listener 에 바로 전달한다.
+     * listener 는 락 밖에서 호출하므로 느린 listener 가 구독이나 완료 처리를 막지 않는다.
+     */
+    public void addPage(int index, String markdown) {
+        Page page = new Page(index, markdown);
+        List<Consumer<Page>> listeners;
+        synchronized (this) {
+            if (completion.isDone()) {
+                return;
+            }
+            pages.add(page);
+            listeners = List.copyOf(pageListeners);
+        }
+        listeners.forEach(listener -> listener.accept(page));
+    }
+
+    /**
+     * 지금까지 파싱된 페이지를 먼저 전달하고, 이후 페이지는 도착할 때마다 전달한다.
+     */
+    public synchronized void onPage(Consumer<Page> listener) {
+        if (completion.isDone()) {
+            return;
+        }
+        pages.forEach(listener);
+        pageListeners.add(listener);
+    }
+
+    public void succeed(String text, Instant completedAt) {
+        this.text = text;
+        this.completedAt = completedAt;
+        this.status = OcrJobStatus.SUCCEEDED;
+        completion.complete(this);
+        clearPages();
+    }
+
+    public void fail(ErrorCode error, Instant completedAt) {
+        this.error = error;
+        this.completedAt = completedAt;
+        this.status = OcrJobStatus.FAILED;
+        completion.complete(this);
+        clearPages();
+    }
+
+    /**
+     * 작업이 끝나면(이미 끝났다면 즉시) listener 를 호출한다.
+     */
+    public void whenDone(Consumer<OcrJob> listener) {
+        completion.thenAccept(listener);
+    }
+
+    private synchronized void clearPages() {
+        pages.clear();
+        pageListeners.clear();
+    }
+
+    public record Page(int index, String text) {
+    }
+}
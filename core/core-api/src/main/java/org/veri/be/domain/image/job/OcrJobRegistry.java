@@ -0,0 +1,40 @@
+package org.veri.be.domain.image.job;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 진행 중이거나 최근에 끝난 OCR 작업 보관소. 결과는 조회용으로만 잠시 유지하고 TTL 이 지나면 버린다.
+ */
+@Component
+public class OcrJobRegistry {
+
+    private final Cache<String, OcrJob> jobs;
+
+    public OcrJobRegistry(
+            @Value("${ocr.job.ttl-seconds:600}") long ttlSeconds,
+            @Value("${ocr.job.maximum-size:10000}") long maximumSize
+    ) {
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void register(OcrJob job) {
+        jobs.put(job.getId(), job);
+    }
+
+    public Optional<OcrJob> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    public void remove(String jobId) {
+        jobs.invalidate(jobId);
+    }
+}
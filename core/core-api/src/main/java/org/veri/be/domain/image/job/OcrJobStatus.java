@@ -0,0 +1,12 @@
+package org.veri.be.domain.image.job;
+
+public enum OcrJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isDone() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,53 @@
+package org.veri.be.domain.image.preprocess;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 8bit 그레이스케일 이미지. 픽셀은 행 우선(row-major) 순서의 부호 없는 밝기값(0~255)이다.
+ */
+public record GrayImage(int width, int height, byte[] pixels) {
+
+    public static final int WHITE = 255;
+
+    public GrayImage {
+        if (width <= 0 || height <= 0 || pixels.length != width * height) {
+            throw new IllegalArgumentException("Invalid image size: " + width + "x" + height);
+        }
+    }
+
+    public static GrayImage blank(int width, int height) {
+        return new GrayImage(width, height, new byte[width * height]);
+    }
+
+    /**
+     * ARGB 이미지를 밝기값으로 변환한다. 투명한 부분은 흰 배경 위에 합성한다.
+     * 큰 원본 전체를 int[] 로 한 번에 읽지 않도록 한 행씩 변환한다.
+     */
+    public static GrayImage from(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        byte[] pixels = new byte[width * height];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                int argb = row[x];
+                int alpha = argb >>> 24;
+                int luminance = (((argb >> 16) & 0xFF) * 77 + ((argb >> 8) & 0xFF) * 150 + (argb & 0xFF) * 29) >> 8;
+                pixels[offset + x] = (byte) ((luminance * alpha + WHITE * (255 - alpha)) / 255);
+            }
+        }
+        return new GrayImage(width, height, pixels);
+    }
+
+    public int get(int x, int y) {
+        return pixels[y * width + x] & 0xFF;
+    }
+
+    public BufferedImage toBufferedImage() {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        image.getRaster().setDataElements(0, 0, width, height, pixels);
+        return image;
+    }
+}
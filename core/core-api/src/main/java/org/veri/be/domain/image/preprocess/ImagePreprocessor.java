@@ -0,0 +1,303 @@
+package org.veri.be.domain.image.preprocess;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * OCR 전처리. .deploy/veri-ocr-preprocessing Lambda 와 같은 단계를 JVM 안에서 수행한다.
+ * <p>
+ * 기울기 추정 → 회전 → 긴 변 기준 축소 → 샤프닝 → 이진화 → JPEG 인코딩.
+ * 기울기는 후보 각도마다 가로 투영 분산을 계산해 가장 큰 각도를 고른다. Lambda 는 각도마다 이미지 전체를 회전시키지만,
+ * 여기서는 어두운 픽셀 좌표만 한 번 모아 두고 각도마다 행 번호만 다시 계산하므로 후보 각도당 비용이 어두운 픽셀 수에 비례한다.
+ */
+@Component
+public class ImagePreprocessor {
+
+    private static final int THRESHOLD = 128;
+    private static final float JPEG_QUALITY = 0.9f;
+
+    private final int longEdge;
+    private final int skewDownscale;
+    private final double skewSearchMin;
+    private final double skewSearchMax;
+    private final double skewSearchStep;
+    private final long maxPixels;
+
+    public ImagePreprocessor(
+            @Value("${ocr.preprocessing.long-edge:2000}") int longEdge,
+            @Value("${ocr.preprocessing.skew.downscale:1000}") int skewDownscale,
+            @Value("${ocr.preprocessing.skew.search-min:-5}") double skewSearchMin,
+            @Value("${ocr.preprocessing.skew.search-max:5}") double skewSearchMax,
+            @Value("${ocr.preprocessing.skew.search-step:0.5}") double skewSearchStep,
+            @Value("${ocr.preprocessing.max-pixels:25000000}") long maxPixels
+    ) {
+        this.longEdge = longEdge;
+        this.skewDownscale = skewDownscale;
+        this.skewSearchMin = skewSearchMin;
+        this.skewSearchMax = skewSearchMax;
+        this.skewSearchStep = skewSearchStep;
+        this.maxPixels = maxPixels;
+    }
+
+    public byte[] preprocess(byte[] encodedImage) {
+        GrayImage gray = GrayImage.from(decode(encodedImage));
+        double angle = estimateSkewAngle(downscale(gray, skewDownscale));
+        GrayImage processed = threshold(sharpen(downscale(rotate(gray, angle), longEdge)));
+        return encodeJpeg(processed);
+    }
+
+    /**
+     * @return 글자 줄을 수평으로 맞추기 위해 시계 방향으로 회전해야 하는 각도(도)
+     */
+    public double estimateSkewAngle(GrayImage image) {
+        int width = image.width();
+        int height = image.height();
+        byte[] pixels = image.pixels();
+
+        int darkCount = 0;
+        for (byte pixel : pixels) {
+            if ((pixel & 0xFF) < THRESHOLD) {
+                darkCount++;
+            }
+        }
+        if (darkCount == 0) {
+            return 0;
+        }
+
+        // 중심 기준 좌표로 한 번만 모아 두고 각도마다 재사용한다.
+        float[] dx = new float[darkCount];
+        float[] dy = new float[darkCount];
+        float centerX = (width - 1) / 2f;
+        float centerY = (height - 1) / 2f;
+        int index = 0;
+        for (int y = 0; y < height; y++) {
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                if ((pixels[offset + x] & 0xFF) < THRESHOLD) {
+                    dx[index] = x - centerX;
+                    dy[index] = y - centerY;
+                    index++;
+                }
+            }
+        }
+
+        int[] rows = new int[(int) Math.ceil(Math.hypot(width, height)) + 1];
+        int steps = (int) Math.floor((skewSearchMax - skewSearchMin) / skewSearchStep + 1e-9);
+        double bestAngle = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i <= steps; i++) {
+            double angle = skewSearchMin + i * skewSearchStep;
+            double score = projectionVariance(dx, dy, width, height, angle, rows);
+            if (score > bestScore) {
+                bestScore = score;
+                bestAngle = angle;
+            }
+        }
+        return bestAngle;
+    }
+
+    /**
+     * 시계 방향으로 angle 만큼 회전했을 때 행별 어두운 픽셀 수의 분산. 회전 후 캔버스의 빈 행까지 포함한다.
+     * <p>
+     * Lambda 는 흰 배경으로 회전한 뒤 행별 흰 픽셀 수로 분산을 구한다. 회전한 캔버스는 모든 행의 폭이 같으므로
+     * (흰 픽셀 수 = 폭 - 어두운 픽셀 수) 두 분산은 같고, 같은 각도를 고른다.
+     */
+    private static double projectionVariance(float[] dx, float[] dy, int width, int height, double angle, int[] rows) {
+        double radians = Math.toRadians(angle);
+        float sin = (float) Math.sin(radians);
+        float cos = (float) Math.cos(radians);
+        int rowCount = Math.min(rows.length, (int) Math.ceil(width * Math.abs(sin) + height * Math.abs(cos)));
+        float offset = rowCount / 2f;
+        int lastRow = rowCount - 1;
+
+        Arrays.fill(rows, 0, rowCount, 0);
+        for (int i = 0; i < dx.length; i++) {
+            int row = (int) (dx[i] * sin + dy[i] * cos + offset);
+            rows[Math.min(lastRow, Math.max(0, row))]++;
+        }
+
+        double mean = (double) dx.length / rowCount;
+        double sumOfSquares = 0;
+        for (int i = 0; i < rowCount; i++) {
+            sumOfSquares += (double) rows[i] * rows[i];
+        }
+        return sumOfSquares / rowCount - mean * mean;
+    }
+
+    /**
+     * 시계 방향으로 angle(도) 만큼 회전한다. 캔버스는 회전한 이미지가 모두 들어가도록 넓히고 빈 곳은 흰색으로 채운다.
+     */
+    static GrayImage rotate(GrayImage source, double angle) {
+        if (Math.abs(angle) < 1e-6) {
+            return source;
+        }
+        double radians = Math.toRadians(angle);
+        double sin = Math.sin(radians);
+        double cos = Math.cos(radians);
+        int width = source.width();
+        int height = source.height();
+        int rotatedWidth = (int) Math.ceil(width * Math.abs(cos) + height * Math.abs(sin));
+        int rotatedHeight = (int) Math.ceil(width * Math.abs(sin) + height * Math.abs(cos));
+
+        GrayImage rotated = GrayImage.blank(rotatedWidth, rotatedHeight);
+        byte[] out = rotated.pixels();
+        double sourceCenterX = (width - 1) / 2.0;
+        double sourceCenterY = (height - 1) / 2.0;
+        double rotatedCenterX = (rotatedWidth - 1) / 2.0;
+        double rotatedCenterY = (rotatedHeight - 1) / 2.0;
+
+        for (int y = 0; y < rotatedHeight; y++) {
+            double ry = y - rotatedCenterY;
+            int offset = y * rotatedWidth;
+            for (int x = 0; x < rotatedWidth; x++) {
+                double rx = x - rotatedCenterX;
+                // 역회전으로 원본 좌표를 구해 쌍선형 보간한다.
+                double sx = rx * cos + ry * sin + sourceCenterX;
+                double sy = -rx * sin + ry * cos + sourceCenterY;
+                out[offset + x] = (byte) bilinear(source, sx, sy);
+            }
+        }
+        return rotated;
+    }
+
+    private static int bilinear(GrayImage source, double x, double y) {
+        int x0 = (int) Math.floor(x);
+        int y0 = (int) Math.floor(y);
+        double fx = x - x0;
+        double fy = y - y0;
+        double top = sample(source, x0, y0) * (1 - fx) + sample(source, x0 + 1, y0) * fx;
+        double bottom = sample(source, x0, y0 + 1) * (1 - fx) + sample(source, x0 + 1, y0 + 1) * fx;
+        return (int) Math.round(top * (1 - fy) + bottom * fy);
+    }
+
+    private static int sample(GrayImage source, int x, int y) {
+        if (x < 0 || y < 0 || x >= source.width() || y >= source.height()) {
+            return GrayImage.WHITE;
+        }
+        return source.get(x, y);
+    }
+
+    /**
+     * 긴 변이 maxEdge 를 넘으면 영역 평균으로 축소한다. 확대는 하지 않는다.
+     */
+    static GrayImage downscale(GrayImage source, int maxEdge) {
+        int width = source.width();
+        int height = source.height();
+        if (Math.max(width, height) <= maxEdge) {
+            return source;
+        }
+        double scale = (double) maxEdge / Math.max(width, height);
+        int scaledWidth = Math.max(1, (int) Math.round(width * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(height * scale));
+
+        GrayImage scaled = GrayImage.blank(scaledWidth, scaledHeight);
+        byte[] in = source.pixels();
+        byte[] out = scaled.pixels();
+        for (int y = 0; y < scaledHeight; y++) {
+            int y0 = (int) ((long) y * height / scaledHeight);
+            int y1 = Math.max(y0 + 1, (int) ((long) (y + 1) * height / scaledHeight));
+            for (int x = 0; x < scaledWidth; x++) {
+                int x0 = (int) ((long) x * width / scaledWidth);
+                int x1 = Math.max(x0 + 1, (int) ((long) (x + 1) * width / scaledWidth));
+                int sum = 0;
+                for (int sy = y0; sy < y1; sy++) {
+                    int offset = sy * width;
+                    for (int sx = x0; sx < x1; sx++) {
+                        sum += in[offset + sx] & 0xFF;
+                    }
+                }
+                out[y * scaledWidth + x] = (byte) (sum / ((y1 - y0) * (x1 - x0)));
+            }
+        }
+        return scaled;
+    }
+
+    /**
+     * 3x3 라플라시안 샤프닝. 가장자리 픽셀은 그대로 둔다.
+     */
+    static GrayImage sharpen(GrayImage source) {
+        int width = source.width();
+        int height = source.height();
+        byte[] in = source.pixels();
+        byte[] out = Arrays.copyOf(in, in.length);
+        for (int y = 1; y < height - 1; y++) {
+            int offset = y * width;
+            for (int x = 1; x < width - 1; x++) {
+                int i = offset + x;
+                int value = 5 * (in[i] & 0xFF)
+                        - (in[i - 1] & 0xFF) - (in[i + 1] & 0xFF)
+                        - (in[i - width] & 0xFF) - (in[i + width] & 0xFF);
+                out[i] = (byte) Math.min(255, Math.max(0, value));
+            }
+        }
+        return new GrayImage(width, height, out);
+    }
+
+    static GrayImage threshold(GrayImage source) {
+        byte[] in = source.pixels();
+        byte[] out = new byte[in.length];
+        for (int i = 0; i < in.length; i++) {
+            out[i] = (byte) ((in[i] & 0xFF) >= THRESHOLD ? GrayImage.WHITE : 0);
+        }
+        return new GrayImage(source.width(), source.height(), out);
+    }
+
+    /**
+     * 헤더의 크기를 먼저 읽어 maxPixels 를 넘으면 픽셀을 디코딩하지 않고 거절한다.
+     */
+    private BufferedImage decode(byte[] encodedImage) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(encodedImage))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Image too large: " + width + "x" + height);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encodeJpeg(GrayImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(image.pixels().length / 4);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image.toBufferedImage(), null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,75 @@
+package org.veri.be.domain.image.preprocess;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.veri.be.global.storage.readiness.StorageReadinessProbe;
+import org.veri.be.global.storage.service.StorageService;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전처리 OCR 요청에 쓸 이미지를 준비한다.
+ * <p>
+ * 기본은 Lambda 가 스토리지에 올린 전처리 이미지를 기다려 그 URL 을 쓴다.
+ * ocr.preprocessing.in-process 를 켜면 원본을 내려받아 {@link ImagePreprocessor} 로 직접 전처리하고 data URL 로 보낸다.
+ * 이 경우 스토리지에 전처리 이미지가 남지 않으므로 저장할 URL 은 없다.
+ * 두 방식의 준비 시간은 ocr.preprocessing.resolve 타이머에 mode 태그로 나눠 기록한다.
+ */
+@Component
+public class PreprocessedImageSource {
+
+    private static final String JPEG_DATA_URL_PREFIX = "data:image/jpeg;base64,";
+
+    private final StorageReadinessProbe storageReadinessProbe;
+    private final StorageService storageService;
+    private final ImagePreprocessor imagePreprocessor;
+    private final boolean inProcess;
+    private final Timer resolveTimer;
+
+    public PreprocessedImageSource(
+            StorageReadinessProbe storageReadinessProbe,
+            StorageService storageService,
+            ImagePreprocessor imagePreprocessor,
+            MeterRegistry meterRegistry,
+            @Value("${ocr.preprocessing.in-process:false}") boolean inProcess
+    ) {
+        this.storageReadinessProbe = storageReadinessProbe;
+        this.storageService = storageService;
+        this.imagePreprocessor = imagePreprocessor;
+        this.inProcess = inProcess;
+        this.resolveTimer = Timer.builder("ocr.preprocessing.resolve")
+                .description("전처리 이미지를 OCR 요청에 쓸 수 있게 되기까지 걸린 시간")
+                .tag("mode", inProcess ? "in-process" : "lambda")
+                .register(meterRegistry);
+    }
+
+    public PreprocessedImage resolve(String originalUrl, String preprocessedUrl) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        try {
+            return prepare(originalUrl, preprocessedUrl);
+        } finally {
+            resolveTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private PreprocessedImage prepare(String originalUrl, String preprocessedUrl) throws InterruptedException {
+        if (inProcess) {
+            byte[] processed = imagePreprocessor.preprocess(storageService.download(originalUrl));
+            return new PreprocessedImage(JPEG_DATA_URL_PREFIX + Base64.getEncoder().encodeToString(processed), null);
+        }
+        if (!storageReadinessProbe.awaitReady(preprocessedUrl)) {
+            throw new IllegalStateException("전처리 이미지가 준비되지 않았습니다.");
+        }
+        return new PreprocessedImage(preprocessedUrl, preprocessedUrl);
+    }
+
+    /**
+     * @param requestUrl OCR API 로 보낼 URL (in-process 모드에서는 data URL 이므로 로그에 남기지 않는다)
+     * @param storedUrl  OCR 결과와 함께 저장할 전처리 이미지 URL. 스토리지에 없으면 null
+     */
+    public record PreprocessedImage(String requestUrl, String storedUrl) {
+    }
+}
@@ -1,17 +1,27 @@
 package org.veri.be.domain.image.service;
 
 import lombok.RequiredArgsConstructor;
+import org.veri.be.domain.image.cache.OcrResultCache;
+import org.veri.be.domain.image.client.OcrPageListener;
 import org.veri.be.domain.image.entity.OcrResult;
-import org.veri.be.domain.image.repository.OcrResultRepository;
 
 @RequiredArgsConstructor
 public abstract class AbstractOcrService implements OcrService {
 
-    protected final OcrResultRepository ocrResultRepository;
+    protected final OcrResultCache ocrResultCache;
 
     @Override
     public final String extract(String imageUrl) {
-        return doExtract(imageUrl);
+        return extract(imageUrl, OcrPageListener.NONE);
+    }
+
+    /**
+     * 같은 이미지 URL 의 이전 결과가 있으면 OCR 을 다시 요청하지 않고 그대로 반환한다. 이 경우 pageListener 는 호출되지 않는다.
+     */
+    @Override
+    public final String extract(String imageUrl, OcrPageListener pageListener) {
+        return ocrResultCache.find(imageUrl)
+                .orElseGet(() -> doExtract(imageUrl, pageListener));
     }
 
     protected String getPreprocessedUrl(String imageUrl) {
@@ -32,10 +42,10 @@ public abstract class AbstractOcrService implements OcrService {
                 .preProcessedUrl(preprocessedUrlOrNull)
                 .ocrService(serviceName())
                 .build();
-        ocrResultRepository.save(result);
+        ocrResultCache.save(result);
     }
 
     protected abstract String serviceName();
 
-    protected abstract String doExtract(String imageUrl);
+    protected abstract String doExtract(String imageUrl, OcrPageListener pageListener);
 }
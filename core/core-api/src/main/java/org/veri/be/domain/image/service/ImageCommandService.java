@@ -1,15 +1,20 @@
 package org.veri.be.domain.image.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.veri.be.domain.image.entity.Image;
 import org.veri.be.domain.image.exception.ImageErrorCode;
 import org.veri.be.domain.image.repository.ImageRepository;
 import org.veri.be.domain.member.entity.Member;
 import org.veri.be.domain.member.repository.MemberRepository;
+import org.veri.be.global.cache.CacheConfig;
 import org.veri.be.lib.exception.ApplicationException;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ImageCommandService {
@@ -17,17 +22,35 @@ public class ImageCommandService {
     private final ImageRepository imageRepository;
     private final OcrService mistralOcrService;
     private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 이미지 저장만 트랜잭션으로 묶고, OCR 은 트랜잭션 밖에서 수행해 업스트림 대기 중 커넥션을 점유하지 않는다.
+     */
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_IMAGE_COUNT, key = "#memberId")
     public String processWithMistral(Long memberId, String imageUrl) {
-        insertImageUrl(imageUrl, memberId);
+        transactionTemplate.executeWithoutResult(status -> insertImageUrl(imageUrl, memberId));
         try {
             return mistralOcrService.extract(imageUrl);
+        } catch (ApplicationException e) {
+            throw e;
         } catch (Exception _) {
             throw ApplicationException.of(ImageErrorCode.OCR_PROCESSING_FAILED);
         }
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_IMAGE_COUNT, key = "#memberId")
+    @Transactional
+    public void registerImage(Long memberId, String imageUrl) {
+        insertImageUrl(imageUrl, memberId);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_IMAGE_COUNT, key = "#memberId")
+    @Transactional
+    public void registerImages(Long memberId, List<String> imageUrls) {
+        imageRepository.insertAll(memberId, imageUrls);
+    }
+
     private void insertImageUrl(String imageUrl, Long memberId) {
         Member member = memberRepository.getReferenceById(memberId);
         Image image = Image.builder()
@@ -1,10 +1,13 @@
 package org.veri.be.domain.image.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.veri.be.global.cache.CacheConfig;
 import org.veri.be.global.response.PageResponse;
 import org.veri.be.domain.image.repository.ImageRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -24,4 +27,19 @@ public class ImageQueryService {
         return PageResponse.of(imageUrls.getContent(), imageUrls.getNumber(), imageUrls.getSize(),
                 imageUrls.getTotalElements(), imageUrls.getTotalPages());
     }
+
+    /**
+     * COUNT 없이 다음 페이지 존재 여부만 계산한다. totalElements 는 요청한 경우에만 호출 측에서 채워 넘긴다.
+     */
+    public PageResponse<List<String>> fetchUploadedImageSlice(Long memberId, Pageable pageable, Long totalElements) {
+        Slice<String> imageUrls = imageRepository.findSliceByMemberId(memberId, pageable);
+
+        return PageResponse.ofSlice(imageUrls.getContent(), imageUrls.getNumber(), imageUrls.getSize(),
+                imageUrls.hasNext(), totalElements);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.MEMBER_IMAGE_COUNT, key = "#memberId")
+    public long countUploadedImages(Long memberId) {
+        return imageRepository.countByMemberId(memberId);
+    }
 }
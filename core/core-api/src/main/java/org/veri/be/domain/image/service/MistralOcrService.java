@@ -1,37 +1,25 @@
 package org.veri.be.domain.image.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.veri.be.domain.image.client.OcrPort;
+import org.veri.be.domain.image.cache.OcrResultCache;
+import org.veri.be.domain.image.client.HedgedOcrRequester;
+import org.veri.be.domain.image.client.OcrPageListener;
 import org.veri.be.domain.image.exception.ImageErrorCode;
-import org.veri.be.domain.image.repository.OcrResultRepository;
 import org.veri.be.lib.exception.ApplicationException;
-import org.veri.be.lib.time.SleepSupport;
-
-import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
 public class MistralOcrService extends AbstractOcrService {
 
-    private final OcrPort ocrClient;
-    private final SleepSupport sleepSupport;
-    private final Executor ocrExecutor;
+    private final HedgedOcrRequester hedgedOcrRequester;
 
     public MistralOcrService(
-            OcrResultRepository ocrResultRepository,
-            OcrPort ocrClient,
-            SleepSupport sleepSupport,
-            @Qualifier("ocrExecutor") Executor ocrExecutor
+            OcrResultCache ocrResultCache,
+            HedgedOcrRequester hedgedOcrRequester
     ) {
-        super(ocrResultRepository);
-        this.ocrClient = ocrClient;
-        this.sleepSupport = sleepSupport;
-        this.ocrExecutor = ocrExecutor;
+        super(ocrResultCache);
+        this.hedgedOcrRequester = hedgedOcrRequester;
     }
 
     @Override
@@ -40,39 +28,20 @@ public class MistralOcrService extends AbstractOcrService {
     }
 
     @Override
-    protected String doExtract(String imageUrl) {
+    protected String doExtract(String imageUrl, OcrPageListener pageListener) {
         try {
-            sleepSupport.sleep(Duration.ofMillis(500));
+            return hedgedOcrRequester.request(imageUrl, getPreprocessedUrl(imageUrl), pageListener)
+                    .map(result -> {
+                        saveOcrResult(imageUrl, result.preprocessed() ? result.url() : null, result.text());
+                        return result.text();
+                    })
+                    .orElseThrow(() -> {
+                        log.error("Mistral OCR 전처리/원본 모두 실패");
+                        return ApplicationException.of(ImageErrorCode.OCR_PROCESSING_FAILED);
+                    });
         } catch (InterruptedException _) {
             Thread.currentThread().interrupt();
             throw ApplicationException.of(ImageErrorCode.OCR_PROCESSING_FAILED);
         }
-
-        String extracted = tryExtractAsync(imageUrl);
-        if (extracted != null) {
-            saveOcrResult(imageUrl, null, extracted);
-            return extracted;
-        }
-
-        String preprocessedUrl = getPreprocessedUrl(imageUrl);
-        extracted = tryExtractAsync(preprocessedUrl);
-        if (extracted != null) {
-            saveOcrResult(imageUrl, preprocessedUrl, extracted);
-            return extracted;
-        }
-
-        log.error("Mistral OCR 전처리/원본 모두 실패");
-        throw ApplicationException.of(ImageErrorCode.OCR_PROCESSING_FAILED);
-    }
-
-    private String tryExtractAsync(String targetImageUrl) {
-        try {
-            return CompletableFuture
-                    .supplyAsync(() -> ocrClient.requestOcr(targetImageUrl), ocrExecutor)
-                    .join();
-        } catch (CompletionException e) {
-            log.warn("Mistral OCR 실패 ({}): {}", targetImageUrl, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-            return null;
-        }
     }
 }
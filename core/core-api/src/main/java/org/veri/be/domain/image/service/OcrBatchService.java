@@ -0,0 +1,79 @@
+package org.veri.be.domain.image.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.veri.be.domain.image.dto.OcrBatchResponse;
+import org.veri.be.domain.image.dto.OcrPageResult;
+import org.veri.be.domain.image.exception.ImageErrorCode;
+import org.veri.be.lib.exception.ApplicationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 여러 페이지를 한 번에 OCR 한다.
+ * <p>
+ * 이미지 행은 한 번의 배치 INSERT 로 저장하고, 페이지별 OCR 은 배치당 동시 실행 수를 제한해 병렬로 수행한다.
+ * 결과는 입력 순서대로 반환하며 일부 페이지가 실패해도 나머지 결과는 그대로 돌려준다.
+ */
+@Slf4j
+@Service
+public class OcrBatchService {
+
+    private final ImageCommandService imageCommandService;
+    private final OcrService mistralOcrService;
+    private final Executor ocrExecutor;
+    private final int concurrency;
+
+    public OcrBatchService(
+            ImageCommandService imageCommandService,
+            OcrService mistralOcrService,
+            @Qualifier("ocrExecutor") Executor ocrExecutor,
+            @Value("${ocr.batch.concurrency:4}") int concurrency
+    ) {
+        this.imageCommandService = imageCommandService;
+        this.mistralOcrService = mistralOcrService;
+        this.ocrExecutor = ocrExecutor;
+        this.concurrency = concurrency;
+    }
+
+    public OcrBatchResponse extractAll(Long memberId, List<String> imageUrls) {
+        imageCommandService.registerImages(memberId, imageUrls);
+
+        Semaphore slots = new Semaphore(concurrency);
+        List<CompletableFuture<OcrPageResult>> pages = new ArrayList<>(imageUrls.size());
+        for (int i = 0; i < imageUrls.size(); i++) {
+            int page = i;
+            String imageUrl = imageUrls.get(i);
+            pages.add(CompletableFuture.supplyAsync(() -> extractPage(page, imageUrl, slots), ocrExecutor));
+        }
+
+        return OcrBatchResponse.of(pages.stream()
+                .map(CompletableFuture::join)
+                .toList());
+    }
+
+    private OcrPageResult extractPage(int page, String imageUrl, Semaphore slots) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return OcrPageResult.failure(page, imageUrl, ImageErrorCode.OCR_PROCESSING_FAILED);
+        }
+        try {
+            return OcrPageResult.success(page, imageUrl, mistralOcrService.extract(imageUrl));
+        } catch (ApplicationException e) {
+            return OcrPageResult.failure(page, imageUrl, e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.warn("Batch OCR page failed: page={}", page, e);
+            return OcrPageResult.failure(page, imageUrl, ImageErrorCode.OCR_PROCESSING_FAILED);
+        } finally {
+            slots.release();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.veri.be.domain.image.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.veri.be.domain.image.dto.OcrJobResponse;
+import org.veri.be.domain.image.exception.ImageErrorCode;
+import org.veri.be.domain.image.job.OcrJob;
+import org.veri.be.domain.image.job.OcrJobRegistry;
+import org.veri.be.lib.exception.ApplicationException;
+import org.veri.be.lib.exception.CommonErrorCode;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 요청 스레드를 붙잡지 않는 OCR 작업 API.
+ * <p>
+ * 이미지 등록만 짧은 트랜잭션으로 처리하고, Mistral 호출은 트랜잭션 없이 ocrJobExecutor 에서 수행하므로
+ * 업스트림을 기다리는 동안 JDBC 커넥션을 점유하지 않는다.
+ * 동시 실행 제한은 OcrBulkhead 한 곳에서 하므로, 자리를 얻지 못한 작업은 OCR_BUSY 로 실패한 상태가 된다.
+ */
+@Slf4j
+@Service
+public class OcrJobService {
+
+    private static final String STATUS_EVENT = "status";
+    private static final String PAGE_EVENT = "page";
+    private static final String RESULT_EVENT = "result";
+
+    private final ImageCommandService imageCommandService;
+    private final OcrService mistralOcrService;
+    private final OcrJobRegistry ocrJobRegistry;
+    private final Executor ocrJobExecutor;
+    private final Clock clock;
+    private final long sseTimeoutMillis;
+
+    public OcrJobService(
+            ImageCommandService imageCommandService,
+            OcrService mistralOcrService,
+            OcrJobRegistry ocrJobRegistry,
+            @Qualifier("ocrJobExecutor") Executor ocrJobExecutor,
+            Clock clock,
+            @Value("${ocr.job.sse-timeout-ms:60000}") long sseTimeoutMillis
+    ) {
+        this.imageCommandService = imageCommandService;
+        this.mistralOcrService = mistralOcrService;
+        this.ocrJobRegistry = ocrJobRegistry;
+        this.ocrJobExecutor = ocrJobExecutor;
+        this.clock = clock;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+    }
+
+    public OcrJobResponse submit(Long memberId, String imageUrl) {
+        imageCommandService.registerImage(memberId, imageUrl);
+
+        OcrJob job = new OcrJob(memberId, imageUrl, clock.instant());
+        ocrJobRegistry.register(job);
+        try {
+            ocrJobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException _) {
+            // 종료 중인 실행기가 거절한 경우
+            ocrJobRegistry.remove(job.getId());
+            throw ApplicationException.of(ImageErrorCode.OCR_BUSY);
+        }
+        return OcrJobResponse.from(job);
+    }
+
+    public OcrJobResponse getJob(Long memberId, String jobId) {
+        return OcrJobResponse.from(findOwnedJob(memberId, jobId));
+    }
+
+    /**
+     * 현재 상태를 즉시 한 번 보내고, OCR 응답의 페이지가 파싱될 때마다 page 이벤트를 보낸다.
+     * 작업이 끝나면 결과를 보낸 뒤 스트림을 닫는다.
+     * <p>
+     * 이벤트는 OCR 스레드에서 바로 쓰지 않고 구독자마다 둔 가상 스레드 하나가 순서대로 보낸다.
+     * 느린 클라이언트가 업스트림 응답 파싱과 OcrBulkhead 자리를 붙잡지 않게 하기 위함.
+     */
+    public SseEmitter subscribe(Long memberId, String jobId) {
+        OcrJob job = findOwnedJob(memberId, jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        try {
+            emitter.send(SseEmitter.event().name(STATUS_EVENT).data(OcrJobResponse.from(job), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        ExecutorService sender = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("ocr-sse-", 0).factory());
+        emitter.onCompletion(sender::shutdown);
+
+        job.onPage(page -> dispatch(sender, () -> {
+            try {
+                emitter.send(SseEmitter.event().name(PAGE_EVENT).data(page, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("OCR job stream closed before page was sent: jobId={}", job.getId());
+            }
+        }));
+        job.whenDone(done -> dispatch(sender, () -> {
+            try {
+                emitter.send(SseEmitter.event().name(RESULT_EVENT).data(OcrJobResponse.from(done), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 먼저 끊었거나 타임아웃된 경우. 결과는 폴링으로 다시 조회할 수 있다.
+                log.debug("OCR job stream closed before result was sent: jobId={}", done.getId());
+            } finally {
+                sender.shutdown();
+            }
+        }));
+        return emitter;
+    }
+
+    private static void dispatch(ExecutorService sender, Runnable send) {
+        try {
+            sender.execute(send);
+        } catch (RejectedExecutionException _) {
+            // 스트림이 이미 닫혀 보낼 곳이 없다.
+        }
+    }
+
+    private void run(OcrJob job) {
+        job.start();
+        try {
+            String text = mistralOcrService.extract(job.getImageUrl(), job::addPage);
+            job.succeed(text, clock.instant());
+        } catch (ApplicationException e) {
+            job.fail(e.getErrorCode(), clock.instant());
+        } catch (RuntimeException e) {
+            log.warn("OCR job failed: jobId={}", job.getId(), e);
+            job.fail(ImageErrorCode.OCR_PROCESSING_FAILED, clock.instant());
+        }
+    }
+
+    private OcrJob findOwnedJob(Long memberId, String jobId) {
+        return ocrJobRegistry.find(jobId)
+                .filter(job -> job.isOwnedBy(memberId))
+                .orElseThrow(() -> ApplicationException.of(CommonErrorCode.RESOURCE_NOT_FOUND));
+    }
+}
@@ -1,6 +1,12 @@
 package org.veri.be.domain.image.service;
 
+import org.veri.be.domain.image.client.OcrPageListener;
+
 public interface OcrService {
 
     String extract(String imageUrl);
+
+    default String extract(String imageUrl, OcrPageListener pageListener) {
+        return extract(imageUrl);
+    }
 }
@@ -19,10 +19,14 @@ public class MemberResponse {
         private Integer numOfCard;
 
         public static MemberInfoResponse from(Member member, int numOfBook, int numOfCard) {
+            return from(MemberSnapshot.from(member), numOfBook, numOfCard);
+        }
+
+        public static MemberInfoResponse from(MemberSnapshot member, int numOfBook, int numOfCard) {
             return MemberInfoResponse.builder()
-                    .email(member.getEmail())
-                    .nickname(member.getNickname())
-                    .image(member.getProfileImageUrl())
+                    .email(member.email())
+                    .nickname(member.nickname())
+                    .image(member.profileImageUrl())
                     .numOfReadBook(numOfBook)
                     .numOfCard(numOfCard)
                     .build();
@@ -0,0 +1,22 @@
+package org.veri.be.domain.member.dto;
+
+import org.veri.be.domain.member.entity.Member;
+
+/**
+ * 캐시에 두는 회원 정보. 영속성 컨텍스트와 무관한 불변 값이다.
+ */
+public record MemberSnapshot(
+        Long id,
+        String email,
+        String nickname,
+        String profileImageUrl
+) {
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(
+                member.getId(),
+                member.getEmail(),
+                member.getNickname(),
+                member.getProfileImageUrl()
+        );
+    }
+}
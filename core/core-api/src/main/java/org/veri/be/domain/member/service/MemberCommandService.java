@@ -1,6 +1,7 @@
 package org.veri.be.domain.member.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.veri.be.domain.member.dto.MemberResponse;
 import org.veri.be.domain.member.dto.UpdateMemberInfoRequest;
 import org.veri.be.domain.member.entity.Member;
@@ -8,6 +9,7 @@ import org.veri.be.domain.member.exception.MemberErrorCode;
 import org.veri.be.domain.member.repository.MemberRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.veri.be.global.cache.CacheConfig;
 import org.veri.be.lib.exception.ApplicationException;
 
 @Service
@@ -18,6 +20,7 @@ public class MemberCommandService {
     private final MemberRepository memberRepository;
 
 
+    @CacheEvict(cacheNames = CacheConfig.CURRENT_MEMBER_INFO, key = "#memberId")
     @Transactional
     public MemberResponse.MemberSimpleResponse updateInfo(UpdateMemberInfoRequest request, Long memberId) {
         Member requestMember = memberRepository.findById(memberId).orElseThrow(() ->
@@ -10,7 +10,7 @@ import org.veri.be.domain.member.repository.MemberRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.veri.be.global.auth.context.CurrentMemberInfo;
-import org.veri.be.global.auth.context.ThreadLocalCurrentMemberAccessor;
+import org.veri.be.global.auth.context.CurrentMemberAccessor;
 import org.veri.be.lib.exception.ApplicationException;
 
 @Transactional(readOnly = true)
@@ -21,7 +21,7 @@ public class MemberQueryService {
     private final MemberRepository memberRepository;
     private final ReadingRepository readingRepository;
     private final CardRepository cardRepository;
-    private final ThreadLocalCurrentMemberAccessor threadLocalCurrentMemberAccessor;
+    private final CurrentMemberAccessor currentMemberAccessor;
 
     public Member findById(Long id) {
         return memberRepository.findById(id).orElseThrow(() ->
@@ -30,7 +30,7 @@ public class MemberQueryService {
 
     public MemberResponse.MemberInfoResponse findMyInfo(CurrentMemberInfo memberInfo) {
         return MemberResponse.MemberInfoResponse.from(
-                threadLocalCurrentMemberAccessor.getMemberOrThrow(),
+                currentMemberAccessor.getMemberSnapshotOrThrow(),
                 readingRepository.countAllByMemberId(memberInfo.id()),
                 cardRepository.countAllByMemberId(memberInfo.id())
         );
@@ -0,0 +1,236 @@
+package org.veri.be.domain.post.counter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.veri.be.domain.post.repository.PostRepository;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * 좋아요 수 증감을 게시글별 LongAdder 에 모아두었다가 주기적으로 post.like_count 에 일괄 반영한다.
+ * 인기 게시글의 같은 row 에 UPDATE 가 몰리는 것을 막기 위한 write-behind 버퍼이며, 조회 값은 근사치이다.
+ * <p>
+ * 종료 시에는 웹 서버가 요청을 더 받지 않게 된 뒤, DataSource 가 닫히기 전에 남은 증감을 한 번 더 반영한다.
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer implements SmartLifecycle {
+
+    // 웹 서버 종료(DEFAULT_PHASE - 2048)보다 늦게 멈춘다. 빈 소멸(DataSource 종료)은 모든 phase 가 멈춘 뒤이다.
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Timer flushTimer;
+
+    // add 는 readLock, flush 의 맵 교체는 writeLock. 교체 이후 이전 맵에 대한 쓰기가 없음을 보장한다.
+    private final StampedLock swapLock = new StampedLock();
+    private volatile Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile Map<Long, LongAdder> flushing = Map.of();
+    private volatile long lastFlushedAtMillis;
+    // flush 와 보정이 겹치지 않게 한다. tracked 는 보정 중에만 증감이 들어온 게시글 id 를 모은다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile Set<Long> tracked;
+    private volatile boolean running;
+
+    public LikeCountBuffer(
+            PostRepository postRepository,
+            TransactionTemplate transactionTemplate,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.lastFlushedAtMillis = clock.millis();
+        this.flushTimer = Timer.builder("post.like.buffer.flush")
+                .description("좋아요 카운터 flush 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("post.like.buffer.pending.posts", this, buffer -> buffer.pending.size())
+                .description("반영 대기 중인 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("post.like.buffer.pending.deltas", this, LikeCountBuffer::pendingDeltaVolume)
+                .description("반영 대기 중인 증감량 절댓값 합")
+                .register(meterRegistry);
+        Gauge.builder("post.like.buffer.flush.lag", this, LikeCountBuffer::flushLagMillis)
+                .description("마지막 flush 이후 경과 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 증감을 반영한다. 롤백된 좋아요가 카운터에 남지 않도록 하기 위함.
+     */
+    public void addAfterCommit(Long postId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(postId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(postId, delta);
+            }
+        });
+    }
+
+    public void add(Long postId, long delta) {
+        long stamp = swapLock.readLock();
+        try {
+            pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+            Set<Long> touched = tracked;
+            if (touched != null) {
+                touched.add(postId);
+            }
+        } finally {
+            swapLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * DB 에 반영된 값과 아직 반영되지 않은 증감을 합한 근사치.
+     * flush 커밋 직전부터 커밋이 보일 때까지는 반영 중인 증감이 빠진 값이 나올 수 있다. (이중 집계보다 짧게 낮은 쪽을 택함)
+     */
+    public long approximate(Long postId, long persisted) {
+        return Math.max(0L, persisted + pendingOf(pending, postId) + pendingOf(flushing, postId));
+    }
+
+    @Scheduled(fixedDelayString = "${post.like.buffer.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 밀린 증감을 반영하고, 그 뒤로는 flush 를 멈춘 채 reconciliation 을 실행한다.
+     * <p>
+     * reconciliation 에는 이 메서드가 끝날 때까지 증감이 들어온 게시글 id 집합이 계속 채워지며 넘어간다.
+     * 이 게시글들은 원본 COUNT 에 이미 들어간 좋아요가 버퍼에도 남아 있을 수 있으므로 보정에서 빼야 한다.
+     * flush 가 멈춰 있으므로 실행 중에는 like_count 컬럼이 바뀌지 않는다.
+     */
+    public <T> T reconcile(Function<Set<Long>, T> reconciliation) {
+        flushLock.lock();
+        try {
+            Set<Long> touched = ConcurrentHashMap.newKeySet();
+            swapTracked(touched);
+            try {
+                flushPending();
+                return reconciliation.apply(touched);
+            } finally {
+                swapTracked(null);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        try {
+            flush();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void swapTracked(Set<Long> touched) {
+        long stamp = swapLock.writeLock();
+        try {
+            tracked = touched;
+        } finally {
+            swapLock.unlockWrite(stamp);
+        }
+    }
+
+    private void flushPending() {
+        Map<Long, LongAdder> snapshot;
+        long stamp = swapLock.writeLock();
+        try {
+            snapshot = pending;
+            flushing = snapshot;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.unlockWrite(stamp);
+        }
+
+        if (snapshot.isEmpty()) {
+            lastFlushedAtMillis = clock.millis();
+            return;
+        }
+
+        // 같은 증감량끼리 묶어 IN 절 UPDATE 한 번으로 반영한다.
+        Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+        snapshot.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                postIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(postId);
+            }
+        });
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                postIdsByDelta.forEach((delta, postIds) -> postRepository.addLikeCounts(postIds, delta));
+                // 커밋으로 DB 값에 반영되기 전에 비워야 approximate 가 같은 증감을 두 번 더하지 않는다.
+                flushing = Map.of();
+            }));
+            lastFlushedAtMillis = clock.millis();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush like count buffer. Deltas are re-queued: posts={}", snapshot.size(), e);
+            flushing = Map.of();
+            snapshot.forEach((postId, adder) -> add(postId, adder.sum()));
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    private long pendingDeltaVolume() {
+        return pending.values().stream().mapToLong(adder -> Math.abs(adder.sum())).sum();
+    }
+
+    private long flushLagMillis() {
+        return clock.millis() - lastFlushedAtMillis;
+    }
+
+    private static long pendingOf(Map<Long, LongAdder> deltas, Long postId) {
+        LongAdder adder = deltas.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+}
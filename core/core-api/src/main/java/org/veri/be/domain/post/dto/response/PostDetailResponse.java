@@ -27,7 +27,15 @@ public record PostDetailResponse(
         long commentCount,
         LocalDateTime createdAt
 ) {
-    public static PostDetailResponse from(Post post, DetailLikeInfoQueryResult likeInfo, List<CommentResponse> comments) {
+    /**
+     * @param likeCount 버퍼에 남은 증감까지 더한 좋아요 수 (좋아요 API 응답과 같은 값)
+     */
+    public static PostDetailResponse from(
+            Post post,
+            long likeCount,
+            DetailLikeInfoQueryResult likeInfo,
+            List<CommentResponse> comments
+    ) {
         List<String> imageUrls = post.getImages().stream()
                 .map(PostImage::getImageUrl)
                 .toList();
@@ -39,7 +47,7 @@ public record PostDetailResponse(
                 .images(imageUrls)
                 .author(MemberProfileResponse.from(post.getAuthor()))
                 .book(BookResponse.from(post.getBook()))
-                .likeCount(likeInfo.likeCount())
+                .likeCount(likeCount)
                 .isLiked(likeInfo.isLiked())
                 .likedMembers(likeInfo.likedMembers().stream()
                         .map(MemberProfileResponse::from)
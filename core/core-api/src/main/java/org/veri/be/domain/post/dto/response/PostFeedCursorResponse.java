@@ -0,0 +1,29 @@
+package org.veri.be.domain.post.dto.response;
+
+import org.springframework.data.domain.Slice;
+import org.veri.be.domain.post.repository.dto.PostFeedQueryResult;
+import org.veri.be.global.response.FeedCursor;
+
+import java.util.List;
+
+public record PostFeedCursorResponse(
+        List<PostFeedResponseItem> posts,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static PostFeedCursorResponse from(Slice<PostFeedQueryResult> slice) {
+        List<PostFeedQueryResult> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            PostFeedQueryResult last = content.getLast();
+            nextCursor = FeedCursor.of(last.createdAt(), last.postId()).encode();
+        }
+        return new PostFeedCursorResponse(
+                content.stream().map(PostFeedResponseItem::from).toList(),
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+}
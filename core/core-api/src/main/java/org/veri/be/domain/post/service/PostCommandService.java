@@ -1,6 +1,7 @@
 package org.veri.be.domain.post.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.veri.be.domain.book.entity.Book;
@@ -8,17 +9,19 @@ import org.veri.be.domain.book.service.BookService;
 import org.veri.be.domain.card.entity.CardErrorInfo;
 import org.veri.be.domain.member.entity.Member;
 import org.veri.be.domain.member.repository.MemberRepository;
+import org.veri.be.domain.post.counter.LikeCountBuffer;
 import org.veri.be.domain.post.dto.request.PostCreateRequest;
 import org.veri.be.domain.post.dto.response.LikeInfoResponse;
-import org.veri.be.domain.post.entity.LikePost;
 import org.veri.be.domain.post.entity.Post;
 import org.veri.be.domain.post.repository.LikePostRepository;
 import org.veri.be.domain.post.repository.PostRepository;
+import org.veri.be.global.cache.CacheConfig;
 import org.veri.be.global.storage.dto.PresignedUrlRequest;
 import org.veri.be.global.storage.dto.PresignedUrlResponse;
 import org.veri.be.global.storage.service.StorageService;
 import org.veri.be.global.storage.service.StorageUtil;
 import org.veri.be.lib.exception.ApplicationException;
+import org.veri.be.lib.exception.CommonErrorCode;
 
 import static org.veri.be.global.storage.service.StorageConstants.MB;
 
@@ -32,7 +35,9 @@ public class PostCommandService {
     private final StorageService storageService;
     private final LikePostRepository likePostRepository;
     private final MemberRepository memberRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
+    @CacheEvict(cacheNames = CacheConfig.POST_FEED, allEntries = true)
     @Transactional
     public Long createPost(PostCreateRequest request, Long memberId) {
         Book book = this.bookService.getBookById(request.bookId());
@@ -53,6 +58,7 @@ public class PostCommandService {
         return post.getId();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.POST_FEED, allEntries = true)
     @Transactional
     public void deletePost(Long postId, Long memberId) {
         Post post = this.postQueryService.getPostById(postId);
@@ -60,6 +66,7 @@ public class PostCommandService {
         this.postRepository.deleteById(postId);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.POST_FEED, allEntries = true)
     @Transactional
     public void publishPost(Long postId, Long memberId) {
         Post post = this.postQueryService.getPostById(postId);
@@ -68,6 +75,7 @@ public class PostCommandService {
         postRepository.save(post);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.POST_FEED, allEntries = true)
     @Transactional
     public void unPublishPost(Long postId, Long memberId) {
         Post post = this.postQueryService.getPostById(postId);
@@ -92,23 +100,28 @@ public class PostCommandService {
 
     @Transactional
     public LikeInfoResponse likePost(Long postId, Long memberId) {
-        if (likePostRepository.existsByPostIdAndMemberId(postId, memberId)) {
-            return new LikeInfoResponse(likePostRepository.countByPostId(postId), true);
-        }
+        boolean liked = likePostRepository.like(postId, memberId);
+        long persisted = postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> ApplicationException.of(CommonErrorCode.RESOURCE_NOT_FOUND));
 
-        LikePost likePost = LikePost.builder()
-                .post(postQueryService.getPostById(postId))
-                .member(memberRepository.getReferenceById(memberId))
-                .build();
+        if (!liked) {
+            return new LikeInfoResponse(likeCountBuffer.approximate(postId, persisted), true);
+        }
 
-        likePostRepository.save(likePost);
-        return new LikeInfoResponse(likePostRepository.countByPostId(postId), true);
+        likeCountBuffer.addAfterCommit(postId, 1);
+        return new LikeInfoResponse(likeCountBuffer.approximate(postId, persisted) + 1, true);
     }
 
     @Transactional
     public LikeInfoResponse unlikePost(Long postId, Long memberId) {
-        likePostRepository.deleteByPostIdAndMemberId(postId, memberId);
+        boolean unliked = likePostRepository.unlike(postId, memberId);
+        long likeCount = likeCountBuffer.approximate(postId, postRepository.findLikeCountById(postId).orElse(0L));
+
+        if (!unliked) {
+            return new LikeInfoResponse(likeCount, false);
+        }
 
-        return new LikeInfoResponse(likePostRepository.countByPostId(postId), false);
+        likeCountBuffer.addAfterCommit(postId, -1);
+        return new LikeInfoResponse(Math.max(0L, likeCount - 1), false);
     }
 }
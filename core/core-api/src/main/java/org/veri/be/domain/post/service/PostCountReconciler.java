@@ -0,0 +1,41 @@
+package org.veri.be.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.veri.be.domain.post.counter.LikeCountBuffer;
+import org.veri.be.domain.post.repository.PostRepository;
+import org.veri.be.domain.post.repository.dto.LikeCountDrift;
+
+/**
+ * post.like_count / post.comment_count 비정규화 컬럼을 원본 테이블 기준으로 주기적으로 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountReconciler {
+
+    private final PostRepository postRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${post.count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        // 보정 중에 좋아요가 들어온 게시글은 COUNT 와 버퍼에 같은 좋아요가 함께 있을 수 있어 다음 보정으로 미룬다.
+        likeCountBuffer.reconcile(touched -> transactionTemplate.execute(status -> {
+            int likeFixed = 0;
+            for (LikeCountDrift drift : postRepository.findLikeCountDrifts()) {
+                if (!touched.contains(drift.postId())) {
+                    likeFixed += postRepository.setLikeCount(drift.postId(), drift.actualCount());
+                }
+            }
+            int commentFixed = postRepository.reconcileCommentCounts();
+            if (likeFixed > 0 || commentFixed > 0) {
+                log.warn("Post counter drift repaired: like={}, comment={}", likeFixed, commentFixed);
+            }
+            return null;
+        }));
+    }
+}
@@ -4,10 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.veri.be.domain.comment.service.CommentQueryService;
 import org.veri.be.domain.post.controller.enums.PostSortType;
+import org.veri.be.domain.post.counter.LikeCountBuffer;
 import org.veri.be.domain.post.dto.response.PostDetailResponse;
 import org.veri.be.domain.post.dto.response.PostFeedResponseItem;
 import org.veri.be.domain.post.entity.Post;
@@ -15,6 +18,8 @@ import org.veri.be.domain.post.repository.LikePostRepository;
 import org.veri.be.domain.post.repository.PostRepository;
 import org.veri.be.domain.post.repository.dto.DetailLikeInfoQueryResult;
 import org.veri.be.domain.post.repository.dto.PostFeedQueryResult;
+import org.veri.be.global.cache.CacheConfig;
+import org.veri.be.global.response.FeedCursor;
 import org.veri.be.lib.exception.CommonErrorCode;
 import org.veri.be.lib.exception.ApplicationException;
 
@@ -28,7 +33,13 @@ public class PostQueryService {
     private final PostRepository postRepository;
     private final LikePostQueryService likePostQueryService;
     private final CommentQueryService commentQueryService;
+    private final LikeCountBuffer likeCountBuffer;
 
+    @Cacheable(
+            cacheNames = CacheConfig.POST_FEED,
+            key = "'page:' + #page + ':' + #size",
+            condition = "#sortType.name() == 'NEWEST' && #page < T(org.veri.be.global.cache.CacheConfig).FEED_CACHED_PAGES"
+    )
     public Page<PostFeedQueryResult> getPostFeeds(
             int page, int size, PostSortType sortType
     ) {
@@ -36,6 +47,16 @@ public class PostQueryService {
         return postRepository.getPostFeeds(pageRequest);
     }
 
+    @Cacheable(cacheNames = CacheConfig.POST_FEED, key = "'cursor:' + #size", condition = "#cursor == null")
+    public Slice<PostFeedQueryResult> getPostFeedsByCursor(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        if (cursor == null || cursor.isBlank()) {
+            return postRepository.getLatestPostFeeds(limit);
+        }
+        FeedCursor decoded = FeedCursor.decode(cursor);
+        return postRepository.getPostFeedsBefore(decoded.createdAt(), decoded.id(), limit);
+    }
+
     public List<PostFeedResponseItem> getPostsOfMember(Long memberId) {
         return postRepository.findAllByAuthorId(memberId).stream().map(PostFeedResponseItem::from).toList();
     }
@@ -52,6 +73,7 @@ public class PostQueryService {
         DetailLikeInfoQueryResult likeInfo = likePostQueryService.getDetailLikeInfoOfPost(postId, requesterId);
         List<PostDetailResponse.CommentResponse> comments = commentQueryService.getCommentsByPostId(postId);
 
-        return PostDetailResponse.from(post, likeInfo, comments);
+        long likeCount = likeCountBuffer.approximate(postId, post.getLikeCount());
+        return PostDetailResponse.from(post, likeCount, likeInfo, comments);
     }
 }
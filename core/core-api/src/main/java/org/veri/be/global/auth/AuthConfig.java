@@ -2,6 +2,7 @@ package org.veri.be.global.auth;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -60,13 +61,15 @@ public class AuthConfig {
 
     @Bean
     @ConditionalOnBooleanProperty(prefix = "auth.jwt", name = "use")
-    public FilterRegistrationBean<OncePerRequestFilter> firstFilterRegister() {
-        log.info("JWT Filter registered. supported schema: {}",
-                Arrays.toString(JwtClaimsPayload.class.getRecordComponents())
+    public FilterRegistrationBean<OncePerRequestFilter> firstFilterRegister(
+            @Value("${auth.jwt.lazy:false}") boolean lazy
+    ) {
+        log.info("JWT Filter registered. lazy: {}, supported schema: {}",
+                lazy, Arrays.toString(JwtClaimsPayload.class.getRecordComponents())
         );
 
         FilterRegistrationBean<OncePerRequestFilter> registrationBean =
-                new FilterRegistrationBean<>(new JwtFilter(tokenBlacklistStore, tokenProvider));
+                new FilterRegistrationBean<>(new JwtFilter(tokenBlacklistStore, tokenProvider, lazy));
 
         registrationBean.setUrlPatterns(Collections.singletonList("/api/*"));
 
@@ -1,5 +1,6 @@
 package org.veri.be.global.auth.context;
 
+import org.veri.be.domain.member.dto.MemberSnapshot;
 import org.veri.be.domain.member.entity.Member;
 import org.veri.be.global.auth.AuthErrorInfo;
 import org.veri.be.lib.exception.ApplicationException;
@@ -19,4 +20,11 @@ public interface CurrentMemberAccessor {
     default Member getMemberOrThrow() {
         return getCurrentMember().orElseThrow(() -> ApplicationException.of(AuthErrorInfo.UNAUTHORIZED));
     }
+
+    /**
+     * 읽기 전용 화면용. 엔티티 대신 캐시된 스냅샷을 반환하므로 변경 감지 대상이 아니다.
+     */
+    default MemberSnapshot getMemberSnapshotOrThrow() {
+        return MemberSnapshot.from(getMemberOrThrow());
+    }
 }
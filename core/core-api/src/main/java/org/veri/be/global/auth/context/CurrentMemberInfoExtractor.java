@@ -0,0 +1,53 @@
+package org.veri.be.global.auth.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * access token 클레임에서 {@link CurrentMemberInfo} 를 꺼낸다.
+ * <p>
+ * 클레임 이름은 발급 시 직렬화하는 {@link org.veri.be.global.auth.JwtClaimsPayload} 의 필드명과 같다.
+ * 요청마다 불리므로 ObjectMapper 변환 없이 필요한 세 값만 맵에서 바로 읽는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CurrentMemberInfoExtractor {
+
+    private static final String ID = "id";
+    private static final String EMAIL = "email";
+    private static final String NICKNAME = "nickName";
+
+    /**
+     * @return id 클레임이 없거나 숫자로 읽을 수 없으면 null
+     */
+    public static CurrentMemberInfo extract(Map<String, ?> claims) {
+        Long id = toLong(claims.get(ID));
+        if (id == null) {
+            return null;
+        }
+        return new CurrentMemberInfo(id, toText(claims.get(EMAIL)), toText(claims.get(NICKNAME)));
+    }
+
+    // JSON 파서에 따라 작은 수는 Integer 로 올 수 있다.
+    private static Long toLong(Object value) {
+        if (value instanceof Long number) {
+            return number;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.valueOf(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static String toText(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package org.veri.be.global.auth.context;
+
+import java.util.function.Function;
+
+/**
+ * 요청 하나의 인증 상태.
+ * <p>
+ * 지연 모드에서는 토큰만 들고 있다가 회원 정보를 처음 읽을 때 authenticator 로 한 번만 검증한다.
+ * 검증이 예외로 끝나면 결과를 남기지 않으므로 다음 조회도 같은 예외를 던진다.
+ */
+final class MemberAuthentication {
+
+    private final String token;
+    private Function<String, CurrentMemberInfo> authenticator;
+    private CurrentMemberInfo memberInfo;
+
+    private MemberAuthentication(String token, CurrentMemberInfo memberInfo, Function<String, CurrentMemberInfo> authenticator) {
+        this.token = token;
+        this.memberInfo = memberInfo;
+        this.authenticator = authenticator;
+    }
+
+    static MemberAuthentication resolved(CurrentMemberInfo memberInfo, String token) {
+        return new MemberAuthentication(token, memberInfo, null);
+    }
+
+    static MemberAuthentication lazy(String token, Function<String, CurrentMemberInfo> authenticator) {
+        return new MemberAuthentication(token, null, token != null ? authenticator : null);
+    }
+
+    synchronized CurrentMemberInfo memberInfo() {
+        if (authenticator != null) {
+            memberInfo = authenticator.apply(token);
+            authenticator = null;
+        }
+        return memberInfo;
+    }
+
+    String token() {
+        return memberInfo() != null ? token : null;
+    }
+}
@@ -5,29 +5,60 @@ import lombok.extern.slf4j.Slf4j;
 import org.veri.be.global.auth.JwtClaimsPayload;
 
 import java.util.Optional;
+import java.util.function.Function;
 
+/**
+ * 현재 요청의 회원 정보와 access token.
+ * <p>
+ * 요청 처리 중에는 JwtFilter 가 {@link #bind} 로 묶은 ScopedValue 를 읽는다. 바인딩은 filter chain 이 끝나면 사라지므로 따로 정리할 필요가 없고,
+ * 가상 스레드마다 ThreadLocal 맵을 만들지 않는다. 요청 밖(테스트, 스케줄러 등)에서는 ThreadLocal 에 직접 지정한 값을 쓴다.
+ * {@link #bindLazily} 로 묶으면 토큰 검증은 회원 정보를 처음 읽는 시점으로 미뤄진다.
+ */
 @Slf4j
 @RequiredArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 public class MemberContext {
 
+    private static final ScopedValue<MemberAuthentication> AUTHENTICATION = ScopedValue.newInstance();
+
     public static final ThreadLocal<CurrentMemberInfo> currentMemberInfo = new ThreadLocal<>();
     public static final ThreadLocal<String> currentToken = new ThreadLocal<>();
 
+    /**
+     * 비로그인 요청도 null 로 묶어 두어야 조회가 ThreadLocal 로 내려가지 않는다.
+     */
+    public static ScopedValue.Carrier bind(CurrentMemberInfo memberInfo, String token) {
+        return ScopedValue.where(AUTHENTICATION, MemberAuthentication.resolved(memberInfo, token));
+    }
+
+    /**
+     * 토큰만 묶어 두고, 회원 정보나 토큰을 처음 읽을 때 authenticator 로 검증한다. authenticator 가 null 을 반환하면 비로그인으로 본다.
+     */
+    public static ScopedValue.Carrier bindLazily(String token, Function<String, CurrentMemberInfo> authenticator) {
+        return ScopedValue.where(AUTHENTICATION, MemberAuthentication.lazy(token, authenticator));
+    }
+
     public static void setCurrentToken(String token) {
         currentToken.set(token);
     }
 
     public static void setCurrentMemberInfo(JwtClaimsPayload claim) {
-        CurrentMemberInfo memberInfo = CurrentMemberInfo.from(claim);
+        setCurrentMemberInfo(CurrentMemberInfo.from(claim));
+    }
+
+    public static void setCurrentMemberInfo(CurrentMemberInfo memberInfo) {
         currentMemberInfo.set(memberInfo);
     }
 
     public static Optional<CurrentMemberInfo> getCurrentMemberInfo() {
-        return Optional.ofNullable(currentMemberInfo.get());
+        return Optional.ofNullable(AUTHENTICATION.isBound() ? AUTHENTICATION.get().memberInfo() : currentMemberInfo.get());
     }
 
     public static Optional<Long> getCurrentMemberId() {
-        return Optional.ofNullable(currentMemberInfo.get()).map(CurrentMemberInfo::id);
+        return getCurrentMemberInfo().map(CurrentMemberInfo::id);
+    }
+
+    public static Optional<String> getCurrentToken() {
+        return Optional.ofNullable(AUTHENTICATION.isBound() ? AUTHENTICATION.get().token() : currentToken.get());
     }
 
     public static void clear() {
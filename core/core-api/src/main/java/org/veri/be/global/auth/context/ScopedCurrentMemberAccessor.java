@@ -1,18 +1,22 @@
 package org.veri.be.global.auth.context;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.veri.be.domain.member.dto.MemberSnapshot;
 import org.veri.be.domain.member.entity.Member;
 import org.veri.be.domain.member.repository.MemberRepository;
 import org.veri.be.global.auth.AuthErrorInfo;
+import org.veri.be.global.cache.CacheConfig;
+import org.veri.be.global.cache.ContextKeyProvider;
 import org.veri.be.lib.exception.ApplicationException;
 
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
-public class ThreadLocalCurrentMemberAccessor implements CurrentMemberAccessor {
+public class ScopedCurrentMemberAccessor implements CurrentMemberAccessor, ContextKeyProvider {
 
     private final MemberRepository memberRepository;
 
@@ -28,4 +32,19 @@ public class ThreadLocalCurrentMemberAccessor implements CurrentMemberAccessor {
                 () -> ApplicationException.of(AuthErrorInfo.UNAUTHORIZED)
         ));
     }
+
+    /**
+     * 현재 회원 id 로 캐싱한다. 회원 정보 변경 시 MemberCommandService 가 해당 id 만 무효화한다.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CURRENT_MEMBER_INFO, keyGenerator = "contextKeyGenerator")
+    @Override
+    public MemberSnapshot getMemberSnapshotOrThrow() {
+        return MemberSnapshot.from(getMemberOrThrow());
+    }
+
+    @Override
+    public Object getContextKey() {
+        return MemberContext.getCurrentMemberId().orElse(null);
+    }
 }
@@ -1,6 +1,8 @@
 package org.veri.be.global.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -8,23 +10,67 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.List;
 
 @EnableCaching
 @Configuration
 public class CacheConfig {
 
     public static final String CURRENT_MEMBER_INFO = "currentMemberInfo";
-    public static final String TOKEN_BLACKLIST = "tokenBlacklist";
+    public static final String POST_FEED = "postFeed";
+    public static final String CARD_FEED = "cardFeed";
+    public static final String MEMBER_READING_COUNTS = "memberReadingCounts";
+    public static final String MEMBER_CARD_COUNT = "memberCardCount";
+    public static final String MEMBER_IMAGE_COUNT = "memberImageCount";
+
+    // 최신순 피드의 앞쪽 몇 페이지만 캐싱한다. (0-based page < FEED_CACHED_PAGES)
+    public static final int FEED_CACHED_PAGES = 3;
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                CURRENT_MEMBER_INFO,
-                TOKEN_BLACKLIST
-        );
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofSeconds(30))
-                .maximumSize(1000));
+    public CacheManager cacheManager(
+            @Value("${cache.feed.ttl-seconds:10}") long feedTtlSeconds,
+            @Value("${cache.member-count.ttl-seconds:600}") long memberCountTtlSeconds,
+            @Value("${cache.current-member.ttl-seconds:300}") long currentMemberTtlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 아래에서 등록한 리전만 쓴다.
+        cacheManager.setCacheNames(List.of());
+
+        // 현재 회원 스냅샷. 같은 인스턴스의 변경은 회원 id 로 즉시 무효화하고, 다른 인스턴스의 변경은 TTL 만큼 늦게 반영된다.
+        cacheManager.registerCustomCache(CURRENT_MEMBER_INFO, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(currentMemberTtlSeconds))
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+
+        // 피드 캐시는 좋아요/댓글 수가 TTL 만큼 늦게 반영될 수 있다. 목록 구성 변경은 쓰기 시점에 무효화한다.
+        cacheManager.registerCustomCache(POST_FEED, feedCache(Duration.ofSeconds(feedTtlSeconds)));
+        cacheManager.registerCustomCache(CARD_FEED, feedCache(Duration.ofSeconds(feedTtlSeconds)));
+
+        // 개인 목록의 전체 개수. 회원 단위 키로 쓰기 시점에 해당 회원만 무효화한다.
+        Duration memberCountTtl = Duration.ofSeconds(memberCountTtlSeconds);
+        cacheManager.registerCustomCache(MEMBER_READING_COUNTS, memberCountCache(memberCountTtl));
+        cacheManager.registerCustomCache(MEMBER_CARD_COUNT, memberCountCache(memberCountTtl));
+        cacheManager.registerCustomCache(MEMBER_IMAGE_COUNT, memberCountCache(memberCountTtl));
+
+        // 무효화가 커밋 이후에 일어나도록 하여, 커밋 전 재조회로 이전 데이터가 다시 캐싱되는 것을 막는다.
+        cacheManager.setTransactionAware(true);
         return cacheManager;
     }
+
+    private static Cache<Object, Object> feedCache(Duration ttl) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(100)
+                .recordStats()
+                .build();
+    }
+
+    private static Cache<Object, Object> memberCountCache(Duration ttl) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(10_000)
+                .recordStats()
+                .build();
+    }
 }
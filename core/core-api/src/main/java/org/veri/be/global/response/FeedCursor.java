@@ -0,0 +1,45 @@
+package org.veri.be.global.response;
+
+import org.veri.be.lib.exception.ApplicationException;
+import org.veri.be.lib.exception.CommonErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 keyset 페이지네이션 커서. (createdAt, id) 를 클라이언트에는 불투명한 문자열로 전달한다.
+ */
+public record FeedCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static FeedCursor of(LocalDateTime createdAt, Long id) {
+        return new FeedCursor(createdAt, id);
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw ApplicationException.of(CommonErrorCode.INVALID_REQUEST);
+            }
+            return new FeedCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw ApplicationException.of(CommonErrorCode.INVALID_REQUEST);
+        }
+    }
+}
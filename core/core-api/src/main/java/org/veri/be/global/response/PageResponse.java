@@ -3,19 +3,36 @@ package org.veri.be.global.response;
 import org.springframework.data.domain.Pageable;
 
 
+/**
+ * 페이지 응답.
+ * <p>
+ * 슬라이스 모드에서는 COUNT 쿼리를 생략하므로, 클라이언트가 요청한 경우에만 totalElements/totalPages 를 채운다.
+ */
 public record PageResponse<T>(
         T content,
         int page,
         int size,
-        long totalElements,
-        int totalPages
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext
 ) {
     public static <T> PageResponse<T> of(T content, int page, int size, long totalElements, int totalPages) {
         // 전달 받은 page가 0-based index이므로 다시 1-based index로 보정하여 프론트에 전달.
-        return new PageResponse<>(content, page + 1, size, totalElements, totalPages);
+        return new PageResponse<>(content, page + 1, size, totalElements, totalPages, page + 1 < totalPages);
+    }
+
+    public static <T> PageResponse<T> ofSlice(T content, int page, int size, boolean hasNext, Long totalElements) {
+        return new PageResponse<>(content, page + 1, size, totalElements, totalPages(totalElements, size), hasNext);
     }
 
     public static <T> PageResponse<T> empty(Pageable pageable) {
-        return new PageResponse<>(null, pageable.getPageNumber() + 1, pageable.getPageSize(), 0, 0);
+        return new PageResponse<>(null, pageable.getPageNumber() + 1, pageable.getPageSize(), 0L, 0, false);
+    }
+
+    public static Integer totalPages(Long totalElements, int size) {
+        if (totalElements == null) {
+            return null;
+        }
+        return (int) ((totalElements + size - 1) / size);
     }
 }
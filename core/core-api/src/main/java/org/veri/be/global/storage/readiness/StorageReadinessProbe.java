@@ -0,0 +1,69 @@
+package org.veri.be.global.storage.readiness;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.veri.be.global.storage.service.StorageService;
+import org.veri.be.lib.time.SleepSupport;
+
+import java.time.Duration;
+
+/**
+ * 다른 곳(S3 전처리 Lambda 등)에서 만들어지는 객체가 스토리지에 올라올 때까지 기다린다.
+ * <p>
+ * 존재 여부를 확인하고, 없으면 지수 백오프로 다시 확인한다. 누적 대기 시간이 deadline 을 넘으면 포기한다.
+ */
+@Slf4j
+@Component
+public class StorageReadinessProbe {
+
+    private final StorageService storageService;
+    private final SleepSupport sleepSupport;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration deadline;
+
+    public StorageReadinessProbe(
+            StorageService storageService,
+            SleepSupport sleepSupport,
+            @Value("${storage.readiness.initial-backoff-ms:100}") long initialBackoffMillis,
+            @Value("${storage.readiness.max-backoff-ms:1000}") long maxBackoffMillis,
+            @Value("${storage.readiness.deadline-ms:5000}") long deadlineMillis
+    ) {
+        this.storageService = storageService;
+        this.sleepSupport = sleepSupport;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.deadline = Duration.ofMillis(deadlineMillis);
+    }
+
+    /**
+     * @return deadline 안에 객체가 확인되면 true
+     */
+    public boolean awaitReady(String objectUrl) throws InterruptedException {
+        Duration waited = Duration.ZERO;
+        Duration backoff = initialBackoff;
+        while (!isReady(objectUrl)) {
+            Duration remaining = deadline.minus(waited);
+            if (remaining.isNegative() || remaining.isZero()) {
+                log.warn("Storage object not ready within {} ms: {}", deadline.toMillis(), objectUrl);
+                return false;
+            }
+            Duration delay = backoff.compareTo(remaining) < 0 ? backoff : remaining;
+            sleepSupport.sleep(delay);
+            waited = waited.plus(delay);
+            backoff = backoff.multipliedBy(2).compareTo(maxBackoff) < 0 ? backoff.multipliedBy(2) : maxBackoff;
+        }
+        return true;
+    }
+
+    private boolean isReady(String objectUrl) {
+        try {
+            return storageService.exists(objectUrl);
+        } catch (RuntimeException e) {
+            // 확인 자체가 불가능하면(권한, URL 형식 등) 준비된 것으로 보고 실제 요청에서 판단하게 한다.
+            log.debug("Storage readiness check failed: {}", objectUrl, e);
+            return true;
+        }
+    }
+}
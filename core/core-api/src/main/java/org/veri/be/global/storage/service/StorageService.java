@@ -26,4 +26,14 @@ public interface StorageService {
                                                     String prefix,
                                                     Duration duration
     );
+
+    /**
+     * 객체가 스토리지에 존재하는지 확인한다. (S3 는 HEAD 요청)
+     */
+    boolean exists(String objectUrl);
+
+    /**
+     * 객체 본문을 메모리로 읽는다. 읽을 수 없는 경로이거나 크기 상한을 넘으면 IllegalArgumentException 을 던진다.
+     */
+    byte[] download(String objectUrl);
 }
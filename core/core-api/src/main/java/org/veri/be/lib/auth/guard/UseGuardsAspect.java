@@ -7,14 +7,26 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodClassKey;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link UseGuards} 가 붙은 핸들러 호출 전에 가드를 실행한다.
+ * <p>
+ * 핸들러 메서드마다 첫 호출에서 애너테이션을 읽고 가드 빈을 찾아 배열로 만들어 둔다. 이후 호출은 배열을 순서대로 실행하기만 한다.
+ * 가드는 싱글턴 빈이어야 한다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class UseGuardsAspect {
 
     private final ApplicationContext applicationContext;
+    private final Map<MethodClassKey, Guard[]> guardChains = new ConcurrentHashMap<>();
 
     @Pointcut(
             "@annotation(org.veri.be.lib.auth.guard.UseGuards) || " +
@@ -25,24 +37,34 @@ public class UseGuardsAspect {
 
     @Around("useGuardsPointcut()")
     public Object applyGuards(ProceedingJoinPoint joinPoint) throws Throwable {
-        UseGuards useGuards = this.getUseGuardsAnnotation(joinPoint);
-
-        Class<? extends Guard>[] guardClasses = useGuards.value();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        Guard[] guards = guardChains.computeIfAbsent(
+                new MethodClassKey(method, targetClass),
+                key -> resolveGuards(method, targetClass)
+        );
 
-        for (Class<? extends Guard> guardClass : guardClasses) {
-            Guard guard = this.applicationContext.getBean(guardClass);
+        for (Guard guard : guards) {
             guard.canActivate();
         }
 
         return joinPoint.proceed();
     }
 
-    private UseGuards getUseGuardsAnnotation(ProceedingJoinPoint joinPoint) {
-        MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
-        UseGuards useGuards = methodSignature.getMethod().getAnnotation(UseGuards.class);
+    private Guard[] resolveGuards(Method method, Class<?> targetClass) {
+        UseGuards useGuards = method.getAnnotation(UseGuards.class);
+        if (useGuards == null) {
+            useGuards = targetClass.getAnnotation(UseGuards.class);
+        }
         if (useGuards == null) {
-            useGuards = joinPoint.getTarget().getClass().getAnnotation(UseGuards.class);
+            return new Guard[0];
+        }
+
+        Class<? extends Guard>[] guardClasses = useGuards.value();
+        Guard[] guards = new Guard[guardClasses.length];
+        for (int i = 0; i < guardClasses.length; i++) {
+            guards[i] = applicationContext.getBean(guardClasses[i]);
         }
-        return useGuards;
+        return guards;
     }
 }
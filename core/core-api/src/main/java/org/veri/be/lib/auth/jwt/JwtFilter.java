@@ -7,23 +7,25 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.veri.be.domain.auth.service.TokenBlacklistStore;
-import org.veri.be.global.auth.JwtClaimsPayload;
+import org.veri.be.global.auth.context.CurrentMemberInfo;
+import org.veri.be.global.auth.context.CurrentMemberInfoExtractor;
 import org.veri.be.global.auth.context.MemberContext;
 import org.veri.be.global.auth.token.TokenProvider;
-import tools.jackson.databind.DeserializationFeature;
-import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.json.JsonMapper;
 
 import java.io.IOException;
 
+/**
+ * Authorization 헤더의 access token 으로 현재 요청의 회원을 {@link MemberContext} 에 묶는다.
+ * <p>
+ * lazy 모드에서는 토큰만 기록하고, 블랙리스트 확인과 파싱은 핸들러나 가드가 회원 정보를 처음 읽을 때 한다.
+ * 회원을 보지 않는 공개 API 는 토큰 검증 비용이 없고, 잘못된 토큰도 회원 정보를 읽는 API 에서만 401 이 된다.
+ */
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final TokenBlacklistStore tokenBlacklistStore;
     private final TokenProvider tokenProvider;
-    private final ObjectMapper objectMapper = JsonMapper.builder()
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-            .build();
+    private final boolean lazy;
 
     @Override
     protected void doFilterInternal(
@@ -31,23 +33,33 @@ public class JwtFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
+        String token = AuthorizationHeaderUtil.extractTokenFromAuthorizationHeader(request);
+        ScopedValue.Carrier carrier;
+
+        if (lazy) {
+            carrier = MemberContext.bindLazily(token, this::authenticate);
+        } else {
+            CurrentMemberInfo memberInfo = token != null ? authenticate(token) : null;
+            carrier = MemberContext.bind(memberInfo, memberInfo != null ? token : null);
+        }
+
+        // 바인딩은 call 이 끝나면 풀리므로 따로 정리하지 않는다.
         try {
-            String token = AuthorizationHeaderUtil.extractTokenFromAuthorizationHeader(request);
-
-            if (token != null && !tokenBlacklistStore.isBlackList(token)) {
-                Object raw = tokenProvider.parseAccessToken(token);
-                JwtClaimsPayload payload = objectMapper.convertValue(raw, JwtClaimsPayload.class);
-                Long id = payload.id();
-
-                if (id != null) {
-                    MemberContext.setCurrentToken(token);
-                    MemberContext.setCurrentMemberInfo(payload);
-                }
-            }
-
-            filterChain.doFilter(request, response);
-        } finally {
-            MemberContext.clear();
+            carrier.call(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+
+    private CurrentMemberInfo authenticate(String token) {
+        if (tokenBlacklistStore.isBlackList(token)) {
+            return null;
         }
+        return CurrentMemberInfoExtractor.extract(tokenProvider.parseAccessToken(token));
     }
 }
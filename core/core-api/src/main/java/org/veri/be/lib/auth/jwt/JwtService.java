@@ -1,6 +1,7 @@
 package org.veri.be.lib.auth.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
@@ -21,18 +22,37 @@ public class JwtService implements TokenProvider {
     private final long accessValidity;
     private final SecretKey refreshKey;
     private final long refreshValidity;
+    // JwtParser 는 불변이고 thread-safe 하므로 한 번만 만들어 재사용한다.
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+    private final VerifiedClaimsCache verifiedClaimsCache;
     private final ObjectMapper objectMapper;
     private final Clock clock;
 
-    public JwtService(JwtProperties properties, Clock clock, ObjectMapper objectMapper) {
+    public JwtService(
+            JwtProperties properties,
+            Clock clock,
+            ObjectMapper objectMapper,
+            VerifiedClaimsCache verifiedClaimsCache
+    ) {
         this.accessKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(properties.getAccess().getSecret().getBytes()));
         this.accessValidity = properties.getAccess().getValidity();
         this.refreshKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(properties.getRefresh().getSecret().getBytes()));
         this.refreshValidity = properties.getRefresh().getValidity();
+        this.accessParser = buildParser(accessKey, clock);
+        this.refreshParser = buildParser(refreshKey, clock);
+        this.verifiedClaimsCache = verifiedClaimsCache;
         this.clock = clock;
         this.objectMapper = objectMapper;
     }
 
+    private static JwtParser buildParser(SecretKey key, Clock clock) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .clock(() -> new Date(clock.millis()))
+                .build();
+    }
+
     @Override
     public <T> TokenGeneration generateAccessToken(T claimsPayload) {
         Map<String, Object> claims = objectMapper.convertValue(claimsPayload, Map.class);
@@ -53,11 +73,7 @@ public class JwtService implements TokenProvider {
 
     @Override
     public Claims parseAccessToken(String accessToken) {
-        return Jwts.parser()
-                .verifyWith(accessKey)
-                .build()
-                .parseSignedClaims(accessToken)
-                .getPayload();
+        return verifiedClaimsCache.get(accessToken, token -> accessParser.parseSignedClaims(token).getPayload());
     }
 
     @Override
@@ -78,10 +94,6 @@ public class JwtService implements TokenProvider {
 
     @Override
     public Claims parseRefreshToken(String refreshToken) {
-        return Jwts.parser()
-                .verifyWith(refreshKey)
-                .build()
-                .parseSignedClaims(refreshToken)
-                .getPayload();
+        return refreshParser.parseSignedClaims(refreshToken).getPayload();
     }
 }
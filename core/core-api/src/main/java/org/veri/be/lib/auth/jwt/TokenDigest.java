@@ -0,0 +1,38 @@
+package org.veri.be.lib.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 키로 쓰는 고정 길이(32byte) SHA-256 digest.
+ */
+public record TokenDigest(byte[] value) {
+
+    public static TokenDigest of(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return new TokenDigest(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TokenDigest(byte[] otherValue) && Arrays.equals(value, otherValue);
+    }
+
+    @Override
+    public int hashCode() {
+        // digest 자체가 고르게 분포하므로 앞 4byte 로 충분하다.
+        return (value[0] & 0xFF) << 24 | (value[1] & 0xFF) << 16 | (value[2] & 0xFF) << 8 | (value[3] & 0xFF);
+    }
+
+    @Override
+    public String toString() {
+        return HexFormat.of().formatHex(value);
+    }
+}
@@ -0,0 +1,76 @@
+package org.veri.be.lib.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 access token 의 클레임 캐시. 같은 클라이언트가 만료 전까지 같은 토큰을 반복해서 보내므로
+ * 두 번째 요청부터는 서명 검증과 base64/JSON 디코딩을 건너뛴다.
+ * <p>
+ * 키는 토큰 원문이 아닌 SHA-256 digest 이고, 항목은 토큰의 exp 시각에 만료된다. 검증에 실패한 토큰은 저장하지 않는다.
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private final Cache<TokenDigest, Claims> claims;
+
+    public VerifiedClaimsCache(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.claims-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.claims = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiration(clock))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claims, "jwtClaims");
+    }
+
+    /**
+     * @param verifier 캐시에 없을 때 토큰을 검증하고 클레임을 돌려준다. 던진 예외는 그대로 전달된다.
+     */
+    public Claims get(String token, Function<String, Claims> verifier) {
+        TokenDigest key = TokenDigest.of(token);
+        Claims cached = claims.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Claims verified = verifier.apply(token);
+        claims.put(key, verified);
+        return verified;
+    }
+
+    private record UntilTokenExpiration(Clock clock) implements Expiry<TokenDigest, Claims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Claims value, long currentTime) {
+            Date expiration = value.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - clock.millis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Claims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Claims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
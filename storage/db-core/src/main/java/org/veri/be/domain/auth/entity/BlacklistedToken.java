@@ -10,9 +10,10 @@ import java.time.Instant;
 @AllArgsConstructor
 @Builder
 public class BlacklistedToken {
+    // 토큰 원문의 SHA-256 digest
     @Id
-    @Column(length = 512)
-    private String token;
+    @Column(name = "token_digest", columnDefinition = "BINARY(32)")
+    private byte[] tokenDigest;
 
     @Column(nullable = false)
     private Instant expiredAt;
@@ -13,8 +13,9 @@ public class RefreshToken {
     @Id
     private Long userId;
 
-    @Column(nullable = false, length = 512)
-    private String token;
+    // 토큰 원문의 SHA-256 digest
+    @Column(name = "token_digest", nullable = false, columnDefinition = "BINARY(32)")
+    private byte[] tokenDigest;
 
     @Column(nullable = false)
     private Instant expiredAt;
@@ -3,5 +3,10 @@ package org.veri.be.domain.auth.repository;
 import org.veri.be.domain.auth.entity.BlacklistedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedToken, String> {
-} 
+import java.time.Instant;
+import java.util.List;
+
+public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedToken, byte[]> {
+
+    List<BlacklistedToken> findAllByExpiredAtAfter(Instant now);
+}
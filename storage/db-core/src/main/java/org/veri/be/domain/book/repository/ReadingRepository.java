@@ -2,11 +2,13 @@ package org.veri.be.domain.book.repository;
 
 import org.veri.be.domain.book.entity.Reading;
 import org.veri.be.domain.book.entity.enums.ReadingStatus;
-import org.veri.be.domain.book.repository.dto.BookPopularQueryResult;
+import org.veri.be.domain.book.repository.dto.BookWeeklyCountQueryResult;
 import org.veri.be.domain.book.repository.dto.ReadingQueryResult;
+import org.veri.be.domain.book.repository.dto.ReadingStatusCountQueryResult;
 import org.veri.be.domain.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,23 +34,24 @@ public interface ReadingRepository extends JpaRepository<Reading, Long> {
             """)
     int countAllByMemberId(@Param("memberId") Long memberId);
 
+    // 주간 인기 도서 랭킹 재구성용. 기간 내 책장에 추가된 모든 책의 추가 횟수를 반환한다.
     @Query("""
-            SELECT new org.veri.be.domain.book.repository.dto.BookPopularQueryResult(
-            mb.book.image,
-            mb.book.title,
-            mb.book.author,
-            mb.book.publisher,
-            mb.book.isbn)
+            SELECT new org.veri.be.domain.book.repository.dto.BookWeeklyCountQueryResult(
+            b.id,
+            b.image,
+            b.title,
+            b.author,
+            b.publisher,
+            b.isbn,
+            COUNT(mb))
             FROM Reading mb
+            JOIN mb.book b
             WHERE mb.createdAt >= :startOfWeek
             AND mb.createdAt < :startOfNextWeek
-            GROUP BY mb.book
-            ORDER BY COUNT(mb) DESC
+            GROUP BY b.id, b.image, b.title, b.author, b.publisher, b.isbn
             """)
-    Page<BookPopularQueryResult> findMostPopularBook(@Param("startOfWeek") LocalDateTime startOfWeek,
-                                                     @Param("startOfNextWeek") LocalDateTime startOfNextWeek,
-                                                     Pageable pageable
-    );
+    List<BookWeeklyCountQueryResult> countBooksAddedBetween(@Param("startOfWeek") LocalDateTime startOfWeek,
+                                                           @Param("startOfNextWeek") LocalDateTime startOfNextWeek);
 
     @Query("""
             SELECT new org.veri.be.domain.book.repository.dto.ReadingQueryResult(
@@ -71,6 +74,38 @@ public interface ReadingRepository extends JpaRepository<Reading, Long> {
             Pageable pageable
     );
 
+    // COUNT 쿼리 없이 size + 1 건을 조회해 다음 페이지 존재 여부만 판단한다.
+    @Query("""
+            SELECT new org.veri.be.domain.book.repository.dto.ReadingQueryResult(
+            mb.book.id,
+            mb.id,
+            mb.book.title,
+            mb.book.author,
+            mb.book.image,
+            mb.score,
+            mb.startedAt,
+            mb.status,
+            mb.isPublic)
+            FROM Reading mb
+            WHERE mb.member.id = :memberId
+            AND mb.status IN (:statuses)
+            """)
+    Slice<ReadingQueryResult> findReadingSlice(
+            @Param("memberId") Long memberId,
+            @Param("statuses") List<ReadingStatus> statuses,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT new org.veri.be.domain.book.repository.dto.ReadingStatusCountQueryResult(
+            mb.status,
+            COUNT(mb))
+            FROM Reading mb
+            WHERE mb.member.id = :memberId
+            GROUP BY mb.status
+            """)
+    List<ReadingStatusCountQueryResult> countGroupByStatus(@Param("memberId") Long memberId);
+
     @Query("""
             SELECT COUNT(mb)
             FROM Reading mb
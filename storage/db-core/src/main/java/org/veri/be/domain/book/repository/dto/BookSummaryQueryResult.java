@@ -0,0 +1,35 @@
+package org.veri.be.domain.book.repository.dto;
+
+import org.veri.be.domain.book.entity.Book;
+
+public record BookSummaryQueryResult(
+        String title,
+        String author,
+        String image,
+        String publisher,
+        String isbn
+) {
+
+    public static BookSummaryQueryResult from(Book book) {
+        if (book == null) return null;
+        return new BookSummaryQueryResult(
+                book.getTitle(),
+                book.getAuthor(),
+                book.getImage(),
+                book.getPublisher(),
+                book.getIsbn()
+        );
+    }
+
+    /**
+     * LEFT JOIN 결과로 도서가 없으면 모든 컬럼이 null 로 들어온다.
+     */
+    public static BookSummaryQueryResult ofNullable(
+            String title, String author, String image, String publisher, String isbn
+    ) {
+        if (title == null && author == null && image == null && publisher == null && isbn == null) {
+            return null;
+        }
+        return new BookSummaryQueryResult(title, author, image, publisher, isbn);
+    }
+}
@@ -1,10 +1,12 @@
 package org.veri.be.domain.book.repository.dto;
 
-public record BookPopularQueryResult(
+public record BookWeeklyCountQueryResult(
+        Long bookId,
         String image,
         String title,
         String author,
         String publisher,
-        String isbn
+        String isbn,
+        Long count
 ) {
 }
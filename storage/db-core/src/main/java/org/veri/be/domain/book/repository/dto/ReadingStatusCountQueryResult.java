@@ -0,0 +1,9 @@
+package org.veri.be.domain.book.repository.dto;
+
+import org.veri.be.domain.book.entity.enums.ReadingStatus;
+
+public record ReadingStatusCountQueryResult(
+        ReadingStatus status,
+        Long count
+) {
+}
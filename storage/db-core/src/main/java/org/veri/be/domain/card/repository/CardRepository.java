@@ -5,11 +5,13 @@ import org.veri.be.domain.card.repository.dto.CardListItem;
 import org.veri.be.domain.card.repository.dto.CardFeedItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -28,13 +30,23 @@ public interface CardRepository extends JpaRepository<Card, Long> {
                     "WHERE c.member.id = :memberId")
     Page<CardListItem> findAllByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
+    // COUNT 쿼리 없이 size + 1 건을 조회해 다음 페이지 존재 여부만 판단한다.
+    @Query("""
+            SELECT new org.veri.be.domain.card.repository.dto.CardListItem(
+                c.id, c.reading.book.title, c.content, c.image, c.createdAt, c.isPublic
+            )
+            FROM Card c
+            WHERE c.member.id = :memberId
+            """)
+    Slice<CardListItem> findSliceByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
     @Query("SELECT COUNT(c) FROM Card c WHERE c.member.id = :memberId")
     int countAllByMemberId(@Param("memberId") Long memberId);
 
     @Query(
             "SELECT new org.veri.be.domain.card.repository.dto.CardFeedItem(" +
                     "c.id, " +
-                    "c.member, " + // Note. 이후 연관 관계 조회시 유의
+                    "m.id, m.nickname, m.profileImageUrl, " +
                     "c.reading.book.title, " +
                     "c.content, " +
                     "c.image, " +
@@ -42,9 +54,38 @@ public interface CardRepository extends JpaRepository<Card, Long> {
                     "c.isPublic" +
                     ") " +
                     "FROM Card c " +
+                    "JOIN c.member m " +
                     "WHERE c.isPublic = true")
     Page<CardFeedItem> findAllPublicItems(Pageable pageable);
 
+    @Query("""
+            SELECT new org.veri.be.domain.card.repository.dto.CardFeedItem(
+                c.id, m.id, m.nickname, m.profileImageUrl, c.reading.book.title, c.content, c.image, c.createdAt, c.isPublic
+            )
+            FROM Card c
+            JOIN c.member m
+            WHERE c.isPublic = true
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    Slice<CardFeedItem> findLatestPublicItems(Pageable pageable);
+
+    // idx_card_public_created_at (is_public, created_at DESC, + PK) 를 seek 하기 위한 (createdAt, id) 커서 조건
+    @Query("""
+            SELECT new org.veri.be.domain.card.repository.dto.CardFeedItem(
+                c.id, m.id, m.nickname, m.profileImageUrl, c.reading.book.title, c.content, c.image, c.createdAt, c.isPublic
+            )
+            FROM Card c
+            JOIN c.member m
+            WHERE c.isPublic = true
+              AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    Slice<CardFeedItem> findPublicItemsBefore(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     @Query("""
             SELECT c FROM Card c
             JOIN FETCH c.member
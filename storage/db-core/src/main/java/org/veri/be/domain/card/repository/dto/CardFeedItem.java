@@ -15,17 +15,27 @@ public record CardFeedItem(
         Boolean isPublic
 ) {
 
+    // JPQL constructor expression 용. 작성자를 엔티티로 로딩하지 않고 프로필 컬럼만 받는다.
     public CardFeedItem(
             Long cardId,
-            Member member,
+            Long memberId,
+            String nickname,
+            String profileImageUrl,
             String bookTitle,
             String content,
             String image,
             LocalDateTime created,
             Boolean isPublic
-
     ) {
-        this(cardId, MemberProfileQueryResult.from(member), bookTitle, content, image, created, isPublic);
+        this(
+                cardId,
+                new MemberProfileQueryResult(memberId, nickname, profileImageUrl),
+                bookTitle,
+                content,
+                image,
+                created,
+                isPublic
+        );
     }
 
     public CardFeedItem(CardListItem item, Member member) {
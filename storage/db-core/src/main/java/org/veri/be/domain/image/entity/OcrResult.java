@@ -3,6 +3,11 @@ package org.veri.be.domain.image.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 @Getter
 @Builder
 @Entity
@@ -19,6 +24,10 @@ public class OcrResult {
     @Column(name = "image_url", nullable = false, columnDefinition = "VARCHAR(2083)")
     private String imageUrl;
 
+    // image_url 은 VARCHAR(2083) 이라 그대로 인덱싱할 수 없어 SHA-256 으로 조회한다.
+    @Column(name = "image_url_hash", columnDefinition = "CHAR(64)")
+    private String imageUrlHash;
+
     @Column(name = "preProcessed_url", nullable = true, columnDefinition = "VARCHAR(2083)")
     private String preProcessedUrl;
 
@@ -26,4 +35,20 @@ public class OcrResult {
     private String resultText;
 
     private String ocrService;
+
+    @PrePersist
+    void fillImageUrlHash() {
+        if (imageUrlHash == null) {
+            imageUrlHash = hashOf(imageUrl);
+        }
+    }
+
+    public static String hashOf(String imageUrl) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(imageUrl.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package org.veri.be.domain.image.repository;
+
+import java.util.List;
+
+public interface ImageBulkRepository {
+
+    /**
+     * 여러 이미지를 한 번의 배치 INSERT 로 저장한다. (IDENTITY 키라 JPA 로는 배치되지 않는다)
+     */
+    void insertAll(Long memberId, List<String> imageUrls);
+}
@@ -0,0 +1,31 @@
+package org.veri.be.domain.image.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ImageBulkRepositoryImpl implements ImageBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO image (member_id, image_url, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Long memberId, List<String> imageUrls) {
+        if (imageUrls.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, imageUrls, imageUrls.size(), (ps, imageUrl) -> {
+            ps.setLong(1, memberId);
+            ps.setString(2, imageUrl);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+}
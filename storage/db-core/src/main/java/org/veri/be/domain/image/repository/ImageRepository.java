@@ -3,6 +3,7 @@ package org.veri.be.domain.image.repository;
 import org.veri.be.domain.image.entity.Image;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,8 +11,15 @@ import org.springframework.stereotype.Repository;
 
 
 @Repository
-public interface ImageRepository extends JpaRepository<Image, Long> {
+public interface ImageRepository extends JpaRepository<Image, Long>, ImageBulkRepository {
 
     @Query("SELECT i.imageUrl FROM Image i WHERE i.member.id = :memberId")
     Page<String> findByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // COUNT 쿼리 없이 size + 1 건을 조회해 다음 페이지 존재 여부만 판단한다.
+    @Query("SELECT i.imageUrl FROM Image i WHERE i.member.id = :memberId")
+    Slice<String> findSliceByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT COUNT(i) FROM Image i WHERE i.member.id = :memberId")
+    long countByMemberId(@Param("memberId") Long memberId);
 }
@@ -4,6 +4,10 @@ import org.veri.be.domain.image.entity.OcrResult;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface OcrResultRepository extends JpaRepository<OcrResult, Long> {
+
+    Optional<OcrResult> findFirstByImageUrlHashOrderByIdDesc(String imageUrlHash);
 }
@@ -11,7 +11,10 @@ import org.veri.be.domain.member.entity.Member;
 @Getter
 @SuperBuilder(toBuilder = true)
 @Entity
-@Table(name = "post_like")
+@Table(
+        name = "post_like",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_like_post_member", columnNames = {"post_id", "member_id"})
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class LikePost {
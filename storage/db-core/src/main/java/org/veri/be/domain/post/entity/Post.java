@@ -53,15 +53,20 @@ public class Post extends BaseEntity implements Authorizable {
     @Builder.Default
     private boolean isPublic = true;
 
+    // 카운터는 PostRepository 의 원자적 증감 쿼리로만 변경한다. 엔티티 flush 가 값을 덮어쓰지 않도록 updatable = false.
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private long likeCount = 0L;
+
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount = 0L;
+
     public Comment addComment(Comment comment) {
         this.comments.add(comment);
         return comment;
     }
 
-    public int getCommentCount() {
-        return comments.size();
-    }
-
     public void addImage(String imageUrl, long displayOrder) {
         PostImage image = PostImage.builder()
                 .post(this)
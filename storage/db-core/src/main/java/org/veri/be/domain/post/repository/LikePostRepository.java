@@ -1,6 +1,9 @@
 package org.veri.be.domain.post.repository;
 
 import me.miensoap.fluent.FluentRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.veri.be.domain.post.entity.LikePost;
 import org.veri.be.domain.post.entity.Post;
@@ -13,7 +16,28 @@ public interface LikePostRepository extends FluentRepository<LikePost, Long> {
 
     boolean existsByPostIdAndMemberId(Long postId, Long memberId);
 
-    void deleteByPostIdAndMemberId(Long postId, Long memberId);
+    // uk_post_like_post_member 에 걸리면 무시된다. 존재하지 않는 게시글도 0 을 반환하므로 호출 측에서 확인해야 한다.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, member_id) VALUES (:postId, :memberId)", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_like WHERE post_id = :postId AND member_id = :memberId", nativeQuery = true)
+    int deleteIfPresent(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    /**
+     * @return 새로 좋아요가 추가되었으면 true, 이미 좋아요 상태였으면 false
+     */
+    default boolean like(Long postId, Long memberId) {
+        return insertIfAbsent(postId, memberId) > 0;
+    }
+
+    /**
+     * @return 좋아요가 취소되었으면 true, 좋아요 상태가 아니었으면 false
+     */
+    default boolean unlike(Long postId, Long memberId) {
+        return deleteIfPresent(postId, memberId) > 0;
+    }
 
     default LikeInfoQueryResult getLikeInfoOfPost(Long postId, Long memberId) {
         long likeCount = countByPostId(postId);
@@ -1,14 +1,19 @@
 package org.veri.be.domain.post.repository;
 
 import org.veri.be.domain.post.entity.Post;
+import org.veri.be.domain.post.repository.dto.LikeCountDrift;
 import org.veri.be.domain.post.repository.dto.PostFeedQueryResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,14 +24,15 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             SELECT new org.veri.be.domain.post.repository.dto.PostFeedQueryResult(
                 p.id, p.title, p.content,
                 pi.imageUrl,
-                p.author,
-                p.book,
-                (SELECT COUNT(l) FROM LikePost l WHERE l.post = p),
-                (SELECT COUNT(c) FROM Comment c WHERE c.post = p),
+                a.id, a.nickname, a.profileImageUrl,
+                b.title, b.author, b.image, b.publisher, b.isbn,
+                p.likeCount,
+                p.commentCount,
                 p.createdAt,
                 p.isPublic
             )
             FROM Post p
+            LEFT JOIN p.author a
             LEFT JOIN p.book b
             LEFT JOIN PostImage pi ON pi.post = p AND pi.displayOrder = 1
             WHERE p.isPublic = true
@@ -34,19 +40,68 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     )
     Page<PostFeedQueryResult> getPostFeeds(Pageable pageable);
 
+    @Query("""
+            SELECT new org.veri.be.domain.post.repository.dto.PostFeedQueryResult(
+                p.id, p.title, p.content,
+                pi.imageUrl,
+                a.id, a.nickname, a.profileImageUrl,
+                b.title, b.author, b.image, b.publisher, b.isbn,
+                p.likeCount,
+                p.commentCount,
+                p.createdAt,
+                p.isPublic
+            )
+            FROM Post p
+            LEFT JOIN p.author a
+            LEFT JOIN p.book b
+            LEFT JOIN PostImage pi ON pi.post = p AND pi.displayOrder = 1
+            WHERE p.isPublic = true
+            ORDER BY p.createdAt DESC, p.id DESC
+            """
+    )
+    Slice<PostFeedQueryResult> getLatestPostFeeds(Pageable pageable);
+
+    // idx_post_public_created_at (is_public, created_at, + PK) 를 seek 하기 위한 (createdAt, id) 커서 조건
+    @Query("""
+            SELECT new org.veri.be.domain.post.repository.dto.PostFeedQueryResult(
+                p.id, p.title, p.content,
+                pi.imageUrl,
+                a.id, a.nickname, a.profileImageUrl,
+                b.title, b.author, b.image, b.publisher, b.isbn,
+                p.likeCount,
+                p.commentCount,
+                p.createdAt,
+                p.isPublic
+            )
+            FROM Post p
+            LEFT JOIN p.author a
+            LEFT JOIN p.book b
+            LEFT JOIN PostImage pi ON pi.post = p AND pi.displayOrder = 1
+            WHERE p.isPublic = true
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """
+    )
+    Slice<PostFeedQueryResult> getPostFeedsBefore(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
 
     @Query("""
             SELECT new org.veri.be.domain.post.repository.dto.PostFeedQueryResult(
                 p.id, p.title, p.content,
                 pi.imageUrl,
-                p.author,
-                p.book,
-                (SELECT COUNT(l) FROM LikePost l WHERE l.post = p),
-                (SELECT COUNT(c) FROM Comment c WHERE c.post = p),
+                a.id, a.nickname, a.profileImageUrl,
+                b.title, b.author, b.image, b.publisher, b.isbn,
+                p.likeCount,
+                p.commentCount,
                 p.createdAt,
                 p.isPublic
             )
             FROM Post p
+            LEFT JOIN p.author a
             LEFT JOIN p.book b
             LEFT JOIN PostImage pi ON pi.post = p AND pi.displayOrder = 1
             WHERE p.author.id = :memberId
@@ -62,4 +117,36 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             WHERE p.id = :postId
             """)
     Optional<Post> findByIdWithAllAssociations(@Param("postId") Long postId);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findLikeCountById(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id IN :postIds")
+    int addLikeCounts(@Param("postIds") Collection<Long> postIds, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("""
+            SELECT new org.veri.be.domain.post.repository.dto.LikeCountDrift(
+                p.id, (SELECT COUNT(l) FROM LikePost l WHERE l.post = p)
+            )
+            FROM Post p
+            WHERE p.likeCount <> (SELECT COUNT(l) FROM LikePost l WHERE l.post = p)
+            """)
+    List<LikeCountDrift> findLikeCountDrifts();
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = :likeCount WHERE p.id = :postId")
+    int setLikeCount(@Param("postId") Long postId, @Param("likeCount") long likeCount);
+
+    @Modifying
+    @Query("""
+            UPDATE Post p
+            SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.deletedAt IS NULL)
+            WHERE p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.post = p AND c.deletedAt IS NULL)
+            """)
+    int reconcileCommentCounts();
 }
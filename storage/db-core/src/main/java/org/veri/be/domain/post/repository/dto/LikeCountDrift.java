@@ -0,0 +1,7 @@
+package org.veri.be.domain.post.repository.dto;
+
+public record LikeCountDrift(
+        Long postId,
+        Long actualCount
+) {
+}
@@ -1,7 +1,7 @@
 package org.veri.be.domain.post.repository.dto;
 
-import org.veri.be.domain.book.entity.Book;
-import org.veri.be.domain.member.entity.Member;
+import org.veri.be.domain.book.repository.dto.BookSummaryQueryResult;
+import org.veri.be.domain.member.repository.dto.MemberProfileQueryResult;
 
 import java.time.LocalDateTime;
 
@@ -10,11 +10,44 @@ public record PostFeedQueryResult(
         String title,
         String content,
         String thumbnailImageUrl,
-        Member author,
-        Book book,
+        MemberProfileQueryResult author,
+        BookSummaryQueryResult book,
         long likeCount,
         long commentCount,
         LocalDateTime createdAt,
         boolean isPublic
 ) {
+
+    // JPQL constructor expression 용. 작성자/도서를 엔티티로 로딩하지 않고 필요한 컬럼만 받는다.
+    public PostFeedQueryResult(
+            Long postId,
+            String title,
+            String content,
+            String thumbnailImageUrl,
+            Long authorId,
+            String authorNickname,
+            String authorProfileImageUrl,
+            String bookTitle,
+            String bookAuthor,
+            String bookImage,
+            String bookPublisher,
+            String bookIsbn,
+            long likeCount,
+            long commentCount,
+            LocalDateTime createdAt,
+            boolean isPublic
+    ) {
+        this(
+                postId,
+                title,
+                content,
+                thumbnailImageUrl,
+                authorId == null ? null : new MemberProfileQueryResult(authorId, authorNickname, authorProfileImageUrl),
+                BookSummaryQueryResult.ofNullable(bookTitle, bookAuthor, bookImage, bookPublisher, bookIsbn),
+                likeCount,
+                commentCount,
+                createdAt,
+                isPublic
+        );
+    }
 }
@@ -2,6 +2,12 @@ plugins {
     jacoco
 }
 
+// JMH 벤치마크 전용 소스셋. 테스트 클래스패스를 그대로 쓰고 test 태스크에는 포함하지 않는다.
+val jmh: SourceSet by sourceSets.creating
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
     testImplementation(project(":core:core-app"))
     testImplementation(project(":core:core-api"))
@@ -21,6 +27,17 @@ dependencies {
     testRuntimeOnly("com.h2database:h2")
 
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${property("jmhVersion")}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${property("jmhVersion")}")
+}
+
+// 예) ./gradlew :tests:jmh --args="ClaimsExtractionBenchmark"
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs JMH benchmarks in src/jmh."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
 }
 
 tasks.named<Test>("test") {
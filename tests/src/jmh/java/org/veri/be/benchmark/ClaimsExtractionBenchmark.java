@@ -0,0 +1,82 @@
+package org.veri.be.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.veri.be.global.auth.JwtClaimsPayload;
+import org.veri.be.global.auth.context.CurrentMemberInfo;
+import org.veri.be.global.auth.context.CurrentMemberInfoExtractor;
+import org.veri.be.lib.auth.jwt.JwtService;
+import org.veri.be.lib.auth.jwt.VerifiedClaimsCache;
+import org.veri.be.lib.auth.jwt.data.JwtProperties;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 가 클레임에서 회원 정보를 꺼내는 비용 비교.
+ * <p>
+ * objectMapper 는 이전 방식(ObjectMapper.convertValue 후 CurrentMemberInfo.from), extractor 는 현재 방식이다.
+ * 클레임은 실제 발급한 access token 을 파싱한 결과를 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimsExtractionBenchmark {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2030-01-01T00:00:00Z"), ZoneId.of("UTC"));
+        JwtService jwtService = new JwtService(
+                jwtProperties(), clock, new ObjectMapper(), new VerifiedClaimsCache(clock, new SimpleMeterRegistry(), 100)
+        );
+        String token = jwtService.generateAccessToken(new JwtClaimsPayload(1L, "member@test.com", "member", false)).token();
+        claims = jwtService.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public CurrentMemberInfo objectMapper() {
+        return CurrentMemberInfo.from(objectMapper.convertValue(claims, JwtClaimsPayload.class));
+    }
+
+    @Benchmark
+    public CurrentMemberInfo extractor() {
+        return CurrentMemberInfoExtractor.extract(claims);
+    }
+
+    private static JwtProperties jwtProperties() {
+        JwtProperties.TokenConfig access = new JwtProperties.TokenConfig();
+        access.setSecret("AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=");
+        access.setValidity(3_600_000L);
+        JwtProperties.TokenConfig refresh = new JwtProperties.TokenConfig();
+        refresh.setSecret("AQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQE=");
+        refresh.setValidity(1_200_000L);
+        JwtProperties properties = new JwtProperties();
+        properties.setAccess(access);
+        properties.setRefresh(refresh);
+        return properties;
+    }
+}
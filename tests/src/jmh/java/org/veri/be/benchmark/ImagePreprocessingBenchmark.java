@@ -0,0 +1,83 @@
+package org.veri.be.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.veri.be.domain.image.preprocess.ImagePreprocessor;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * in-process 모드에서 전처리 요청 하나가 OCR 을 보내기 전에 쓰는 시간(디코딩, 스큐 탐색, 보정, JPEG 인코딩, data URL 변환).
+ * <p>
+ * Lambda 경로는 S3 이벤트와 Lambda 실행을 거치므로 여기서 재현하지 않는다.
+ * 운영에서는 두 경로 모두 ocr.preprocessing.resolve 타이머(mode=lambda|in-process)로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImagePreprocessingBenchmark {
+
+    private static final String JPEG_DATA_URL_PREFIX = "data:image/jpeg;base64,";
+
+    // 휴대폰 카메라 해상도 기준
+    @Param({"1512x2016", "3024x4032"})
+    public String size;
+
+    private final ImagePreprocessor imagePreprocessor = new ImagePreprocessor(2000, 1000, -5, 5, 0.5, 25_000_000);
+
+    private byte[] photo;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimensions = size.split("x");
+        photo = skewedPage(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 2.0);
+    }
+
+    @Benchmark
+    public String inProcess() {
+        return JPEG_DATA_URL_PREFIX + Base64.getEncoder().encodeToString(imagePreprocessor.preprocess(photo));
+    }
+
+    // 기울어진 글자 줄이 있는 페이지 사진을 흉내 낸 JPEG
+    private static byte[] skewedPage(int width, int height, double angle) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.rotate(Math.toRadians(angle), width / 2.0, height / 2.0);
+            graphics.setColor(Color.BLACK);
+            graphics.setStroke(new BasicStroke(Math.max(2f, height / 400f)));
+            int lineCount = 40;
+            int gap = height / (lineCount + 1);
+            for (int i = 1; i <= lineCount; i++) {
+                graphics.drawLine(width / 10, gap * i, width * 9 / 10, gap * i);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.BeforeEach
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.cache.CacheManager
 import org.springframework.context.annotation.Import
 import org.springframework.test.web.servlet.MockMvc
 import org.springframework.test.web.servlet.setup.MockMvcBuilders
@@ -32,6 +33,9 @@ abstract class IntegrationTestSupport {
     @Autowired
     protected lateinit var objectMapper: ObjectMapper
 
+    @Autowired
+    private lateinit var cacheManager: CacheManager
+
     protected lateinit var mockMvc: MockMvc
 
     private lateinit var mockMember: Member
@@ -39,6 +43,8 @@ abstract class IntegrationTestSupport {
     @BeforeEach
     fun setUpContext() {
         mockMvc = MockMvcBuilders.webAppContextSetup(context).build()
+        // 테스트 트랜잭션은 커밋되지 않으므로 커밋 후 무효화가 동작하지 않는다. 테스트 간 캐시 공유를 막기 위해 즉시 비운다.
+        cacheManager.cacheNames.forEach { cacheManager.getCache(it)?.invalidate() }
 
         mockMember = MemberFixture.aMember()
             .email("smoody@prompt.town")
@@ -0,0 +1,50 @@
+package org.veri.be.integration.support.stub
+
+import org.veri.be.global.storage.dto.PresignedPostFormResponse
+import org.veri.be.global.storage.dto.PresignedUrlResponse
+import org.veri.be.global.storage.service.StorageService
+import java.net.URI
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.util.UUID
+
+/**
+ * 로컬 디렉터리를 버킷처럼 쓰는 StorageService. 객체 URL 의 path 를 root 아래 상대 경로로 본다.
+ */
+class LocalFileStorageService(private val root: Path) : StorageService {
+
+    override fun generatePresignedUrl(
+        contentType: String,
+        contentLength: Long,
+        prefix: String,
+        duration: Duration
+    ): PresignedUrlResponse {
+        val url = root.resolve(prefix).resolve(UUID.randomUUID().toString()).toUri().toString()
+        return PresignedUrlResponse(url, url)
+    }
+
+    override fun generatePresignedUrlOfDefault(
+        contentType: String,
+        contentLength: Long
+    ): PresignedUrlResponse = generatePresignedUrl(contentType, contentLength, "public", Duration.ofMinutes(5))
+
+    override fun generatePresignedPost(
+        contentType: String,
+        fileSize: Long,
+        prefix: String,
+        duration: Duration
+    ): PresignedPostFormResponse = PresignedPostFormResponse(root.resolve(prefix).toUri().toString(), mapOf())
+
+    override fun exists(objectUrl: String): Boolean = Files.exists(pathOf(objectUrl))
+
+    override fun download(objectUrl: String): ByteArray = Files.readAllBytes(pathOf(objectUrl))
+
+    fun put(objectUrl: String, content: ByteArray = ByteArray(0)) {
+        val path = pathOf(objectUrl)
+        Files.createDirectories(path.parent)
+        Files.write(path, content)
+    }
+
+    private fun pathOf(objectUrl: String): Path = root.resolve(URI.create(objectUrl).path.removePrefix("/"))
+}
@@ -25,4 +25,8 @@ class StubStorageService : StorageService {
         duration: Duration
     ): PresignedPostFormResponse =
         PresignedPostFormResponse("http://stub.s3.url", mapOf("key" to "value"))
+
+    override fun exists(objectUrl: String): Boolean = true
+
+    override fun download(objectUrl: String): ByteArray = ByteArray(0)
 }
@@ -8,6 +8,7 @@ import org.springframework.http.MediaType
 import org.springframework.test.util.ReflectionTestUtils
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import org.veri.be.domain.auth.service.TokenBlacklistStore
 import org.veri.be.domain.auth.service.TokenStorageService
 import org.veri.be.global.auth.JwtClaimsPayload
 import org.veri.be.global.auth.dto.ReissueTokenRequest
@@ -23,6 +24,9 @@ class AuthIntegrationTest : IntegrationTestSupport() {
     @Autowired
     private lateinit var tokenStorageService: TokenStorageService
 
+    @Autowired
+    private lateinit var tokenBlacklistStore: TokenBlacklistStore
+
     @Nested
     @DisplayName("POST /api/v1/auth/reissue")
     inner class Reissue {
@@ -74,7 +78,7 @@ class AuthIntegrationTest : IntegrationTestSupport() {
         @DisplayName("블랙리스트에 등록된 refresh 토큰이면 → 401을 반환한다")
         fun blacklistedToken() {
             val refreshToken = tokenProvider.generateRefreshToken(getMockMember().id).token()
-            tokenStorageService.addBlackList(refreshToken, 100000L)
+            tokenBlacklistStore.addBlackList(refreshToken, 100000L)
 
             val request = ReissueTokenRequest()
             ReflectionTestUtils.setField(request, "refreshToken", refreshToken)
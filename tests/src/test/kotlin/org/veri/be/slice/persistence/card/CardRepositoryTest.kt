@@ -107,6 +107,10 @@ class CardRepositoryTest : PersistenceSliceTestSupport() {
 
             val cardIds = result.map { item: CardFeedItem -> item.cardId }.content
             assertThat(cardIds).containsExactlyInAnyOrder(publicCard1.id, publicCard2.id)
+            assertThat(result.content).allSatisfy { item ->
+                assertThat(item.member().id()).isEqualTo(member.id)
+                assertThat(item.member().nickname()).isEqualTo("member-1")
+            }
         }
     }
 
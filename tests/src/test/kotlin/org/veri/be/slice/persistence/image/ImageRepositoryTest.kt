@@ -49,6 +49,26 @@ class ImageRepositoryTest : PersistenceSliceTestSupport() {
         }
     }
 
+    @Nested
+    @DisplayName("insertAll")
+    inner class InsertAll {
+
+        @Test
+        @DisplayName("여러 이미지를 한 번에 저장하면 → 회원 이미지로 조회된다")
+        fun insertsAllRows() {
+            val member = saveMember("member@test.com", "member")
+            val urls = listOf("https://example.com/batch-1.png", "https://example.com/batch-2.png")
+            // JDBC 배치는 영속성 컨텍스트를 거치지 않으므로 FK 대상인 회원을 먼저 반영한다.
+            memberRepository.flush()
+
+            imageRepository.insertAll(member.id, urls)
+
+            assertThat(imageRepository.countByMemberId(member.id)).isEqualTo(2)
+            assertThat(imageRepository.findByMemberId(member.id, PageRequest.of(0, 10)).content)
+                .containsExactlyInAnyOrderElementsOf(urls)
+        }
+    }
+
     private fun saveMember(email: String, nickname: String): org.veri.be.domain.member.entity.Member {
         return memberRepository.save(
             MemberFixture.aMember()
@@ -73,21 +73,65 @@ class LikePostRepositoryTest : PersistenceSliceTestSupport() {
     }
 
     @Nested
-    @DisplayName("deleteByPostIdAndMemberId")
-    inner class DeleteByPostIdAndMemberId {
+    @DisplayName("like")
+    inner class Like {
 
         @Test
-        @DisplayName("좋아요를 삭제하면 → 삭제된다")
+        @DisplayName("좋아요가 없으면 → 추가하고 true를 반환한다")
+        fun insertsWhenAbsent() {
+            val author = saveMember("author@test.com", "author")
+            val liker = saveMember("liker@test.com", "liker")
+            val post = savePost(author)
+
+            val changed = likePostRepository.like(post.id, liker.id)
+
+            assertThat(changed).isTrue()
+            assertThat(likePostRepository.countByPostId(post.id)).isEqualTo(1)
+        }
+
+        @Test
+        @DisplayName("이미 좋아요 상태면 → 예외 없이 false를 반환한다")
+        fun ignoresDuplicate() {
+            val author = saveMember("author@test.com", "author")
+            val liker = saveMember("liker@test.com", "liker")
+            val post = savePost(author)
+            likePostRepository.like(post.id, liker.id)
+
+            val changed = likePostRepository.like(post.id, liker.id)
+
+            assertThat(changed).isFalse()
+            assertThat(likePostRepository.countByPostId(post.id)).isEqualTo(1)
+        }
+    }
+
+    @Nested
+    @DisplayName("unlike")
+    inner class Unlike {
+
+        @Test
+        @DisplayName("좋아요를 삭제하면 → 삭제되고 true를 반환한다")
         fun deletesLike() {
             val author = saveMember("author@test.com", "author")
             val liker = saveMember("liker@test.com", "liker")
             val post = savePost(author)
             saveLike(liker, post)
+            entityManager.flush()
 
-            likePostRepository.deleteByPostIdAndMemberId(post.id, liker.id)
+            val changed = likePostRepository.unlike(post.id, liker.id)
 
+            assertThat(changed).isTrue()
             assertThat(likePostRepository.existsByPostIdAndMemberId(post.id, liker.id)).isFalse()
         }
+
+        @Test
+        @DisplayName("좋아요 상태가 아니면 → false를 반환한다")
+        fun returnsFalseWhenAbsent() {
+            val author = saveMember("author@test.com", "author")
+            val liker = saveMember("liker@test.com", "liker")
+            val post = savePost(author)
+
+            assertThat(likePostRepository.unlike(post.id, liker.id)).isFalse()
+        }
     }
 
     @Nested
@@ -15,6 +15,7 @@ import org.veri.be.domain.member.entity.enums.ProviderType
 import org.veri.be.domain.member.repository.MemberRepository
 import org.veri.be.domain.post.entity.LikePost
 import org.veri.be.domain.post.repository.PostRepository
+import org.veri.be.domain.post.repository.dto.LikeCountDrift
 import org.veri.be.domain.post.repository.dto.PostFeedQueryResult
 import org.veri.be.slice.persistence.PersistenceSliceTestSupport
 import org.veri.be.support.fixture.BookFixture
@@ -59,6 +60,9 @@ class PostRepositoryTest : PersistenceSliceTestSupport() {
 
             saveLike(liker, publicPost)
             saveComment(author, publicPost, "comment")
+            entityManager.flush()
+            postRepository.addLikeCounts(listOf(publicPost.id), 1)
+            postRepository.reconcileCommentCounts()
 
             val page = postRepository.getPostFeeds(
                 PageRequest.of(0, 10, Sort.by("id").ascending())
@@ -73,6 +77,60 @@ class PostRepositoryTest : PersistenceSliceTestSupport() {
                 .isEqualTo("https://example.com/thumbnail.png")
             assertThat(resultMap[publicPost.id]?.likeCount()).isEqualTo(1)
             assertThat(resultMap[publicPost.id]?.commentCount()).isEqualTo(1)
+            assertThat(resultMap[publicPost.id]?.author()?.nickname()).isEqualTo("author")
+            assertThat(resultMap[publicPost.id]?.book()?.title()).isEqualTo("book-1")
+        }
+    }
+
+    @Nested
+    @DisplayName("addLikeCounts / addCommentCount")
+    inner class AddCounts {
+
+        @Test
+        @DisplayName("증감 쿼리를 실행하면 → 카운터 컬럼이 원자적으로 갱신된다")
+        fun updatesCounterColumns() {
+            val author = saveMember("author@test.com", "author")
+            val book = saveBook("isbn-1", "book-1")
+            val post = postRepository.save(savePost(author, book, true, "title-1"))
+
+            postRepository.addLikeCounts(listOf(post.id), 1)
+            postRepository.addLikeCounts(listOf(post.id), 1)
+            postRepository.addCommentCount(post.id, 1)
+            postRepository.addCommentCount(post.id, -1)
+            entityManager.clear()
+
+            val found = postRepository.findById(post.id).orElseThrow()
+            assertThat(found.likeCount).isEqualTo(2)
+            assertThat(found.commentCount).isZero()
+            assertThat(postRepository.findLikeCountById(post.id)).contains(2L)
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile")
+    inner class Reconcile {
+
+        @Test
+        @DisplayName("카운터가 어긋나 있으면 → 원본 기준으로 보정한다")
+        fun repairsDrift() {
+            val author = saveMember("author@test.com", "author")
+            val liker = saveMember("liker@test.com", "liker")
+            val book = saveBook("isbn-1", "book-1")
+            val post = postRepository.save(savePost(author, book, true, "title-1"))
+            saveLike(liker, post)
+            saveComment(author, post, "comment")
+            postRepository.addLikeCounts(listOf(post.id), 5)
+
+            val drifts = postRepository.findLikeCountDrifts()
+            drifts.forEach { postRepository.setLikeCount(it.postId(), it.actualCount()) }
+            val commentFixed = postRepository.reconcileCommentCounts()
+            entityManager.clear()
+
+            val found = postRepository.findById(post.id).orElseThrow()
+            assertThat(drifts).containsExactly(LikeCountDrift(post.id, 1L))
+            assertThat(commentFixed).isEqualTo(1)
+            assertThat(found.likeCount).isEqualTo(1)
+            assertThat(found.commentCount).isEqualTo(1)
         }
     }
 
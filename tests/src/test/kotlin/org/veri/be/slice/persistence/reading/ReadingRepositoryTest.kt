@@ -90,6 +90,54 @@ class ReadingRepositoryTest : PersistenceSliceTestSupport() {
         }
     }
 
+    @Nested
+    @DisplayName("findReadingSlice")
+    inner class FindReadingSlice {
+
+        @Test
+        @DisplayName("size 보다 많은 독서가 있으면 → hasNext 가 true 이다")
+        fun returnsSliceWithHasNext() {
+            val member = saveMember("reading@test.com", "reader")
+            val book = saveBook("isbn-1", "book-1")
+            saveReading(member, book, ReadingStatus.READING)
+            saveReading(member, book, ReadingStatus.DONE)
+            saveReading(member, book, ReadingStatus.NOT_START)
+
+            val slice = readingRepository.findReadingSlice(
+                member.id,
+                ReadingStatus.entries,
+                PageRequest.of(0, 2, Sort.by("id").ascending())
+            )
+
+            assertThat(slice.content).hasSize(2)
+            assertThat(slice.hasNext()).isTrue()
+        }
+    }
+
+    @Nested
+    @DisplayName("countGroupByStatus")
+    inner class CountGroupByStatus {
+
+        @Test
+        @DisplayName("회원의 독서를 상태별로 집계하면 → 상태별 개수를 반환한다")
+        fun returnsCountsPerStatus() {
+            val member = saveMember("reading@test.com", "reader")
+            val other = saveMember("other@test.com", "other")
+            val book = saveBook("isbn-1", "book-1")
+            saveReading(member, book, ReadingStatus.READING)
+            saveReading(member, book, ReadingStatus.READING)
+            saveReading(member, book, ReadingStatus.DONE)
+            saveReading(other, book, ReadingStatus.DONE)
+
+            val counts = readingRepository.countGroupByStatus(member.id)
+                .associate { it.status() to it.count() }
+
+            assertThat(counts).containsExactlyInAnyOrderEntriesOf(
+                mapOf(ReadingStatus.READING to 2L, ReadingStatus.DONE to 1L)
+            )
+        }
+    }
+
     @Nested
     @DisplayName("countByStatusAndMember")
     inner class CountByStatusAndMember {
@@ -9,9 +9,11 @@ import org.mockito.ArgumentMatchers.any
 import org.mockito.ArgumentMatchers.eq
 import org.mockito.BDDMockito.given
 import org.mockito.BDDMockito.then
+import org.mockito.Mockito.never
 import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
 import org.springframework.test.web.servlet.setup.MockMvcBuilders
@@ -118,6 +120,64 @@ class BookshelfControllerTest : ControllerTestSupport() {
                 .andExpect(jsonPath("$.result.page").value(1))
                 .andExpect(jsonPath("$.result.memberBooks[0].title").value("title"))
         }
+
+        @Test
+        @DisplayName("slice 모드로 전체 개수를 요청하면 → 요청한 상태의 개수 합을 함께 반환한다")
+        fun returnsSliceWithTotal() {
+            val item = ReadingResponse(
+                10L,
+                20L,
+                "title",
+                "author",
+                "https://example.com/book.png",
+                4.5,
+                null,
+                ReadingStatus.READING,
+                true
+            )
+            val slice = SliceImpl(listOf(item), PageRequest.of(0, 1), true)
+            given(readingQueryService.searchReadingSliceOfMember(eq(1L), any(), eq(0), eq(1), eq(ReadingSortType.NEWEST)))
+                .willReturn(slice)
+            given(readingQueryService.countReadingsByStatus(1L)).willReturn(
+                mapOf(ReadingStatus.READING to 2L, ReadingStatus.DONE to 3L, ReadingStatus.NOT_START to 4L)
+            )
+
+            get(
+                "/api/v2/bookshelf/my",
+                mapOf(
+                    "page" to "1",
+                    "size" to "1",
+                    "statuses" to "READING,DONE",
+                    "slice" to "true",
+                    "withTotal" to "true"
+                )
+            )
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.result.hasNext").value(true))
+                .andExpect(jsonPath("$.result.totalElements").value(5))
+                .andExpect(jsonPath("$.result.totalPages").value(5))
+        }
+
+        @Test
+        @DisplayName("slice 모드에서 전체 개수를 요청하지 않으면 → 개수를 조회하지 않는다")
+        fun skipsCountWithoutTotal() {
+            given(readingQueryService.searchReadingSliceOfMember(eq(1L), any(), eq(0), eq(10), eq(ReadingSortType.NEWEST)))
+                .willReturn(SliceImpl(listOf(), PageRequest.of(0, 10), false))
+
+            get(
+                "/api/v2/bookshelf/my",
+                mapOf(
+                    "page" to "1",
+                    "size" to "10",
+                    "slice" to "true"
+                )
+            )
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.result.hasNext").value(false))
+                .andExpect(jsonPath("$.result.totalElements").isEmpty())
+
+            then(readingQueryService).should(never()).countReadingsByStatus(any())
+        }
     }
 
     @Nested
@@ -17,8 +17,16 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPat
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
 import org.springframework.test.web.servlet.setup.MockMvcBuilders
 import org.veri.be.api.common.ImageController
+import org.veri.be.domain.image.dto.OcrBatchRequest
+import org.veri.be.domain.image.dto.OcrBatchResponse
+import org.veri.be.domain.image.dto.OcrJobResponse
+import org.veri.be.domain.image.dto.OcrPageResult
+import org.veri.be.domain.image.exception.ImageErrorCode
+import org.veri.be.domain.image.job.OcrJobStatus
 import org.veri.be.domain.image.service.ImageCommandService
 import org.veri.be.domain.image.service.ImageQueryService
+import org.veri.be.domain.image.service.OcrBatchService
+import org.veri.be.domain.image.service.OcrJobService
 import org.veri.be.domain.member.entity.Member
 import org.veri.be.domain.member.entity.enums.ProviderType
 import org.veri.be.global.auth.JwtClaimsPayload
@@ -40,6 +48,12 @@ class ImageControllerTest : ControllerTestSupport() {
     @org.mockito.Mock
     private lateinit var imageQueryService: ImageQueryService
 
+    @org.mockito.Mock
+    private lateinit var ocrJobService: OcrJobService
+
+    @org.mockito.Mock
+    private lateinit var ocrBatchService: OcrBatchService
+
     private lateinit var member: Member
     private lateinit var memberInfo: CurrentMemberInfo
 
@@ -51,7 +65,7 @@ class ImageControllerTest : ControllerTestSupport() {
             .build()
 
         memberInfo = CurrentMemberInfo.from(JwtClaimsPayload(member.id, member.email, member.nickname, false))
-        val controller = ImageController(imageCommandService, imageQueryService)
+        val controller = ImageController(imageCommandService, imageQueryService, ocrJobService, ocrBatchService)
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
             .setControllerAdvice(ApiResponseAdvice())
             .setCustomArgumentResolvers(
@@ -105,6 +119,76 @@ class ImageControllerTest : ControllerTestSupport() {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/images/ocr/batch")
+    inner class OcrBatch {
+
+        @Test
+        @DisplayName("여러 이미지를 OCR하면 → 입력 순서대로 페이지별 결과를 반환한다")
+        fun returnsPageResults() {
+            val urls = listOf("https://example.com/1.png", "https://example.com/2.png")
+            given(ocrBatchService.extractAll(member.id, urls)).willReturn(
+                OcrBatchResponse.of(
+                    listOf(
+                        OcrPageResult.success(0, urls[0], "text"),
+                        OcrPageResult.failure(1, urls[1], ImageErrorCode.OCR_PROCESSING_FAILED)
+                    )
+                )
+            )
+
+            postJson("/api/v1/images/ocr/batch", OcrBatchRequest(urls))
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.result.succeeded").value(1))
+                .andExpect(jsonPath("$.result.failed").value(1))
+                .andExpect(jsonPath("$.result.pages[0].text").value("text"))
+                .andExpect(jsonPath("$.result.pages[1].errorCode").value(ImageErrorCode.OCR_PROCESSING_FAILED.code))
+        }
+
+        @Test
+        @DisplayName("이미지 목록이 비어 있으면 → 400을 반환한다")
+        fun rejectsEmptyList() {
+            postJson("/api/v1/images/ocr/batch", OcrBatchRequest(emptyList()))
+                .andExpect(status().isBadRequest)
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/images/ocr/jobs")
+    inner class SubmitOcrJob {
+
+        @Test
+        @DisplayName("작업을 등록하면 → 202 와 작업 ID 를 반환한다")
+        fun returnsAcceptedJob() {
+            given(ocrJobService.submit(member.id, "https://example.com/image.png"))
+                .willReturn(OcrJobResponse("job-1", OcrJobStatus.PENDING, null, null, null))
+
+            mockMvc.perform(
+                org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post("/api/v1/images/ocr/jobs")
+                    .param("imageUrl", "https://example.com/image.png")
+            )
+                .andExpect(status().isAccepted)
+                .andExpect(jsonPath("$.result.jobId").value("job-1"))
+                .andExpect(jsonPath("$.result.status").value("PENDING"))
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/images/ocr/jobs/{jobId}")
+    inner class GetOcrJob {
+
+        @Test
+        @DisplayName("작업을 조회하면 → 상태와 결과를 반환한다")
+        fun returnsJob() {
+            given(ocrJobService.getJob(member.id, "job-1"))
+                .willReturn(OcrJobResponse("job-1", OcrJobStatus.SUCCEEDED, "text", null, null))
+
+            get("/api/v1/images/ocr/jobs/job-1")
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.result.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.result.text").value("text"))
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v0/images")
     inner class GetImageFiles {
@@ -18,8 +18,10 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders
 import org.veri.be.api.common.dto.MemberProfileResponse
 import org.veri.be.api.social.PostController
 import org.veri.be.domain.book.dto.book.BookResponse
+import org.veri.be.domain.book.repository.dto.BookSummaryQueryResult
 import org.veri.be.domain.member.entity.Member
 import org.veri.be.domain.member.entity.enums.ProviderType
+import org.veri.be.domain.member.repository.dto.MemberProfileQueryResult
 import org.veri.be.domain.post.controller.enums.PostSortType
 import org.veri.be.domain.post.dto.request.PostCreateRequest
 import org.veri.be.domain.post.dto.response.LikeInfoResponse
@@ -158,8 +160,8 @@ class PostControllerTest : ControllerTestSupport() {
                 "title",
                 "content",
                 "https://example.com/thumb.png",
-                member,
-                book,
+                MemberProfileQueryResult.from(member),
+                BookSummaryQueryResult.from(book),
                 1L,
                 2L,
                 LocalDateTime.of(2024, 1, 1, 0, 0),
@@ -10,6 +10,7 @@ import org.mockito.BDDMockito.then
 import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
 import org.springframework.test.web.servlet.setup.MockMvcBuilders
@@ -21,10 +22,12 @@ import org.veri.be.domain.card.service.CardCommandService
 import org.veri.be.domain.card.service.CardQueryService
 import org.veri.be.domain.member.entity.Member
 import org.veri.be.domain.member.entity.enums.ProviderType
+import org.veri.be.domain.member.repository.dto.MemberProfileQueryResult
 import org.veri.be.global.auth.JwtClaimsPayload
 import org.veri.be.global.auth.context.AuthenticatedMemberResolver
 import org.veri.be.global.auth.context.CurrentMemberAccessor
 import org.veri.be.global.auth.context.CurrentMemberInfo
+import org.veri.be.global.response.FeedCursor
 import org.veri.be.lib.response.ApiResponseAdvice
 import org.veri.be.support.ControllerTestSupport
 import org.veri.be.support.fixture.MemberFixture
@@ -76,7 +79,7 @@ class SocialCardControllerTest : ControllerTestSupport() {
         fun returnsCardFeed() {
             val item = CardFeedItem(
                 10L,
-                member,
+                MemberProfileQueryResult.from(member),
                 "book",
                 "content",
                 "https://example.com/card.png",
@@ -131,6 +134,46 @@ class SocialCardControllerTest : ControllerTestSupport() {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/cards/cursor")
+    inner class GetCardsByCursor {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 → 마지막 카드 기준 커서를 반환한다")
+        fun returnsNextCursor() {
+            val created = LocalDateTime.of(2024, 1, 1, 0, 0)
+            val item = CardFeedItem(
+                10L,
+                MemberProfileQueryResult.from(member),
+                "book",
+                "content",
+                "https://example.com/card.png",
+                created,
+                true
+            )
+            given(cardQueryService.getAllCardsByCursor(null, 1))
+                .willReturn(SliceImpl(listOf(item), PageRequest.of(0, 1), true))
+
+            get("/api/v1/cards/cursor", mapOf("size" to "1"))
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.result.cards[0].cardId").value(10L))
+                .andExpect(jsonPath("$.result.hasNext").value(true))
+                .andExpect(jsonPath("$.result.nextCursor").value(FeedCursor.of(created, 10L).encode()))
+        }
+
+        @Test
+        @DisplayName("마지막 페이지면 → 커서를 반환하지 않는다")
+        fun returnsNullCursorOnLastPage() {
+            given(cardQueryService.getAllCardsByCursor("abc", 10))
+                .willReturn(SliceImpl(listOf(), PageRequest.of(0, 10), false))
+
+            get("/api/v1/cards/cursor", mapOf("cursor" to "abc", "size" to "10"))
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.result.hasNext").value(false))
+                .andExpect(jsonPath("$.result.nextCursor").doesNotExist())
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /api/v1/cards/{cardId}/visibility")
     inner class ModifyVisibility {
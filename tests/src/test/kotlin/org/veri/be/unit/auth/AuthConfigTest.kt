@@ -44,7 +44,7 @@ class AuthConfigTest {
                 Mockito.mock(TokenProvider::class.java)
             )
 
-            val bean: FilterRegistrationBean<*> = authConfig.firstFilterRegister()
+            val bean: FilterRegistrationBean<*> = authConfig.firstFilterRegister(true)
 
             assertThat(bean).isNotNull
             assertThat(bean.urlPatterns).contains("/api/*")
@@ -10,7 +10,6 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.mockito.ArgumentCaptor
 import org.mockito.ArgumentMatchers.any
-import org.mockito.ArgumentMatchers.eq
 import org.mockito.BDDMockito.given
 import org.mockito.BDDMockito.then
 import org.mockito.Mockito.never
@@ -106,7 +105,7 @@ class AuthServiceTest {
         fun reissuesAccessToken() {
             val claims: Claims = Jwts.claims().add("id", 1L).build()
             given(tokenProvider.parseRefreshToken("refresh")).willReturn(claims)
-            given(tokenStorageService.getRefreshToken(1L)).willReturn("refresh")
+            given(tokenStorageService.matchesRefreshToken(1L, "refresh")).willReturn(true)
             val member = member(1L, "member")
             given(memberQueryService.findById(1L)).willReturn(member)
             given(tokenProvider.generateAccessToken(any<JwtClaimsPayload>()))
@@ -159,9 +158,9 @@ class AuthServiceTest {
 
             assertThat(exception.errorCode).isEqualTo(AuthErrorInfo.UNAUTHORIZED)
             then(tokenBlacklistStore).should().isBlackList("blacklisted-refresh")
-            // 블랙리스트에 있으므로 tokenProvider.parseRefreshToken과 tokenStorageService.getRefreshToken은 호출되지 않아야 함
+            // 블랙리스트에 있으므로 tokenProvider.parseRefreshToken과 tokenStorageService.matchesRefreshToken은 호출되지 않아야 함
             then(tokenProvider).should(never()).parseRefreshToken(any())
-            then(tokenStorageService).should(never()).getRefreshToken(any())
+            then(tokenStorageService).should(never()).matchesRefreshToken(any(), any())
         }
 
         @Test
@@ -170,7 +169,7 @@ class AuthServiceTest {
             val claims: Claims = Jwts.claims().add("id", 1L).build()
             given(tokenProvider.parseRefreshToken("different-refresh")).willReturn(claims)
             given(tokenBlacklistStore.isBlackList("different-refresh")).willReturn(false)
-            given(tokenStorageService.getRefreshToken(1L)).willReturn("stored-refresh")
+            given(tokenStorageService.matchesRefreshToken(1L, "different-refresh")).willReturn(false)
 
             val request = ReissueTokenRequest()
             ReflectionTestUtils.setField(request, "refreshToken", "different-refresh")
@@ -188,42 +187,20 @@ class AuthServiceTest {
     inner class Logout {
 
         @Test
-        @DisplayName("로그아웃하면 → 남은 시간만큼 블랙리스트에 등록한다")
-        fun blacklistsAccessAndRefresh() {
+        @DisplayName("로그아웃하면 → access 토큰은 남은 시간만큼 블랙리스트에 등록하고 리프레시 토큰은 삭제한다")
+        fun blacklistsAccessAndDeletesRefresh() {
             val accessClaims: Claims = Jwts.claims()
                 .add("id", 1L)
                 .expiration(Date.from(Instant.parse("2030-01-01T00:01:00Z")))
                 .build()
-            val refreshClaims: Claims = Jwts.claims()
-                .expiration(Date.from(Instant.parse("2030-01-01T00:02:00Z")))
-                .build()
-
             given(tokenProvider.parseAccessToken("access")).willReturn(accessClaims)
-            given(tokenProvider.parseRefreshToken("refresh")).willReturn(refreshClaims)
-            given(tokenStorageService.getRefreshToken(1L)).willReturn("refresh")
 
             authService.logout("access")
 
             then(tokenBlacklistStore).should().addBlackList("access", 60_000L)
-            then(tokenBlacklistStore).should().addBlackList("refresh", 120_000L)
+            then(tokenBlacklistStore).shouldHaveNoMoreInteractions()
             then(tokenStorageService).should().deleteRefreshToken(1L)
         }
-
-        @Test
-        @DisplayName("리프레시 토큰이 없으면 → 리프레시 블랙리스트는 등록하지 않는다")
-        fun skipsRefreshWhenMissing() {
-            val accessClaims: Claims = Jwts.claims()
-                .add("id", 1L)
-                .expiration(Date.from(Instant.parse("2030-01-01T00:01:00Z")))
-                .build()
-            given(tokenProvider.parseAccessToken("access")).willReturn(accessClaims)
-            given(tokenStorageService.getRefreshToken(1L)).willReturn(null)
-
-            authService.logout("access")
-
-            then(tokenBlacklistStore).should().addBlackList("access", 60_000L)
-            then(tokenBlacklistStore).should(never()).addBlackList(eq("refresh"), any(Long::class.java))
-        }
     }
 
     @Nested
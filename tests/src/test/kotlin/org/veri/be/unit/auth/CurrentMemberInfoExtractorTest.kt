@@ -0,0 +1,84 @@
+package org.veri.be.unit.auth
+
+import io.jsonwebtoken.Jwts
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.veri.be.global.auth.JwtClaimsPayload
+import org.veri.be.global.auth.context.CurrentMemberInfo
+import org.veri.be.global.auth.context.CurrentMemberInfoExtractor
+import org.veri.be.lib.auth.jwt.JwtService
+import org.veri.be.lib.auth.jwt.VerifiedClaimsCache
+import org.veri.be.lib.auth.jwt.data.JwtProperties
+import tools.jackson.databind.DeserializationFeature
+import tools.jackson.databind.ObjectMapper
+import tools.jackson.databind.json.JsonMapper
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+
+class CurrentMemberInfoExtractorTest {
+
+    @Nested
+    @DisplayName("extract")
+    inner class Extract {
+
+        @Test
+        @DisplayName("발급한 access token 의 클레임이면 → ObjectMapper 변환과 같은 결과를 반환한다")
+        fun matchesObjectMapperConversion() {
+            val clock = Clock.fixed(Instant.parse("2030-01-01T00:00:00Z"), ZoneId.of("UTC"))
+            val jwtService = JwtService(jwtProperties(), clock, ObjectMapper(), VerifiedClaimsCache(clock, SimpleMeterRegistry(), 100))
+            val token = jwtService.generateAccessToken(JwtClaimsPayload(1L, "member@test.com", "member", false)).token()
+            val claims = jwtService.parseAccessToken(token)
+
+            val expected = CurrentMemberInfo.from(
+                JsonMapper.builder()
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build()
+                    .convertValue(claims, JwtClaimsPayload::class.java)
+            )
+
+            assertThat(CurrentMemberInfoExtractor.extract(claims)).isEqualTo(expected)
+        }
+
+        @Test
+        @DisplayName("id 가 Integer 로 파싱돼도 → Long 으로 읽는다")
+        fun readsIntegerId() {
+            val claims = Jwts.claims().add("id", 7).add("email", "a@test.com").add("nickName", "a").build()
+
+            assertThat(CurrentMemberInfoExtractor.extract(claims))
+                .isEqualTo(CurrentMemberInfo(7L, "a@test.com", "a"))
+        }
+
+        @Test
+        @DisplayName("id 가 숫자 문자열이면 → Long 으로 읽는다")
+        fun readsNumericStringId() {
+            val claims = Jwts.claims().add("id", "42").build()
+
+            assertThat(CurrentMemberInfoExtractor.extract(claims))
+                .isEqualTo(CurrentMemberInfo(42L, null, null))
+        }
+
+        @Test
+        @DisplayName("id 가 없거나 숫자가 아니면 → null 을 반환한다")
+        fun returnsNullWithoutId() {
+            assertThat(CurrentMemberInfoExtractor.extract(Jwts.claims().add("email", "a@test.com").build())).isNull()
+            assertThat(CurrentMemberInfoExtractor.extract(Jwts.claims().add("id", "abc").build())).isNull()
+        }
+    }
+
+    private fun jwtProperties(): JwtProperties {
+        val properties = JwtProperties()
+        val access = JwtProperties.TokenConfig()
+        access.secret = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA="
+        access.validity = 3_600_000L
+        val refresh = JwtProperties.TokenConfig()
+        refresh.secret = "AQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQEBAQE="
+        refresh.validity = 1_200_000L
+        properties.access = access
+        properties.refresh = refresh
+        return properties
+    }
+}
@@ -0,0 +1,166 @@
+package org.veri.be.unit.auth
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentMatchers.any
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.auth.blacklist.InMemoryTokenBlacklistStore
+import org.veri.be.domain.auth.entity.BlacklistedToken
+import org.veri.be.domain.auth.repository.BlacklistedTokenRepository
+import org.veri.be.domain.auth.service.TokenStorageService
+import org.veri.be.lib.auth.jwt.TokenDigest
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+
+@ExtendWith(MockitoExtension::class)
+class InMemoryTokenBlacklistStoreTest {
+
+    @org.mockito.Mock
+    private lateinit var tokenStorageService: TokenStorageService
+
+    @org.mockito.Mock
+    private lateinit var blacklistedTokenRepository: BlacklistedTokenRepository
+
+    private val clock = MutableClock(Instant.parse("2024-01-01T00:00:00Z"))
+    private lateinit var store: InMemoryTokenBlacklistStore
+
+    @BeforeEach
+    fun setUp() {
+        store = InMemoryTokenBlacklistStore(tokenStorageService, blacklistedTokenRepository, clock, 100, 60)
+    }
+
+    @Nested
+    @DisplayName("isBlackList")
+    inner class IsBlackList {
+
+        @Test
+        @DisplayName("첫 동기화 전이면 → DB 로 확인한다")
+        fun delegatesBeforeFirstLoad() {
+            given(tokenStorageService.isBlackList("token")).willReturn(true)
+
+            assertThat(store.isBlackList("token")).isTrue()
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 토큰이면 → DB 를 조회하지 않고 false 를 반환한다")
+        fun skipsDatabaseForUnknownToken() {
+            load()
+
+            assertThat(store.isBlackList("token")).isFalse()
+            then(tokenStorageService).shouldHaveNoInteractions()
+        }
+
+        @Test
+        @DisplayName("토큰이 null 이면 → false 를 반환한다")
+        fun returnsFalseForNull() {
+            assertThat(store.isBlackList(null)).isFalse()
+        }
+    }
+
+    @Nested
+    @DisplayName("addBlackList")
+    inner class AddBlackList {
+
+        @Test
+        @DisplayName("등록하면 → DB 에 저장하고 바로 블랙리스트로 판단한다")
+        fun persistsAndAppliesImmediately() {
+            load()
+
+            store.addBlackList("token", 60_000L)
+
+            then(tokenStorageService).should().addBlackList("token", 60_000L)
+            assertThat(store.isBlackList("token")).isTrue()
+            assertThat(store.isBlackList("other")).isFalse()
+        }
+
+        @Test
+        @DisplayName("만료 시각이 지나면 → 블랙리스트로 판단하지 않는다")
+        fun expires() {
+            load()
+            store.addBlackList("token", 1_000L)
+
+            clock.instant = clock.instant.plusSeconds(2)
+
+            assertThat(store.isBlackList("token")).isFalse()
+        }
+
+        @Test
+        @DisplayName("예상 개수를 넘겨 등록해도 → 모두 블랙리스트로 판단한다")
+        fun growsBeyondExpectedInsertions() {
+            load()
+
+            (1..300).forEach { store.addBlackList("token-$it", 60_000L) }
+
+            assertThat((1..300).all { store.isBlackList("token-$it") }).isTrue()
+        }
+    }
+
+    @Nested
+    @DisplayName("reload")
+    inner class Reload {
+
+        @Test
+        @DisplayName("DB 에 만료되지 않은 토큰이 있으면 → 메모리에 반영한다")
+        fun loadsPersistedTokens() {
+            given(blacklistedTokenRepository.findAllByExpiredAtAfter(clock.instant))
+                .willReturn(listOf(blacklisted("token", clock.instant.plusSeconds(60))))
+
+            store.reload()
+
+            assertThat(store.isBlackList("token")).isTrue()
+            then(tokenStorageService).shouldHaveNoInteractions()
+        }
+
+        @Test
+        @DisplayName("지난 버킷의 항목은 → 비우고 남은 항목만 유지한다")
+        fun purgesExpiredBuckets() {
+            load()
+            store.addBlackList("short", 1_000L)
+            store.addBlackList("long", 600_000L)
+
+            clock.instant = clock.instant.plusSeconds(120)
+            load()
+
+            assertThat(store.size()).isEqualTo(1)
+            assertThat(store.isBlackList("long")).isTrue()
+        }
+
+        @Test
+        @DisplayName("조회에 실패하면 → 기존 상태를 유지한다")
+        fun keepsStateOnFailure() {
+            load()
+            store.addBlackList("token", 60_000L)
+            given(blacklistedTokenRepository.findAllByExpiredAtAfter(any())).willThrow(IllegalStateException("db down"))
+
+            store.reload()
+
+            assertThat(store.isBlackList("token")).isTrue()
+        }
+    }
+
+    private fun load() {
+        given(blacklistedTokenRepository.findAllByExpiredAtAfter(any())).willReturn(listOf())
+        store.reload()
+    }
+
+    private fun blacklisted(token: String, expiredAt: Instant): BlacklistedToken {
+        return BlacklistedToken.builder()
+            .tokenDigest(TokenDigest.of(token).value())
+            .expiredAt(expiredAt)
+            .build()
+    }
+
+    private class MutableClock(var instant: Instant) : Clock() {
+        override fun getZone(): ZoneId = ZoneOffset.UTC
+        override fun withZone(zone: ZoneId): Clock = this
+        override fun instant(): Instant = instant
+    }
+}
@@ -0,0 +1,132 @@
+package org.veri.be.unit.auth
+
+import io.jsonwebtoken.Jwts
+import jakarta.servlet.FilterChain
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.Mockito.times
+import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.http.HttpHeaders
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.veri.be.domain.auth.service.TokenBlacklistStore
+import org.veri.be.global.auth.AuthErrorInfo
+import org.veri.be.global.auth.context.CurrentMemberInfo
+import org.veri.be.global.auth.context.MemberContext
+import org.veri.be.global.auth.token.TokenProvider
+import org.veri.be.lib.auth.jwt.JwtFilter
+import org.veri.be.lib.exception.ApplicationException
+import org.veri.be.support.assertion.ExceptionAssertions.assertApplicationException
+
+@ExtendWith(MockitoExtension::class)
+class JwtFilterTest {
+
+    @org.mockito.Mock
+    private lateinit var tokenBlacklistStore: TokenBlacklistStore
+
+    @org.mockito.Mock
+    private lateinit var tokenProvider: TokenProvider
+
+    private val claims = Jwts.claims().add("id", 1L).add("email", "member@test.com").add("nickName", "member").build()
+
+    @Nested
+    @DisplayName("lazy 모드")
+    inner class Lazy {
+
+        @Test
+        @DisplayName("회원 정보를 읽지 않으면 → 토큰을 검증하지 않는다")
+        fun skipsVerificationWhenUnused() {
+            var reached = false
+
+            filter(true).doFilter(request("token"), MockHttpServletResponse(), FilterChain { _, _ -> reached = true })
+
+            assertThat(reached).isTrue()
+            then(tokenBlacklistStore).shouldHaveNoInteractions()
+            then(tokenProvider).shouldHaveNoInteractions()
+        }
+
+        @Test
+        @DisplayName("회원 정보를 여러 번 읽으면 → 처음 한 번만 검증한다")
+        fun verifiesOnce() {
+            given(tokenProvider.parseAccessToken("token")).willReturn(claims)
+            val seen = mutableListOf<CurrentMemberInfo?>()
+
+            filter(true).doFilter(request("token"), MockHttpServletResponse(), FilterChain { _, _ ->
+                repeat(2) { seen.add(MemberContext.getCurrentMemberInfo().orElse(null)) }
+                assertThat(MemberContext.getCurrentToken()).contains("token")
+            })
+
+            assertThat(seen).containsExactly(
+                CurrentMemberInfo(1L, "member@test.com", "member"),
+                CurrentMemberInfo(1L, "member@test.com", "member")
+            )
+            then(tokenBlacklistStore).should(times(1)).isBlackList("token")
+            then(tokenProvider).should(times(1)).parseAccessToken("token")
+        }
+
+        @Test
+        @DisplayName("블랙리스트 토큰이면 → 비로그인으로 본다")
+        fun treatsBlacklistedAsAnonymous() {
+            given(tokenBlacklistStore.isBlackList("token")).willReturn(true)
+
+            filter(true).doFilter(request("token"), MockHttpServletResponse(), FilterChain { _, _ ->
+                assertThat(MemberContext.getCurrentMemberInfo()).isEmpty()
+                assertThat(MemberContext.getCurrentToken()).isEmpty()
+            })
+
+            then(tokenProvider).shouldHaveNoInteractions()
+        }
+
+        @Test
+        @DisplayName("잘못된 토큰이면 → 회원 정보를 읽을 때 예외를 던진다")
+        fun failsOnAccess() {
+            given(tokenProvider.parseAccessToken("token")).willThrow(ApplicationException.of(AuthErrorInfo.UNAUTHORIZED))
+            var reached = false
+
+            filter(true).doFilter(request("token"), MockHttpServletResponse(), FilterChain { _, _ ->
+                reached = true
+                assertApplicationException({ MemberContext.getCurrentMemberInfo() }, AuthErrorInfo.UNAUTHORIZED)
+            })
+
+            assertThat(reached).isTrue()
+        }
+    }
+
+    @Nested
+    @DisplayName("eager 모드")
+    inner class Eager {
+
+        @Test
+        @DisplayName("토큰이 있으면 → 필터에서 바로 검증한다")
+        fun verifiesUpFront() {
+            given(tokenProvider.parseAccessToken("token")).willReturn(claims)
+
+            filter(false).doFilter(request("token"), MockHttpServletResponse(), FilterChain { _, _ -> })
+
+            then(tokenProvider).should().parseAccessToken("token")
+        }
+
+        @Test
+        @DisplayName("토큰이 없으면 → 비로그인으로 묶는다")
+        fun bindsAnonymous() {
+            filter(false).doFilter(MockHttpServletRequest(), MockHttpServletResponse(), FilterChain { _, _ ->
+                assertThat(MemberContext.getCurrentMemberInfo()).isEmpty()
+            })
+
+            then(tokenBlacklistStore).shouldHaveNoInteractions()
+        }
+    }
+
+    private fun filter(lazy: Boolean) = JwtFilter(tokenBlacklistStore, tokenProvider, lazy)
+
+    private fun request(token: String): MockHttpServletRequest {
+        val request = MockHttpServletRequest()
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer $token")
+        return request
+    }
+}
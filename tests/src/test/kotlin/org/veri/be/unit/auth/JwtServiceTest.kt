@@ -1,13 +1,19 @@
 package org.veri.be.unit.auth
 
 import io.jsonwebtoken.Claims
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.security.Keys
+import io.jsonwebtoken.security.SignatureException
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.veri.be.global.auth.JwtClaimsPayload
 import org.veri.be.lib.auth.jwt.JwtService
+import org.veri.be.lib.auth.jwt.VerifiedClaimsCache
 import org.veri.be.lib.auth.jwt.data.JwtProperties
 import tools.jackson.databind.ObjectMapper
 import java.time.Clock
@@ -32,7 +38,12 @@ class JwtServiceTest {
         properties.access = access
         properties.refresh = refresh
 
-        jwtService = JwtService(properties, fixedClock, ObjectMapper())
+        jwtService = JwtService(
+            properties,
+            fixedClock,
+            ObjectMapper(),
+            VerifiedClaimsCache(fixedClock, SimpleMeterRegistry(), 100)
+        )
     }
 
     @Nested
@@ -55,6 +66,32 @@ class JwtServiceTest {
             val isAdminValue = claims["isAdmin"] ?: claims["admin"]
             assertThat(isAdminValue?.toString()).isEqualTo("false")
         }
+
+        @Test
+        @DisplayName("같은 토큰을 다시 파싱하면 → 검증된 클레임을 재사용한다")
+        fun reusesVerifiedClaims() {
+            val generated = jwtService.generateAccessToken(JwtClaimsPayload(1L, "member@test.com", "member", false))
+
+            val first = jwtService.parseAccessToken(generated.token())
+            val second = jwtService.parseAccessToken(generated.token())
+
+            assertThat(second).isSameAs(first)
+        }
+
+        @Test
+        @DisplayName("다른 키로 서명한 토큰이면 → 매번 검증에 실패한다")
+        fun rejectsTamperedTokenEveryTime() {
+            val forged = Jwts.builder()
+                .subject("veri")
+                .claim("id", 1L)
+                .signWith(Keys.hmacShaKeyFor(ByteArray(32) { 7 }), Jwts.SIG.HS256)
+                .compact()
+
+            repeat(2) {
+                assertThatThrownBy { jwtService.parseAccessToken(forged) }
+                    .isInstanceOf(SignatureException::class.java)
+            }
+        }
     }
 
     @Nested
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.veri.be.global.auth.JwtClaimsPayload
+import org.veri.be.global.auth.context.CurrentMemberInfo
 import org.veri.be.global.auth.context.MemberContext
 import java.lang.reflect.Constructor
 import java.lang.reflect.Modifier
@@ -30,6 +31,25 @@ class MemberContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("bind")
+    inner class Bind {
+
+        @Test
+        @DisplayName("묶은 범위 안에서는 → 회원 정보와 토큰을 반환하고 범위를 벗어나면 사라진다")
+        fun bindsWithinScope() {
+            val memberInfo = CurrentMemberInfo(3L, "member@test.com", "member")
+
+            val inside = MemberContext.bind(memberInfo, "token").call<Pair<Long?, String?>, RuntimeException> {
+                MemberContext.getCurrentMemberId().orElse(null) to MemberContext.getCurrentToken().orElse(null)
+            }
+
+            assertThat(inside).isEqualTo(3L to "token")
+            assertThat(MemberContext.getCurrentMemberId()).isEmpty()
+            assertThat(MemberContext.getCurrentToken()).isEmpty()
+        }
+    }
+
     @Nested
     @DisplayName("clear")
     inner class Clear {
@@ -10,23 +10,24 @@ import org.junit.jupiter.api.extension.ExtendWith
 import org.mockito.BDDMockito.given
 import org.mockito.BDDMockito.then
 import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.member.dto.MemberSnapshot
 import org.veri.be.domain.member.entity.Member
 import org.veri.be.domain.member.repository.MemberRepository
 import org.veri.be.global.auth.JwtClaimsPayload
 import org.veri.be.global.auth.context.CurrentMemberInfo
 import org.veri.be.global.auth.context.MemberContext
-import org.veri.be.global.auth.context.ThreadLocalCurrentMemberAccessor
+import org.veri.be.global.auth.context.ScopedCurrentMemberAccessor
 import org.veri.be.support.fixture.MemberFixture
 import java.util.Optional
 
 @ExtendWith(MockitoExtension::class)
-class ThreadLocalCurrentMemberAccessorTest {
+class ScopedCurrentMemberAccessorTest {
 
     @org.mockito.Mock
     private lateinit var memberRepository: MemberRepository
 
     @org.mockito.InjectMocks
-    private lateinit var accessor: ThreadLocalCurrentMemberAccessor
+    private lateinit var accessor: ScopedCurrentMemberAccessor
 
     @BeforeEach
     fun setUp() {
@@ -60,6 +61,31 @@ class ThreadLocalCurrentMemberAccessorTest {
 
             assertThat(result).isNull()
         }
+
+        @Test
+        @DisplayName("ScopedValue 로 묶여 있으면 → ThreadLocal 보다 우선한다")
+        fun prefersScopedBinding() {
+            MemberContext.setCurrentMemberInfo(CurrentMemberInfo(1L, "thread@test.com", "thread"))
+            val scoped = CurrentMemberInfo(2L, "scoped@test.com", "scoped")
+
+            val result = MemberContext.bind(scoped, "token").call<CurrentMemberInfo?, RuntimeException> {
+                accessor.getCurrentMemberInfoOrNull()
+            }
+
+            assertThat(result).isEqualTo(scoped)
+        }
+
+        @Test
+        @DisplayName("비로그인 요청으로 묶여 있으면 → ThreadLocal 값이 있어도 null 을 반환한다")
+        fun returnsNullWhenBoundAnonymous() {
+            MemberContext.setCurrentMemberInfo(CurrentMemberInfo(1L, "thread@test.com", "thread"))
+
+            val result = MemberContext.bind(null, null).call<CurrentMemberInfo?, RuntimeException> {
+                accessor.getCurrentMemberInfoOrNull()
+            }
+
+            assertThat(result).isNull()
+        }
     }
 
     @Nested
@@ -89,6 +115,54 @@ class ThreadLocalCurrentMemberAccessorTest {
         }
     }
 
+    @Nested
+    @DisplayName("getMemberSnapshotOrThrow")
+    inner class GetMemberSnapshotOrThrow {
+
+        @Test
+        @DisplayName("회원이 있으면 → 엔티티 대신 스냅샷을 반환한다")
+        fun returnsSnapshot() {
+            val member = member(1L, "member")
+            MemberContext.setCurrentMemberInfo(CurrentMemberInfo(1L, member.email, member.nickname))
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member))
+
+            val result: MemberSnapshot = accessor.memberSnapshotOrThrow
+
+            assertThat(result).isEqualTo(MemberSnapshot.from(member))
+        }
+
+        @Test
+        @DisplayName("회원이 없으면 → 예외를 발생한다")
+        fun throwsWhenMemberMissing() {
+            MemberContext.setCurrentMemberInfo(CurrentMemberInfo(1L, "member@test.com", "member"))
+            given(memberRepository.findById(1L)).willReturn(Optional.empty())
+
+            org.veri.be.support.assertion.ExceptionAssertions.assertApplicationException(
+                { accessor.memberSnapshotOrThrow },
+                org.veri.be.global.auth.AuthErrorInfo.UNAUTHORIZED
+            )
+        }
+    }
+
+    @Nested
+    @DisplayName("getContextKey")
+    inner class GetContextKey {
+
+        @Test
+        @DisplayName("현재 회원이 있으면 → 회원 id 를 캐시 키로 반환한다")
+        fun returnsMemberId() {
+            MemberContext.setCurrentMemberInfo(CurrentMemberInfo(7L, "member@test.com", "member"))
+
+            assertThat(accessor.contextKey).isEqualTo(7L)
+        }
+
+        @Test
+        @DisplayName("현재 회원이 없으면 → null 을 반환한다")
+        fun returnsNullWithoutMember() {
+            assertThat(accessor.contextKey).isNull()
+        }
+    }
+
     private fun member(id: Long, nickname: String): Member {
         return MemberFixture.aMember().id(id).nickname(nickname).build()
     }
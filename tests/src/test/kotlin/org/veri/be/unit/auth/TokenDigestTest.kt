@@ -0,0 +1,27 @@
+package org.veri.be.unit.auth
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.veri.be.lib.auth.jwt.TokenDigest
+
+class TokenDigestTest {
+
+    @Nested
+    @DisplayName("of")
+    inner class Of {
+
+        @Test
+        @DisplayName("같은 토큰이면 → 같은 digest 를 만든다")
+        fun sameTokenSameDigest() {
+            assertThat(TokenDigest.of("header.payload.signature")).isEqualTo(TokenDigest.of("header.payload.signature"))
+        }
+
+        @Test
+        @DisplayName("ASCII 가 아닌 문자만 다른 토큰이면 → 다른 digest 를 만든다")
+        fun distinguishesNonAsciiTokens() {
+            assertThat(TokenDigest.of("token-가")).isNotEqualTo(TokenDigest.of("token-나"))
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.veri.be.domain.auth.entity.RefreshToken
 import org.veri.be.domain.auth.repository.BlacklistedTokenRepository
 import org.veri.be.domain.auth.repository.RefreshTokenRepository
 import org.veri.be.domain.auth.service.TokenStorageService
+import org.veri.be.lib.auth.jwt.TokenDigest
 import java.time.Clock
 import java.time.Instant
 import java.time.ZoneId
@@ -61,7 +62,7 @@ class TokenStorageServiceTest {
             val saved = refreshTokenCaptor.value
 
             assertThat(saved.userId).isEqualTo(1L)
-            assertThat(saved.token).isEqualTo("refresh-token")
+            assertThat(saved.tokenDigest).isEqualTo(TokenDigest.of("refresh-token").value())
             assertThat(saved.expiredAt).isEqualTo(Instant.parse("2024-01-01T00:00:01Z"))
         }
     }
@@ -78,7 +79,7 @@ class TokenStorageServiceTest {
             then(blacklistedTokenRepository).should().save(blacklistedTokenCaptor.capture())
             val saved = blacklistedTokenCaptor.value
 
-            assertThat(saved.token).isEqualTo("access-token")
+            assertThat(saved.tokenDigest).hasSize(32).isEqualTo(TokenDigest.of("access-token").value())
             assertThat(saved.expiredAt).isEqualTo(Instant.parse("2024-01-01T00:00:02Z"))
         }
     }
@@ -90,11 +91,11 @@ class TokenStorageServiceTest {
         @Test
         @DisplayName("만료되지 않은 토큰이면 → 블랙리스트로 판단한다")
         fun returnsTrueWhenNotExpired() {
-            given(blacklistedTokenRepository.findById("token"))
+            given(blacklistedTokenRepository.findById(TokenDigest.of("token").value()))
                 .willReturn(
                     Optional.of(
                         BlacklistedToken.builder()
-                            .token("token")
+                            .tokenDigest(TokenDigest.of("token").value())
                             .expiredAt(Instant.parse("2024-01-01T00:00:05Z"))
                             .build()
                     )
@@ -108,11 +109,11 @@ class TokenStorageServiceTest {
         @Test
         @DisplayName("만료된 토큰이면 → 블랙리스트로 판단하지 않는다")
         fun returnsFalseWhenExpired() {
-            given(blacklistedTokenRepository.findById("token"))
+            given(blacklistedTokenRepository.findById(TokenDigest.of("token").value()))
                 .willReturn(
                     Optional.of(
                         BlacklistedToken.builder()
-                            .token("token")
+                            .tokenDigest(TokenDigest.of("token").value())
                             .expiredAt(Instant.parse("2023-12-31T23:59:59Z"))
                             .build()
                     )
@@ -125,45 +126,42 @@ class TokenStorageServiceTest {
     }
 
     @Nested
-    @DisplayName("getRefreshToken")
-    inner class GetRefreshToken {
+    @DisplayName("matchesRefreshToken")
+    inner class MatchesRefreshToken {
 
         @Test
-        @DisplayName("만료되지 않은 리프레시 토큰이면 → 반환한다")
-        fun returnsRefreshTokenWhenValid() {
+        @DisplayName("만료되지 않은 같은 리프레시 토큰이면 → true 를 반환한다")
+        fun matchesWhenValid() {
             given(refreshTokenRepository.findById(1L))
                 .willReturn(
                     Optional.of(
                         RefreshToken.builder()
                             .userId(1L)
-                            .token("refresh-token")
+                            .tokenDigest(TokenDigest.of("refresh-token").value())
                             .expiredAt(Instant.parse("2024-01-01T00:00:10Z"))
                             .build()
                     )
                 )
 
-            val token = tokenStorageService.getRefreshToken(1L)
-
-            assertThat(token).isEqualTo("refresh-token")
+            assertThat(tokenStorageService.matchesRefreshToken(1L, "refresh-token")).isTrue()
+            assertThat(tokenStorageService.matchesRefreshToken(1L, "other-token")).isFalse()
         }
 
         @Test
-        @DisplayName("만료된 리프레시 토큰이면 → null을 반환한다")
-        fun returnsNullWhenExpired() {
+        @DisplayName("만료된 리프레시 토큰이면 → false 를 반환한다")
+        fun doesNotMatchWhenExpired() {
             given(refreshTokenRepository.findById(1L))
                 .willReturn(
                     Optional.of(
                         RefreshToken.builder()
                             .userId(1L)
-                            .token("refresh-token")
+                            .tokenDigest(TokenDigest.of("refresh-token").value())
                             .expiredAt(Instant.parse("2023-12-31T23:59:59Z"))
                             .build()
                     )
                 )
 
-            val token = tokenStorageService.getRefreshToken(1L)
-
-            assertThat(token).isNull()
+            assertThat(tokenStorageService.matchesRefreshToken(1L, "refresh-token")).isFalse()
         }
     }
 
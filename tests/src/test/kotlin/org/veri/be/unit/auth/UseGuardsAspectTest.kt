@@ -0,0 +1,116 @@
+package org.veri.be.unit.auth
+
+import org.aspectj.lang.ProceedingJoinPoint
+import org.aspectj.lang.reflect.MethodSignature
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.Mockito.times
+import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.context.ApplicationContext
+import org.veri.be.lib.auth.guard.Guard
+import org.veri.be.lib.auth.guard.UseGuards
+import org.veri.be.lib.auth.guard.UseGuardsAspect
+
+@ExtendWith(MockitoExtension::class)
+class UseGuardsAspectTest {
+
+    @org.mockito.Mock
+    private lateinit var applicationContext: ApplicationContext
+
+    @org.mockito.Mock
+    private lateinit var joinPoint: ProceedingJoinPoint
+
+    @org.mockito.Mock
+    private lateinit var signature: MethodSignature
+
+    private lateinit var aspect: UseGuardsAspect
+    private val classGuard = CountingGuard()
+    private val methodGuard = CountingGuard()
+
+    @BeforeEach
+    fun setUp() {
+        aspect = UseGuardsAspect(applicationContext)
+    }
+
+    @Nested
+    @DisplayName("applyGuards")
+    inner class ApplyGuards {
+
+        @Test
+        @DisplayName("같은 핸들러를 반복 호출하면 → 가드 빈은 한 번만 찾고 가드는 매번 실행한다")
+        fun resolvesGuardsOnce() {
+            given(applicationContext.getBean(ClassGuard::class.java)).willReturn(classGuard)
+            stubInvocation("handle")
+
+            repeat(3) { assertThat(aspect.applyGuards(joinPoint)).isEqualTo("ok") }
+
+            assertThat(classGuard.calls).isEqualTo(3)
+            then(applicationContext).should(times(1)).getBean(ClassGuard::class.java)
+        }
+
+        @Test
+        @DisplayName("메서드에 가드가 있으면 → 클래스 가드 대신 메서드 가드를 실행한다")
+        fun prefersMethodGuards() {
+            given(applicationContext.getBean(MethodGuard::class.java)).willReturn(methodGuard)
+            stubInvocation("special")
+
+            aspect.applyGuards(joinPoint)
+
+            assertThat(methodGuard.calls).isEqualTo(1)
+            assertThat(classGuard.calls).isZero()
+        }
+
+        @Test
+        @DisplayName("가드가 예외를 던지면 → 핸들러를 실행하지 않는다")
+        fun stopsWhenGuardRejects() {
+            given(applicationContext.getBean(ClassGuard::class.java)).willReturn(RejectingGuard())
+            given(joinPoint.signature).willReturn(signature)
+            given(signature.method).willReturn(GuardedHandler::class.java.getMethod("handle"))
+            given(joinPoint.target).willReturn(GuardedHandler())
+
+            assertThatThrownBy { aspect.applyGuards(joinPoint) }
+                .isInstanceOf(IllegalStateException::class.java)
+            then(joinPoint).should(times(0)).proceed()
+        }
+    }
+
+    private fun stubInvocation(methodName: String) {
+        given(joinPoint.signature).willReturn(signature)
+        given(signature.method).willReturn(GuardedHandler::class.java.getMethod(methodName))
+        given(joinPoint.target).willReturn(GuardedHandler())
+        given(joinPoint.proceed()).willReturn("ok")
+    }
+
+    @UseGuards(ClassGuard::class)
+    class GuardedHandler {
+        fun handle() = "ok"
+
+        @UseGuards(MethodGuard::class)
+        fun special() = "ok"
+    }
+
+    interface ClassGuard : Guard
+
+    interface MethodGuard : Guard
+
+    class CountingGuard : ClassGuard, MethodGuard {
+        var calls = 0
+
+        override fun canActivate() {
+            calls++
+        }
+    }
+
+    class RejectingGuard : ClassGuard {
+        override fun canActivate() {
+            throw IllegalStateException("rejected")
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.veri.be.unit.auth
+
+import io.jsonwebtoken.Claims
+import io.jsonwebtoken.Jwts
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.veri.be.lib.auth.jwt.VerifiedClaimsCache
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.util.Date
+import java.util.concurrent.atomic.AtomicInteger
+
+class VerifiedClaimsCacheTest {
+
+    private val now = Instant.parse("2030-01-01T00:00:00Z")
+    private val cache = VerifiedClaimsCache(Clock.fixed(now, ZoneId.of("UTC")), SimpleMeterRegistry(), 100)
+
+    @Nested
+    @DisplayName("get")
+    inner class Get {
+
+        @Test
+        @DisplayName("만료 전 토큰이면 → 두 번째 조회부터 검증하지 않는다")
+        fun verifiesOnce() {
+            val calls = AtomicInteger()
+            val verifier = { _: String -> calls.incrementAndGet(); claimsExpiringAt(now.plusSeconds(60)) }
+
+            val first = cache.get("token", verifier)
+            val second = cache.get("token", verifier)
+
+            assertThat(second).isSameAs(first)
+            assertThat(calls.get()).isEqualTo(1)
+        }
+
+        @Test
+        @DisplayName("이미 만료 시각이 지난 클레임이면 → 저장하지 않는다")
+        fun doesNotKeepExpiredClaims() {
+            val calls = AtomicInteger()
+            val verifier = { _: String -> calls.incrementAndGet(); claimsExpiringAt(now.minusSeconds(1)) }
+
+            cache.get("token", verifier)
+            cache.get("token", verifier)
+
+            assertThat(calls.get()).isEqualTo(2)
+        }
+
+        @Test
+        @DisplayName("검증에 실패하면 → 예외를 전달하고 저장하지 않는다")
+        fun doesNotCacheFailures() {
+            val calls = AtomicInteger()
+            val verifier = { _: String -> calls.incrementAndGet(); throw IllegalArgumentException("invalid") }
+
+            repeat(2) {
+                assertThatThrownBy { cache.get("token", verifier) }
+                    .isInstanceOf(IllegalArgumentException::class.java)
+            }
+            assertThat(calls.get()).isEqualTo(2)
+        }
+    }
+
+    private fun claimsExpiringAt(expiration: Instant): Claims {
+        return Jwts.claims()
+            .add("id", 1L)
+            .expiration(Date.from(expiration))
+            .build()
+    }
+}
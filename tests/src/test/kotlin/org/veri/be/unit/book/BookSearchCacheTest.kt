@@ -0,0 +1,158 @@
+package org.veri.be.unit.book
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.Mockito.times
+import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.test.util.ReflectionTestUtils
+import org.veri.be.domain.book.client.BookSearchCache
+import org.veri.be.domain.book.client.BookSearchClient
+import org.veri.be.domain.book.client.NaverClientException
+import org.veri.be.domain.book.dto.book.NaverBookItem
+import org.veri.be.domain.book.dto.book.NaverBookResponse
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+@ExtendWith(MockitoExtension::class)
+class BookSearchCacheTest {
+
+    @org.mockito.Mock
+    private lateinit var bookSearchClient: BookSearchClient
+
+    private val meterRegistry = SimpleMeterRegistry()
+    private lateinit var cache: BookSearchCache
+
+    @BeforeEach
+    fun setUp() {
+        cache = BookSearchCache(bookSearchClient, meterRegistry, 600, 60, 100)
+    }
+
+    @Nested
+    @DisplayName("search")
+    inner class Search {
+
+        @Test
+        @DisplayName("같은 검색을 반복하면 → 외부 API 는 한 번만 호출한다")
+        fun cachesResult() {
+            val response = response(1)
+            given(bookSearchClient.search("query", 1, 10)).willReturn(response)
+
+            val first = cache.search("query", 1, 10)
+            val second = cache.search("query", 1, 10)
+
+            assertThat(first).isSameAs(response)
+            assertThat(second).isSameAs(response)
+            then(bookSearchClient).should(times(1)).search("query", 1, 10)
+        }
+
+        @Test
+        @DisplayName("공백과 대소문자만 다른 검색어는 → 같은 키로 취급하고 외부 API 에는 원래 검색어를 보낸다")
+        fun normalizesQuery() {
+            given(bookSearchClient.search("Clean   Code", 1, 10)).willReturn(response(1))
+
+            cache.search("  Clean   Code ", 1, 10)
+            cache.search("clean code", 1, 10)
+
+            then(bookSearchClient).should(times(1)).search("Clean   Code", 1, 10)
+        }
+
+        @Test
+        @DisplayName("결과가 없는 검색도 → 캐싱한다")
+        fun cachesEmptyResult() {
+            given(bookSearchClient.search("nothing", 1, 10)).willReturn(response(0))
+
+            cache.search("nothing", 1, 10)
+            cache.search("nothing", 1, 10)
+
+            then(bookSearchClient).should(times(1)).search("nothing", 1, 10)
+        }
+
+        @Test
+        @DisplayName("외부 API 가 실패하면 → 예외를 전달하고 캐싱하지 않는다")
+        fun doesNotCacheFailure() {
+            given(bookSearchClient.search("query", 1, 10))
+                .willThrow(NaverClientException("error"))
+                .willReturn(response(1))
+
+            assertThatThrownBy { cache.search("query", 1, 10) }
+                .isInstanceOf(NaverClientException::class.java)
+            val retried = cache.search("query", 1, 10)
+
+            assertThat(retried.items).hasSize(1)
+            then(bookSearchClient).should(times(2)).search("query", 1, 10)
+        }
+
+        @Test
+        @DisplayName("선행 호출이 Error 로 끝나면 → 합류한 요청도 같은 Error 를 받는다")
+        fun propagatesErrorToFollowers() {
+            val started = CountDownLatch(1)
+            val release = CountDownLatch(1)
+            given(bookSearchClient.search("query", 1, 10)).willAnswer {
+                started.countDown()
+                release.await(5, TimeUnit.SECONDS)
+                throw StackOverflowError()
+            }
+            val executor = Executors.newFixedThreadPool(2)
+
+            try {
+                val leader = executor.submit<NaverBookResponse> { cache.search("query", 1, 10) }
+                started.await(5, TimeUnit.SECONDS)
+                val follower = executor.submit<NaverBookResponse> { cache.search("query", 1, 10) }
+                Thread.sleep(100)
+                release.countDown()
+
+                assertThatThrownBy { leader.get(5, TimeUnit.SECONDS) }.hasCauseInstanceOf(StackOverflowError::class.java)
+                assertThatThrownBy { follower.get(5, TimeUnit.SECONDS) }.hasCauseInstanceOf(StackOverflowError::class.java)
+            } finally {
+                executor.shutdownNow()
+            }
+        }
+
+        @Test
+        @DisplayName("동일 검색이 동시에 들어오면 → 진행 중인 호출 하나로 합친다")
+        fun coalescesConcurrentRequests() {
+            val started = CountDownLatch(1)
+            val release = CountDownLatch(1)
+            given(bookSearchClient.search("query", 1, 10)).willAnswer {
+                started.countDown()
+                release.await(5, TimeUnit.SECONDS)
+                response(1)
+            }
+            val executor = Executors.newFixedThreadPool(4)
+
+            try {
+                val leader = executor.submit<NaverBookResponse> { cache.search("query", 1, 10) }
+                started.await(5, TimeUnit.SECONDS)
+                val followers = (1..3).map { executor.submit<NaverBookResponse> { cache.search("query", 1, 10) } }
+                Thread.sleep(100)
+                release.countDown()
+
+                val results = (listOf(leader) + followers).map { it.get(5, TimeUnit.SECONDS) }
+
+                assertThat(results).allSatisfy { assertThat(it).isSameAs(results[0]) }
+                then(bookSearchClient).should(times(1)).search("query", 1, 10)
+            } finally {
+                executor.shutdownNow()
+            }
+        }
+    }
+
+    private fun response(itemCount: Int): NaverBookResponse {
+        val response = NaverBookResponse()
+        val items = (1..itemCount).map {
+            NaverBookItem().also { item -> ReflectionTestUtils.setField(item, "title", "title-$it") }
+        }
+        ReflectionTestUtils.setField(response, "items", items)
+        ReflectionTestUtils.setField(response, "total", itemCount)
+        return response
+    }
+}
@@ -1,5 +1,6 @@
 package org.veri.be.unit.book
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -13,6 +14,7 @@ import org.mockito.BDDMockito.then
 import org.mockito.Mockito.never
 import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.test.util.ReflectionTestUtils
+import org.veri.be.domain.book.client.BookSearchCache
 import org.veri.be.domain.book.client.BookSearchClient
 import org.veri.be.domain.book.entity.Book
 import org.veri.be.domain.book.repository.BookRepository
@@ -38,7 +40,7 @@ class BookServiceTest {
 
     @BeforeEach
     fun setUp() {
-        bookService = BookService(bookRepository, bookSearchClient)
+        bookService = BookService(bookRepository, BookSearchCache(bookSearchClient, SimpleMeterRegistry(), 600, 60, 100))
     }
 
     @Nested
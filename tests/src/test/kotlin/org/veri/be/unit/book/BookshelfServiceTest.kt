@@ -16,6 +16,7 @@ import org.veri.be.domain.book.dto.reading.response.ReadingVisibilityUpdateRespo
 import org.veri.be.domain.book.entity.Reading
 import org.veri.be.domain.book.entity.enums.ReadingStatus
 import org.veri.be.domain.book.exception.BookErrorCode
+import org.veri.be.domain.book.ranking.WeeklyPopularBookRanking
 import org.veri.be.domain.book.repository.BookRepository
 import org.veri.be.domain.book.repository.ReadingRepository
 import org.veri.be.domain.book.service.BookshelfService
@@ -42,6 +43,9 @@ class BookshelfServiceTest {
     @org.mockito.Mock
     private lateinit var memberRepository: MemberRepository
 
+    @org.mockito.Mock
+    private lateinit var weeklyPopularBookRanking: WeeklyPopularBookRanking
+
     private val fixedClock: Clock = Clock.fixed(Instant.parse("2024-01-03T12:00:00Z"), ZoneId.of("UTC"))
 
     private lateinit var bookshelfService: BookshelfService
@@ -56,7 +60,8 @@ class BookshelfServiceTest {
             readingRepository,
             bookRepository,
             memberRepository,
-            fixedClock
+            fixedClock,
+            weeklyPopularBookRanking
         )
     }
 
@@ -96,6 +101,7 @@ class BookshelfServiceTest {
 
             assertThat(result).isEqualTo(reading)
             then(readingRepository).should(never()).save(any(Reading::class.java))
+            then(weeklyPopularBookRanking).shouldHaveNoInteractions()
         }
 
         @Test
@@ -120,6 +126,7 @@ class BookshelfServiceTest {
             assertThat(saved.status).isEqualTo(ReadingStatus.NOT_START)
             assertThat(saved.isPublic).isFalse()
             assertThat(result).isEqualTo(saved)
+            then(weeklyPopularBookRanking).should().recordAddedAfterCommit(book)
         }
     }
 
@@ -241,6 +248,7 @@ class BookshelfServiceTest {
             bookshelfService.deleteBook(member.id, 10L)
 
             then(readingRepository).should().delete(reading)
+            then(weeklyPopularBookRanking).should().recordRemovedAfterCommit(1L, reading.createdAt)
         }
     }
 
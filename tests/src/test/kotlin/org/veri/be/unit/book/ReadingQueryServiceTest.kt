@@ -13,12 +13,13 @@ import org.mockito.BDDMockito.given
 import org.mockito.BDDMockito.then
 import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.data.domain.Page
-import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.Pageable
 import org.veri.be.domain.book.controller.enums.ReadingSortType
+import org.veri.be.domain.book.dto.book.BookPopularResponse
 import org.veri.be.domain.book.entity.enums.ReadingStatus
+import org.veri.be.domain.book.ranking.WeeklyPopularBookRanking
 import org.veri.be.domain.book.repository.ReadingRepository
-import org.veri.be.domain.book.repository.dto.BookPopularQueryResult
+import org.veri.be.domain.book.repository.dto.ReadingStatusCountQueryResult
 import org.veri.be.domain.book.service.ReadingQueryService
 import org.veri.be.global.auth.JwtClaimsPayload
 import org.veri.be.global.auth.context.CurrentMemberAccessor
@@ -28,10 +29,6 @@ import org.veri.be.support.assertion.ExceptionAssertions
 import org.veri.be.support.fixture.BookFixture
 import org.veri.be.support.fixture.MemberFixture
 import org.veri.be.support.fixture.ReadingFixture
-import java.time.Clock
-import java.time.Instant
-import java.time.LocalDateTime
-import java.time.ZoneId
 import java.util.Optional
 
 @ExtendWith(MockitoExtension::class)
@@ -43,22 +40,20 @@ class ReadingQueryServiceTest {
     @org.mockito.Mock
     private lateinit var currentMemberAccessor: CurrentMemberAccessor
 
-    private val fixedClock: Clock = Clock.fixed(Instant.parse("2024-01-03T12:00:00Z"), ZoneId.of("UTC"))
+    @org.mockito.Mock
+    private lateinit var weeklyPopularBookRanking: WeeklyPopularBookRanking
 
     private lateinit var readingQueryService: ReadingQueryService
 
     @org.mockito.Captor
     private lateinit var pageableCaptor: ArgumentCaptor<Pageable>
 
-    @org.mockito.Captor
-    private lateinit var dateTimeCaptor: ArgumentCaptor<LocalDateTime>
-
     @BeforeEach
     fun setUp() {
         readingQueryService = ReadingQueryService(
             readingRepository,
             currentMemberAccessor,
-            fixedClock
+            weeklyPopularBookRanking
         )
     }
 
@@ -137,18 +132,40 @@ class ReadingQueryServiceTest {
     inner class SearchWeeklyPopular {
 
         @Test
-        @DisplayName("요청하면 → 주간 인기 도서를 조회한다")
-        fun queriesWeeklyPopular() {
-            given(readingRepository.findMostPopularBook(any(LocalDateTime::class.java), any(LocalDateTime::class.java), any(Pageable::class.java)))
-                .willReturn(PageImpl(listOf(BookPopularQueryResult("img", "title", "author", "pub", "isbn"))))
-
-            val result = readingQueryService.searchWeeklyPopular(0, 10)
-
-            then(readingRepository).should().findMostPopularBook(dateTimeCaptor.capture(), dateTimeCaptor.capture(), any(Pageable::class.java))
-            val captured = dateTimeCaptor.allValues
-            assertThat(captured[0].dayOfWeek.value).isEqualTo(1)
-            assertThat(captured[1]).isAfter(captured[0])
-            assertThat(result.totalElements).isEqualTo(1)
+        @DisplayName("요청하면 → DB 조회 없이 랭킹에서 해당 페이지를 잘라 반환한다")
+        fun readsFromRanking() {
+            val books = (1..3).map { BookPopularResponse("img-$it", "title-$it", "author", "pub", "isbn-$it") }
+            given(weeklyPopularBookRanking.top(4)).willReturn(books)
+            given(weeklyPopularBookRanking.size()).willReturn(3)
+
+            val result = readingQueryService.searchWeeklyPopular(1, 2)
+
+            assertThat(result.content.map { it.title() }).containsExactly("title-3")
+            assertThat(result.totalElements).isEqualTo(3)
+            then(readingRepository).shouldHaveNoInteractions()
+        }
+    }
+
+    @Nested
+    @DisplayName("countReadingsByStatus")
+    inner class CountReadingsByStatus {
+
+        @Test
+        @DisplayName("상태별 집계를 조회하면 → 상태별 개수 맵을 반환한다")
+        fun returnsCountsPerStatus() {
+            given(readingRepository.countGroupByStatus(1L)).willReturn(
+                listOf(
+                    ReadingStatusCountQueryResult(ReadingStatus.READING, 2L),
+                    ReadingStatusCountQueryResult(ReadingStatus.DONE, 1L)
+                )
+            )
+
+            val result = readingQueryService.countReadingsByStatus(1L)
+
+            assertThat(result)
+                .containsEntry(ReadingStatus.READING, 2L)
+                .containsEntry(ReadingStatus.DONE, 1L)
+                .doesNotContainKey(ReadingStatus.NOT_START)
         }
     }
 
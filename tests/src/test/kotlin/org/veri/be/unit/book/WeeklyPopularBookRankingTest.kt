@@ -0,0 +1,214 @@
+package org.veri.be.unit.book
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentMatchers.any
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.book.entity.Book
+import org.veri.be.domain.book.ranking.WeeklyPopularBookRanking
+import org.veri.be.domain.book.repository.ReadingRepository
+import org.veri.be.domain.book.repository.dto.BookWeeklyCountQueryResult
+import org.veri.be.support.fixture.BookFixture
+import java.time.Clock
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.ZoneOffset
+
+@ExtendWith(MockitoExtension::class)
+class WeeklyPopularBookRankingTest {
+
+    @org.mockito.Mock
+    private lateinit var readingRepository: ReadingRepository
+
+    // 2024-01-03 (수)
+    private val clock = MutableClock(Instant.parse("2024-01-03T12:00:00Z"))
+    private lateinit var ranking: WeeklyPopularBookRanking
+
+    @BeforeEach
+    fun setUp() {
+        ranking = WeeklyPopularBookRanking(readingRepository, clock)
+    }
+
+    @Nested
+    @DisplayName("recordAddedAfterCommit")
+    inner class RecordAdded {
+
+        @Test
+        @DisplayName("추가 횟수가 많은 순으로 → 상위 목록을 반환한다")
+        fun ranksByCount() {
+            val first = book(1L, "first")
+            val second = book(2L, "second")
+
+            ranking.recordAddedAfterCommit(first)
+            ranking.recordAddedAfterCommit(second)
+            ranking.recordAddedAfterCommit(second)
+
+            assertThat(ranking.top(10).map { it.title() }).containsExactly("second", "first")
+            assertThat(ranking.size()).isEqualTo(2)
+        }
+
+        @Test
+        @DisplayName("동률이면 → 책 id 오름차순으로 정렬한다")
+        fun breaksTiesByBookId() {
+            ranking.recordAddedAfterCommit(book(2L, "later"))
+            ranking.recordAddedAfterCommit(book(1L, "earlier"))
+
+            assertThat(ranking.top(10).map { it.title() }).containsExactly("earlier", "later")
+        }
+
+        @Test
+        @DisplayName("limit 이 랭킹 크기보다 작으면 → limit 개만 반환한다")
+        fun limitsResult() {
+            (1L..5L).forEach { ranking.recordAddedAfterCommit(book(it, "book-$it")) }
+
+            assertThat(ranking.top(3)).hasSize(3)
+        }
+    }
+
+    @Nested
+    @DisplayName("recordRemovedAfterCommit")
+    inner class RecordRemoved {
+
+        @Test
+        @DisplayName("이번 주에 추가된 독서를 삭제하면 → 횟수가 줄고 0 이 되면 랭킹에서 빠진다")
+        fun decrementsCurrentWeek() {
+            val target = book(1L, "target")
+            ranking.recordAddedAfterCommit(target)
+            ranking.recordAddedAfterCommit(book(2L, "other"))
+
+            ranking.recordRemovedAfterCommit(1L, LocalDateTime.of(2024, 1, 2, 10, 0))
+
+            assertThat(ranking.top(10).map { it.title() }).containsExactly("other")
+        }
+
+        @Test
+        @DisplayName("지난주에 추가된 독서를 삭제하면 → 랭킹은 변하지 않는다")
+        fun ignoresPreviousWeek() {
+            ranking.recordAddedAfterCommit(book(1L, "target"))
+
+            ranking.recordRemovedAfterCommit(1L, LocalDateTime.of(2023, 12, 31, 10, 0))
+
+            assertThat(ranking.top(10).map { it.title() }).containsExactly("target")
+        }
+    }
+
+    @Nested
+    @DisplayName("top")
+    inner class Top {
+
+        @Test
+        @DisplayName("주가 바뀌면 → 이전 주 랭킹을 비운다")
+        fun rollsOverOnNewWeek() {
+            ranking.recordAddedAfterCommit(book(1L, "target"))
+
+            clock.instant = Instant.parse("2024-01-08T00:00:00Z")
+
+            assertThat(ranking.top(10)).isEmpty()
+            assertThat(ranking.size()).isZero()
+        }
+
+        @Test
+        @DisplayName("스냅샷보다 많이 요청하면 → 전체 랭킹에서 잘라 반환한다")
+        fun readsBeyondSnapshot() {
+            val total = WeeklyPopularBookRanking.SNAPSHOT_SIZE + 5
+            (1L..total.toLong()).forEach { ranking.recordAddedAfterCommit(book(it, "book-$it")) }
+
+            assertThat(ranking.top(total)).hasSize(total)
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild")
+    inner class Rebuild {
+
+        @Test
+        @DisplayName("재구성하면 → 이번 주 집계로 랭킹을 교체한다")
+        fun replacesWithDatabaseCounts() {
+            ranking.recordAddedAfterCommit(book(9L, "stale"))
+            given(readingRepository.countBooksAddedBetween(any(LocalDateTime::class.java), any(LocalDateTime::class.java)))
+                .willReturn(
+                    listOf(
+                        BookWeeklyCountQueryResult(1L, "img", "one", "author", "pub", "isbn-1", 1L),
+                        BookWeeklyCountQueryResult(2L, "img", "two", "author", "pub", "isbn-2", 3L)
+                    )
+                )
+
+            ranking.rebuild()
+
+            then(readingRepository).should().countBooksAddedBetween(
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2024, 1, 8, 0, 0)
+            )
+            assertThat(ranking.top(10).map { it.title() }).containsExactly("two", "one")
+        }
+
+        @Test
+        @DisplayName("집계 쿼리 중에 증감이 들어오면 → 교체한 집계에 다시 반영한다")
+        fun reappliesRecordsDuringQuery() {
+            given(readingRepository.countBooksAddedBetween(any(LocalDateTime::class.java), any(LocalDateTime::class.java)))
+                .willAnswer {
+                    // 쿼리가 읽은 뒤 커밋된 변경
+                    ranking.recordAddedAfterCommit(book(1L, "one"))
+                    ranking.recordAddedAfterCommit(book(3L, "three"))
+                    ranking.recordRemovedAfterCommit(2L, LocalDateTime.of(2024, 1, 2, 10, 0))
+                    listOf(
+                        BookWeeklyCountQueryResult(1L, "img", "one", "author", "pub", "isbn-1", 2L),
+                        BookWeeklyCountQueryResult(2L, "img", "two", "author", "pub", "isbn-2", 3L)
+                    )
+                }
+
+            ranking.rebuild()
+
+            assertThat(ranking.top(10).map { it.title() }).containsExactly("one", "two", "three")
+        }
+
+        @Test
+        @DisplayName("재구성이 끝난 뒤의 증감은 → 다음 재구성에 다시 반영하지 않는다")
+        fun stopsRecordingAfterRebuild() {
+            given(readingRepository.countBooksAddedBetween(any(LocalDateTime::class.java), any(LocalDateTime::class.java)))
+                .willReturn(listOf())
+            ranking.rebuild()
+            ranking.recordAddedAfterCommit(book(1L, "one"))
+            given(readingRepository.countBooksAddedBetween(any(LocalDateTime::class.java), any(LocalDateTime::class.java)))
+                .willReturn(
+                    listOf(
+                        BookWeeklyCountQueryResult(1L, "img", "one", "author", "pub", "isbn-1", 1L),
+                        BookWeeklyCountQueryResult(2L, "img", "two", "author", "pub", "isbn-2", 2L)
+                    )
+                )
+
+            ranking.rebuild()
+
+            assertThat(ranking.top(10).map { it.title() }).containsExactly("two", "one")
+        }
+
+        @Test
+        @DisplayName("DB 조회가 실패하면 → 기존 랭킹을 유지한다")
+        fun keepsStateOnFailure() {
+            ranking.recordAddedAfterCommit(book(1L, "kept"))
+            given(readingRepository.countBooksAddedBetween(any(LocalDateTime::class.java), any(LocalDateTime::class.java)))
+                .willThrow(IllegalStateException("db down"))
+
+            ranking.rebuild()
+
+            assertThat(ranking.top(10).map { it.title() }).containsExactly("kept")
+        }
+    }
+
+    private fun book(id: Long, title: String): Book {
+        return BookFixture.aBook().id(id).title(title).isbn("isbn-$id").build()
+    }
+
+    private class MutableClock(var instant: Instant) : Clock() {
+        override fun getZone(): ZoneId = ZoneOffset.UTC
+        override fun withZone(zone: ZoneId): Clock = this
+        override fun instant(): Instant = instant
+    }
+}
@@ -23,6 +23,9 @@ import org.veri.be.support.fixture.MemberFixture
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.Pageable
+import org.springframework.data.domain.SliceImpl
+import org.veri.be.global.response.FeedCursor
+import java.time.LocalDateTime
 import java.util.Optional
 
 @ExtendWith(MockitoExtension::class)
@@ -141,4 +144,38 @@ class CardQueryServiceTest {
             assertThat(result).isEqualTo(page)
         }
     }
+
+    @Nested
+    @DisplayName("getAllCardsByCursor")
+    inner class GetAllCardsByCursor {
+
+        @Test
+        @DisplayName("커서가 없으면 → 최신 카드부터 조회한다")
+        fun readsLatestWithoutCursor() {
+            given(cardRepository.findLatestPublicItems(any(Pageable::class.java))).willReturn(SliceImpl(listOf()))
+
+            cardQueryService.getAllCardsByCursor(null, 10)
+
+            then(cardRepository).should().findLatestPublicItems(pageableCaptor.capture())
+            assertThat(pageableCaptor.value.pageNumber).isZero()
+            assertThat(pageableCaptor.value.pageSize).isEqualTo(10)
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 → 커서 이전 카드를 조회한다")
+        fun seeksBeforeCursor() {
+            val createdAt = LocalDateTime.of(2024, 1, 1, 0, 0)
+            val cursor = FeedCursor.of(createdAt, 5L).encode()
+            given(cardRepository.findPublicItemsBefore(any(LocalDateTime::class.java), any(Long::class.java), any(Pageable::class.java)))
+                .willReturn(SliceImpl(listOf()))
+
+            cardQueryService.getAllCardsByCursor(cursor, 10)
+
+            then(cardRepository).should().findPublicItemsBefore(
+                org.mockito.ArgumentMatchers.eq(createdAt),
+                org.mockito.ArgumentMatchers.eq(5L),
+                any(Pageable::class.java)
+            )
+        }
+    }
 }
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
 import org.veri.be.api.common.dto.MemberProfileResponse
 import org.veri.be.domain.card.controller.dto.request.CardCreateRequest
 import org.veri.be.domain.card.controller.dto.response.CardDetailResponse
@@ -13,6 +14,7 @@ import org.veri.be.domain.card.controller.dto.response.CardListResponse
 import org.veri.be.domain.card.controller.dto.response.CardUpdateResponse
 import org.veri.be.domain.card.repository.dto.CardFeedItem
 import org.veri.be.domain.card.repository.dto.CardListItem
+import org.veri.be.domain.member.repository.dto.MemberProfileQueryResult
 import org.veri.be.support.fixture.BookFixture
 import org.veri.be.support.fixture.CardFixture
 import org.veri.be.support.fixture.MemberFixture
@@ -79,7 +81,7 @@ class CardResponseMappingTest {
             val member = member(1L, "member")
             val item = CardFeedItem(
                 1L,
-                member,
+                MemberProfileQueryResult.from(member),
                 "book",
                 "content",
                 "https://example.com/card.png",
@@ -122,6 +124,27 @@ class CardResponseMappingTest {
             assertThat(response.cards()).hasSize(1)
             assertThat(response.cards()[0].member()).isNull()
         }
+
+        @Test
+        @DisplayName("내 카드 슬라이스를 응답으로 변환하면 → hasNext 와 전달한 전체 개수를 반환한다")
+        fun mapsOwnCardSlice() {
+            val item = CardListItem(
+                1L,
+                "book",
+                "content",
+                "https://example.com/card.png",
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                true
+            )
+            val slice = SliceImpl(listOf(item), PageRequest.of(0, 1), true)
+
+            val response = CardListResponse.ofOwn(slice, 3L)
+
+            assertThat(response.page()).isEqualTo(1)
+            assertThat(response.hasNext()).isTrue()
+            assertThat(response.totalElements()).isEqualTo(3L)
+            assertThat(response.totalPages()).isEqualTo(3)
+        }
     }
 
     @Nested
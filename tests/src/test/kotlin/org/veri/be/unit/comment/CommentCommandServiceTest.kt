@@ -10,6 +10,7 @@ import org.mockito.ArgumentCaptor
 import org.mockito.ArgumentMatchers.any
 import org.mockito.BDDMockito.given
 import org.mockito.BDDMockito.then
+import org.mockito.Mockito.never
 import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.test.util.ReflectionTestUtils
 import org.veri.be.domain.comment.dto.request.CommentPostRequest
@@ -18,6 +19,7 @@ import org.veri.be.domain.comment.repository.CommentRepository
 import org.veri.be.domain.comment.service.CommentCommandService
 import org.veri.be.domain.comment.service.CommentQueryService
 import org.veri.be.domain.member.repository.MemberRepository
+import org.veri.be.domain.post.repository.PostRepository
 import org.veri.be.domain.post.service.PostQueryService
 import org.veri.be.support.assertion.CommentAssert
 import org.veri.be.support.fixture.CommentFixture
@@ -42,6 +44,9 @@ class CommentCommandServiceTest {
     @org.mockito.Mock
     private lateinit var memberRepository: MemberRepository
 
+    @org.mockito.Mock
+    private lateinit var postRepository: PostRepository
+
     private val fixedClock: Clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneId.of("UTC"))
 
     private lateinit var commentCommandService: CommentCommandService
@@ -56,7 +61,8 @@ class CommentCommandServiceTest {
             commentQueryService,
             postQueryService,
             fixedClock,
-            memberRepository
+            memberRepository,
+            postRepository
         )
     }
 
@@ -88,6 +94,7 @@ class CommentCommandServiceTest {
             assertThat(saved.author).isEqualTo(member)
             assertThat(saved.content).isEqualTo("content")
             assertThat(result).isEqualTo(1L)
+            then(postRepository).should().addCommentCount(10L, 1L)
         }
     }
 
@@ -120,6 +127,7 @@ class CommentCommandServiceTest {
             assertThat(saved.author).isEqualTo(member)
             assertThat(saved.content).isEqualTo("reply")
             assertThat(result).isEqualTo(6L)
+            then(postRepository).should().addCommentCount(10L, 1L)
         }
     }
 
@@ -152,7 +160,8 @@ class CommentCommandServiceTest {
         @DisplayName("댓글을 삭제하면 → 삭제 처리된다")
         fun deletesComment() {
             val member = MemberFixture.aMember().id(1L).nickname("member").build()
-            val comment = CommentFixture.aComment().id(1L).author(member).content("content").build()
+            val post = PostFixture.aPost().id(10L).build()
+            val comment = CommentFixture.aComment().id(1L).post(post).author(member).content("content").build()
 
             given(commentQueryService.getCommentById(1L)).willReturn(comment)
             given(memberRepository.getReferenceById(1L)).willReturn(member)
@@ -162,6 +171,24 @@ class CommentCommandServiceTest {
             then(commentRepository).should().save(commentCaptor.capture())
             CommentAssert.assertThat(commentCaptor.value)
                 .isDeleted(true)
+            then(postRepository).should().addCommentCount(10L, -1L)
+        }
+
+        @Test
+        @DisplayName("이미 삭제된 댓글이면 → 댓글 수를 다시 감소시키지 않는다")
+        fun skipsDecrementWhenAlreadyDeleted() {
+            val member = MemberFixture.aMember().id(1L).nickname("member").build()
+            val post = PostFixture.aPost().id(10L).build()
+            val comment = CommentFixture.aComment().id(1L).post(post).author(member)
+                .deletedAt(java.time.LocalDateTime.of(2023, 12, 31, 0, 0))
+                .build()
+
+            given(commentQueryService.getCommentById(1L)).willReturn(comment)
+            given(memberRepository.getReferenceById(1L)).willReturn(member)
+
+            commentCommandService.deleteComment(1L, member.id)
+
+            then(postRepository).should(never()).addCommentCount(10L, -1L)
         }
     }
 }
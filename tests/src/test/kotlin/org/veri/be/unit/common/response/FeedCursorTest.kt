@@ -0,0 +1,37 @@
+package org.veri.be.unit.common.response
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.veri.be.global.response.FeedCursor
+import org.veri.be.lib.exception.CommonErrorCode
+import org.veri.be.support.assertion.ExceptionAssertions
+import java.time.LocalDateTime
+
+class FeedCursorTest {
+
+    @Nested
+    @DisplayName("encode/decode")
+    inner class EncodeDecode {
+
+        @Test
+        @DisplayName("인코딩한 커서를 디코딩하면 → 원래 값을 복원한다")
+        fun roundTrips() {
+            val cursor = FeedCursor.of(LocalDateTime.of(2024, 1, 1, 12, 30, 15, 123_000_000), 42L)
+
+            val decoded = FeedCursor.decode(cursor.encode())
+
+            assertThat(decoded).isEqualTo(cursor)
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 커서면 → INVALID_REQUEST 예외를 던진다")
+        fun throwsWhenMalformed() {
+            ExceptionAssertions.assertApplicationException(
+                { FeedCursor.decode("not-a-cursor") },
+                CommonErrorCode.INVALID_REQUEST
+            )
+        }
+    }
+}
@@ -28,6 +28,31 @@ class PageResponseTest {
             assertThat(response.size()).isEqualTo(10)
             assertThat(response.totalElements()).isEqualTo(2)
             assertThat(response.totalPages()).isEqualTo(1)
+            assertThat(response.hasNext()).isFalse()
+        }
+    }
+
+    @Nested
+    @DisplayName("ofSlice")
+    inner class OfSlice {
+
+        @Test
+        @DisplayName("전체 개수가 없으면 → 전체 페이지 수도 비운다")
+        fun leavesTotalsEmpty() {
+            val response = PageResponse.ofSlice(listOf("a"), 0, 1, true, null)
+
+            assertThat(response.page()).isEqualTo(1)
+            assertThat(response.hasNext()).isTrue()
+            assertThat(response.totalElements()).isNull()
+            assertThat(response.totalPages()).isNull()
+        }
+
+        @Test
+        @DisplayName("전체 개수가 있으면 → 올림한 전체 페이지 수를 계산한다")
+        fun computesTotalPages() {
+            val response = PageResponse.ofSlice(listOf("a"), 0, 10, true, 21L)
+
+            assertThat(response.totalPages()).isEqualTo(3)
         }
     }
 
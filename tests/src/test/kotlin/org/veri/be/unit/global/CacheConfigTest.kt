@@ -0,0 +1,80 @@
+package org.veri.be.unit.global
+
+import com.github.benmanes.caffeine.cache.Cache
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.cache.caffeine.CaffeineCache
+import org.springframework.cache.caffeine.CaffeineCacheManager
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator
+import org.veri.be.global.cache.CacheConfig
+import java.time.Duration
+
+class CacheConfigTest {
+
+    @Test
+    @DisplayName("피드 캐시 리전을 등록하면 → 설정한 TTL과 통계 수집이 적용된다")
+    fun registersFeedRegions() {
+        val cacheManager = CacheConfig().cacheManager(5, 60, 300) as CaffeineCacheManager
+
+        assertThat(cacheManager.cacheNames)
+            .contains(CacheConfig.POST_FEED, CacheConfig.CARD_FEED, CacheConfig.CURRENT_MEMBER_INFO)
+
+        val postFeed = cacheManager.getCache(CacheConfig.POST_FEED)
+        assertThat(postFeed).isInstanceOf(TransactionAwareCacheDecorator::class.java)
+
+        val nativeCache = ((postFeed as TransactionAwareCacheDecorator).targetCache as CaffeineCache).nativeCache
+        assertThat(nativeCache.policy().expireAfterWrite().orElseThrow().expiresAfter).isEqualTo(Duration.ofSeconds(5))
+        assertThat(nativeCache.policy().isRecordingStats).isTrue()
+    }
+
+    @Test
+    @DisplayName("회원 개수 캐시 리전을 등록하면 → 별도 TTL이 적용된다")
+    fun registersMemberCountRegions() {
+        val cacheManager = CacheConfig().cacheManager(5, 60, 300) as CaffeineCacheManager
+
+        assertThat(cacheManager.cacheNames).contains(
+            CacheConfig.MEMBER_READING_COUNTS,
+            CacheConfig.MEMBER_CARD_COUNT,
+            CacheConfig.MEMBER_IMAGE_COUNT
+        )
+
+        val cardCount = cacheManager.getCache(CacheConfig.MEMBER_CARD_COUNT) as TransactionAwareCacheDecorator
+        val nativeCache = (cardCount.targetCache as CaffeineCache).nativeCache
+        assertThat(nativeCache.policy().expireAfterWrite().orElseThrow().expiresAfter).isEqualTo(Duration.ofSeconds(60))
+    }
+
+    @Test
+    @DisplayName("현재 회원 캐시 리전을 등록하면 → 크기 제한과 별도 TTL이 적용된다")
+    fun registersCurrentMemberRegion() {
+        val cacheManager = CacheConfig().cacheManager(5, 60, 300) as CaffeineCacheManager
+
+        val currentMember = cacheManager.getCache(CacheConfig.CURRENT_MEMBER_INFO) as TransactionAwareCacheDecorator
+        val nativeCache = (currentMember.targetCache as CaffeineCache).nativeCache
+        assertThat(nativeCache.policy().eviction().orElseThrow().maximum).isEqualTo(10_000L)
+        assertThat(nativeCache.policy().expireAfterWrite().orElseThrow().expiresAfter).isEqualTo(Duration.ofSeconds(300))
+    }
+
+    @Test
+    @DisplayName("등록하지 않은 리전을 조회하면 → 새로 만들지 않는다")
+    fun doesNotCreateUnknownRegions() {
+        val cacheManager = CacheConfig().cacheManager(5, 60, 300)
+
+        assertThat(cacheManager.getCache("unknown")).isNull()
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 무효화하면 → 즉시 비워진다")
+    fun clearsOutsideTransaction() {
+        val cacheManager = CacheConfig().cacheManager(5, 60, 300)
+        val cache = cacheManager.getCache(CacheConfig.CARD_FEED)!!
+        cache.put("page:0:10", "value")
+
+        cache.clear()
+
+        assertThat(cache.get("page:0:10")).isNull()
+        @Suppress("UNCHECKED_CAST")
+        val nativeCache = ((cache as TransactionAwareCacheDecorator).targetCache.nativeCache as Cache<Any, Any>)
+        assertThat(nativeCache.estimatedSize()).isZero()
+    }
+}
@@ -3,6 +3,7 @@ package org.veri.be.unit.global.storage
 import io.github.miensoap.s3.core.ExtendedS3Presigner
 import io.github.miensoap.s3.core.post.dto.PresignedPostForm
 import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
@@ -10,17 +11,29 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.mockito.ArgumentMatchers.any
 import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
 import org.mockito.Mockito.lenient
+import org.mockito.Mockito.never
 import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.test.util.ReflectionTestUtils
 import org.veri.be.global.storage.service.AwsStorageService
 import org.veri.be.global.storage.service.StorageKeyGenerator
+import software.amazon.awssdk.core.ResponseInputStream
+import software.amazon.awssdk.http.AbortableInputStream
 import software.amazon.awssdk.services.s3.S3Client
+import software.amazon.awssdk.services.s3.S3Uri
 import software.amazon.awssdk.services.s3.S3Utilities
+import software.amazon.awssdk.services.s3.model.GetObjectRequest
+import software.amazon.awssdk.services.s3.model.GetObjectResponse
 import software.amazon.awssdk.services.s3.model.GetUrlRequest
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException
+import software.amazon.awssdk.services.s3.model.S3Exception
 import software.amazon.awssdk.services.s3.presigner.S3Presigner
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest
+import java.io.ByteArrayInputStream
 import java.net.URI
 import java.time.Duration
 import java.util.function.Consumer
@@ -129,4 +142,153 @@ class AwsStorageServiceTest {
             assertThat(result.fields()).isEqualTo(form.formFields())
         }
     }
+
+    @Nested
+    @DisplayName("exists")
+    inner class Exists {
+
+        private val objectUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/public/ocr-preprocessed/key.jpg"
+
+        @BeforeEach
+        fun setUpUri() {
+            stubUri(objectUrl, "test-bucket", "public/ocr-preprocessed/key.jpg")
+        }
+
+        @Test
+        @DisplayName("HEAD 가 성공하면 → true 를 반환한다")
+        fun returnsTrueWhenObjectExists() {
+            given(s3Client.headObject(any<Consumer<HeadObjectRequest.Builder>>()))
+                .willReturn(HeadObjectResponse.builder().build())
+
+            assertThat(awsStorageService.exists(objectUrl)).isTrue()
+        }
+
+        @Test
+        @DisplayName("객체가 없으면 → false 를 반환한다")
+        fun returnsFalseWhenMissing() {
+            given(s3Client.headObject(any<Consumer<HeadObjectRequest.Builder>>()))
+                .willThrow(NoSuchKeyException.builder().build())
+
+            assertThat(awsStorageService.exists(objectUrl)).isFalse()
+        }
+
+        @Test
+        @DisplayName("HEAD 가 404 로 실패하면 → false 를 반환한다")
+        fun returnsFalseOnNotFoundStatus() {
+            given(s3Client.headObject(any<Consumer<HeadObjectRequest.Builder>>()))
+                .willThrow(S3Exception.builder().statusCode(404).build())
+
+            assertThat(awsStorageService.exists(objectUrl)).isFalse()
+        }
+
+        @Test
+        @DisplayName("그 외 오류면 → 예외를 전달한다")
+        fun rethrowsOtherErrors() {
+            given(s3Client.headObject(any<Consumer<HeadObjectRequest.Builder>>()))
+                .willThrow(S3Exception.builder().statusCode(403).build())
+
+            assertThatThrownBy { awsStorageService.exists(objectUrl) }
+                .isInstanceOf(S3Exception::class.java)
+        }
+
+        @Test
+        @DisplayName("OCR 경로가 아닌 객체면 → 조회하지 않고 예외를 던진다")
+        fun rejectsKeyOutsideOcrPrefix() {
+            val privateUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/private/secret.json"
+            stubUri(privateUrl, "test-bucket", "private/secret.json")
+
+            assertThatThrownBy { awsStorageService.exists(privateUrl) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+            then(s3Client).should(never()).headObject(any<Consumer<HeadObjectRequest.Builder>>())
+        }
+    }
+
+    @Nested
+    @DisplayName("download")
+    inner class Download {
+
+        private val objectUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/public/ocr/key.png"
+
+        @Test
+        @DisplayName("객체를 내려받으면 → 본문 바이트를 반환한다")
+        fun returnsObjectBytes() {
+            stubUri(objectUrl, "test-bucket", "public/ocr/key.png")
+            val body = byteArrayOf(1, 2, 3)
+            given(s3Client.getObject(any<Consumer<GetObjectRequest.Builder>>()))
+                .willReturn(objectStream(body, body.size.toLong()))
+
+            assertThat(awsStorageService.download(objectUrl)).containsExactly(1, 2, 3)
+        }
+
+        @Test
+        @DisplayName("키가 없는 URL 이면 → 예외를 던진다")
+        fun rejectsUrlWithoutKey() {
+            val bucketUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/"
+            val uri = URI.create(bucketUrl)
+            given(s3Utilities.parseUri(uri)).willReturn(
+                S3Uri.builder().uri(uri).bucket("test-bucket").isPathStyle(false).build()
+            )
+
+            assertThatThrownBy { awsStorageService.download(bucketUrl) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+        }
+
+        @Test
+        @DisplayName("다른 버킷의 객체면 → 내려받지 않고 예외를 던진다")
+        fun rejectsOtherBucket() {
+            val otherUrl = "https://other-bucket.s3.ap-northeast-2.amazonaws.com/public/ocr/key.png"
+            stubUri(otherUrl, "other-bucket", "public/ocr/key.png")
+
+            assertThatThrownBy { awsStorageService.download(otherUrl) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+            then(s3Client).should(never()).getObject(any<Consumer<GetObjectRequest.Builder>>())
+        }
+
+        @Test
+        @DisplayName("OCR 경로가 아닌 객체면 → 내려받지 않고 예외를 던진다")
+        fun rejectsKeyOutsideOcrPrefix() {
+            val privateUrl = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/private/secret.json"
+            stubUri(privateUrl, "test-bucket", "private/secret.json")
+
+            assertThatThrownBy { awsStorageService.download(privateUrl) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+            then(s3Client).should(never()).getObject(any<Consumer<GetObjectRequest.Builder>>())
+        }
+
+        @Test
+        @DisplayName("객체 크기가 상한을 넘으면 → 본문을 읽지 않고 예외를 던진다")
+        fun rejectsLargeObject() {
+            stubUri(objectUrl, "test-bucket", "public/ocr/key.png")
+            given(s3Client.getObject(any<Consumer<GetObjectRequest.Builder>>()))
+                .willReturn(objectStream(byteArrayOf(1), 11L * 1024 * 1024))
+
+            assertThatThrownBy { awsStorageService.download(objectUrl) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+        }
+
+        @Test
+        @DisplayName("Content-Length 보다 본문이 길어도 → 상한까지만 읽고 예외를 던진다")
+        fun rejectsOversizedBodyWithoutLength() {
+            stubUri(objectUrl, "test-bucket", "public/ocr/key.png")
+            given(s3Client.getObject(any<Consumer<GetObjectRequest.Builder>>()))
+                .willReturn(objectStream(ByteArray(10 * 1024 * 1024 + 1), null))
+
+            assertThatThrownBy { awsStorageService.download(objectUrl) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+        }
+    }
+
+    private fun stubUri(url: String, bucket: String, key: String) {
+        val uri = URI.create(url)
+        given(s3Utilities.parseUri(uri)).willReturn(
+            S3Uri.builder().uri(uri).bucket(bucket).key(key).isPathStyle(false).build()
+        )
+    }
+
+    private fun objectStream(body: ByteArray, contentLength: Long?): ResponseInputStream<GetObjectResponse> {
+        return ResponseInputStream(
+            GetObjectResponse.builder().contentLength(contentLength).build(),
+            AbortableInputStream.create(ByteArrayInputStream(body))
+        )
+    }
 }
@@ -0,0 +1,81 @@
+package org.veri.be.unit.global.storage
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.veri.be.global.storage.readiness.StorageReadinessProbe
+import org.veri.be.integration.support.stub.LocalFileStorageService
+import org.veri.be.lib.time.SleepSupport
+import java.nio.file.Path
+import java.time.Duration
+
+class StorageReadinessProbeTest {
+
+    @TempDir
+    lateinit var root: Path
+
+    private lateinit var storage: LocalFileStorageService
+    private val sleeps = mutableListOf<Duration>()
+
+    @BeforeEach
+    fun setUp() {
+        storage = LocalFileStorageService(root)
+        sleeps.clear()
+    }
+
+    private fun probe(onSleep: (Int) -> Unit = {}): StorageReadinessProbe {
+        val sleepSupport = object : SleepSupport() {
+            override fun sleep(duration: Duration) {
+                sleeps.add(duration)
+                onSleep(sleeps.size)
+            }
+        }
+        return StorageReadinessProbe(storage, sleepSupport, 100, 400, 1000)
+    }
+
+    @Nested
+    @DisplayName("awaitReady")
+    inner class AwaitReady {
+
+        @Test
+        @DisplayName("객체가 이미 있으면 → 기다리지 않는다")
+        fun returnsImmediately() {
+            storage.put(OBJECT_URL)
+
+            assertThat(probe().awaitReady(OBJECT_URL)).isTrue()
+            assertThat(sleeps).isEmpty()
+        }
+
+        @Test
+        @DisplayName("객체가 나중에 올라오면 → 지수 백오프로 기다린 뒤 true 를 반환한다")
+        fun waitsWithBackoff() {
+            val probe = probe { count -> if (count == 3) storage.put(OBJECT_URL) }
+
+            assertThat(probe.awaitReady(OBJECT_URL)).isTrue()
+            assertThat(sleeps).containsExactly(
+                Duration.ofMillis(100),
+                Duration.ofMillis(200),
+                Duration.ofMillis(400)
+            )
+        }
+
+        @Test
+        @DisplayName("deadline 안에 올라오지 않으면 → 최대 백오프로 기다리다 false 를 반환한다")
+        fun givesUpAfterDeadline() {
+            assertThat(probe().awaitReady(OBJECT_URL)).isFalse()
+            assertThat(sleeps).containsExactly(
+                Duration.ofMillis(100),
+                Duration.ofMillis(200),
+                Duration.ofMillis(400),
+                Duration.ofMillis(300)
+            )
+        }
+    }
+
+    companion object {
+        private const val OBJECT_URL = "https://bucket.example.com/ocr-preprocessed/image.jpg"
+    }
+}
@@ -1,5 +1,6 @@
 package org.veri.be.unit.image
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
@@ -12,7 +13,10 @@ import org.mockito.ArgumentCaptor
 import org.mockito.Captor
 import org.mockito.Mock
 import org.mockito.BDDMockito.then
+import org.mockito.Mockito.times
 import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.image.cache.OcrResultCache
+import org.veri.be.domain.image.client.OcrPageListener
 import org.veri.be.domain.image.entity.OcrResult
 import org.veri.be.domain.image.repository.OcrResultRepository
 import org.veri.be.domain.image.service.AbstractOcrService
@@ -30,12 +34,15 @@ class AbstractOcrServiceTest {
 
     private fun testService(): TestOcrService = TestOcrService()
 
-    private inner class TestOcrService : AbstractOcrService(ocrResultRepository) {
+    private inner class TestOcrService : AbstractOcrService(
+        OcrResultCache(ocrResultRepository, SimpleMeterRegistry(), 100)
+    ) {
         fun exposePreprocessedUrl(imageUrl: String): String = getPreprocessedUrl(imageUrl)
 
         override fun serviceName(): String = "Test"
 
-        override fun doExtract(imageUrl: String): String {
+        override fun doExtract(imageUrl: String, pageListener: OcrPageListener): String {
+            pageListener.onPage(0, "text")
             saveOcrResult(imageUrl, null, "text")
             return "text"
         }
@@ -74,6 +81,30 @@ class AbstractOcrServiceTest {
             assertThat(saved.resultText).isEqualTo("text")
             assertThat(saved.ocrService).isEqualTo("Test")
         }
+
+        @Test
+        @DisplayName("같은 이미지를 다시 요청하면 → OCR 을 다시 수행하지 않는다")
+        fun reusesSavedResult() {
+            val service = testService()
+
+            service.extract("https://example.com/ocr/image.png")
+            val result = service.extract("https://example.com/ocr/image.png")
+
+            assertThat(result).isEqualTo("text")
+            then(ocrResultRepository).should(times(1)).save(resultCaptor.capture())
+        }
+
+        @Test
+        @DisplayName("저장된 결과를 재사용하면 → 페이지 리스너를 호출하지 않는다")
+        fun skipsPageListenerOnCacheHit() {
+            val service = testService()
+            val pages = mutableListOf<String>()
+
+            service.extract("https://example.com/ocr/image.png") { _, markdown -> pages.add(markdown) }
+            service.extract("https://example.com/ocr/image.png") { _, markdown -> pages.add(markdown) }
+
+            assertThat(pages).containsExactly("text")
+        }
     }
 
     companion object {
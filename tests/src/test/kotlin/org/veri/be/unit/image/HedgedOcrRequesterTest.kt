@@ -0,0 +1,293 @@
+package org.veri.be.unit.image
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.Timeout
+import org.junit.jupiter.api.extension.ExtendWith
+import org.junit.jupiter.api.io.TempDir
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.eq
+import org.mockito.ArgumentMatchers.startsWith
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.Mockito.never
+import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.image.client.HedgedOcrRequester
+import org.veri.be.domain.image.client.OcrBulkhead
+import org.veri.be.domain.image.client.OcrPageListener
+import org.veri.be.domain.image.client.OcrPort
+import org.veri.be.domain.image.exception.ImageErrorCode
+import org.veri.be.domain.image.preprocess.ImagePreprocessor
+import org.veri.be.domain.image.preprocess.PreprocessedImageSource
+import org.veri.be.global.storage.readiness.StorageReadinessProbe
+import org.veri.be.integration.support.stub.LocalFileStorageService
+import org.veri.be.lib.exception.ApplicationException
+import org.veri.be.lib.time.SleepSupport
+import org.veri.be.support.assertion.ExceptionAssertions
+import java.awt.image.BufferedImage
+import java.io.ByteArrayOutputStream
+import java.nio.file.Path
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import javax.imageio.ImageIO
+
+@ExtendWith(MockitoExtension::class)
+class HedgedOcrRequesterTest {
+
+    @org.mockito.Mock
+    private lateinit var ocrClient: OcrPort
+
+    private val meterRegistry = SimpleMeterRegistry()
+    private val executor = Executors.newFixedThreadPool(2)
+
+    @TempDir
+    lateinit var root: Path
+
+    @AfterEach
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    private fun requester(
+        hedgeDelayMillis: Long,
+        preprocessedReady: Boolean = true,
+        bulkhead: OcrBulkhead = OcrBulkhead(meterRegistry, 8, 1000),
+        inProcess: Boolean = false,
+        timeoutMillis: Long = 10_000
+    ): HedgedOcrRequester {
+        val storage = LocalFileStorageService(root)
+        if (preprocessedReady) {
+            storage.put(PREPROCESSED)
+        }
+        storage.put(ORIGINAL, png())
+        val probe = StorageReadinessProbe(storage, SleepSupport(), 10, 20, 50)
+        val preprocessor = ImagePreprocessor(2000, 1000, -5.0, 5.0, 0.5, 25_000_000)
+        val source = PreprocessedImageSource(probe, storage, preprocessor, meterRegistry, inProcess)
+        return HedgedOcrRequester(ocrClient, source, bulkhead, executor, meterRegistry, hedgeDelayMillis, timeoutMillis)
+    }
+
+    @Nested
+    @DisplayName("request")
+    inner class Request {
+
+        @Test
+        @DisplayName("원본이 delay 안에 성공하면 → 전처리 요청을 보내지 않는다")
+        fun originalWinsWithinDelay() {
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willReturn("original")
+
+            val result = requester(1000).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result).hasValueSatisfying {
+                assertThat(it.variant()).isEqualTo(HedgedOcrRequester.Variant.ORIGINAL)
+                assertThat(it.text()).isEqualTo("original")
+            }
+            then(ocrClient).should(never()).requestOcr(eq(PREPROCESSED), any())
+            assertThat(winnerCount("original")).isEqualTo(1.0)
+        }
+
+        @Test
+        @DisplayName("원본이 느리면 → 전처리 요청이 먼저 성공하고 원본은 취소된다")
+        fun preprocessedWinsWhenOriginalIsSlow() {
+            val originalInterrupted = CountDownLatch(1)
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willAnswer {
+                try {
+                    Thread.sleep(5_000)
+                    "original"
+                } catch (e: InterruptedException) {
+                    originalInterrupted.countDown()
+                    throw e
+                }
+            }
+            given(ocrClient.requestOcr(eq(PREPROCESSED), any())).willReturn("preprocessed")
+
+            val result = requester(50).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result).hasValueSatisfying {
+                assertThat(it.preprocessed()).isTrue()
+                assertThat(it.url()).isEqualTo(PREPROCESSED)
+                assertThat(it.text()).isEqualTo("preprocessed")
+            }
+            assertThat(originalInterrupted.await(1, TimeUnit.SECONDS)).isTrue()
+            assertThat(winnerCount("preprocessed")).isEqualTo(1.0)
+        }
+
+        @Test
+        @DisplayName("원본이 delay 전에 실패하면 → 기다리지 않고 전처리 요청을 보낸다")
+        fun hedgesImmediatelyOnFailure() {
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willThrow(RuntimeException("fail"))
+            given(ocrClient.requestOcr(eq(PREPROCESSED), any())).willReturn("preprocessed")
+
+            val startedAt = System.nanoTime()
+            val result = requester(5_000).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result.map { it.text() }).contains("preprocessed")
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5_000)
+        }
+
+        @Test
+        @DisplayName("delay 가 0 이면 → 두 요청을 동시에 보낸다")
+        fun sendsBothWhenDelayIsZero() {
+            val bothStarted = CountDownLatch(2)
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willAnswer {
+                bothStarted.countDown()
+                bothStarted.await(1, TimeUnit.SECONDS)
+                "original"
+            }
+            given(ocrClient.requestOcr(eq(PREPROCESSED), any())).willAnswer {
+                bothStarted.countDown()
+                bothStarted.await(1, TimeUnit.SECONDS)
+                Thread.sleep(200)
+                "preprocessed"
+            }
+
+            val result = requester(0).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(bothStarted.count).isZero()
+            assertThat(result.map { it.text() }).contains("original")
+        }
+
+        @Test
+        @DisplayName("두 요청이 모두 페이지를 내보내면 → 먼저 내보낸 요청의 페이지만 전달한다")
+        fun forwardsPagesFromFirstEmitterOnly() {
+            val originalEmitted = CountDownLatch(1)
+            val preprocessedEmitted = CountDownLatch(1)
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willAnswer {
+                it.getArgument<OcrPageListener>(1).onPage(0, "original-0")
+                originalEmitted.countDown()
+                preprocessedEmitted.await(1, TimeUnit.SECONDS)
+                "original"
+            }
+            given(ocrClient.requestOcr(eq(PREPROCESSED), any())).willAnswer {
+                originalEmitted.await(1, TimeUnit.SECONDS)
+                it.getArgument<OcrPageListener>(1).onPage(0, "preprocessed-0")
+                preprocessedEmitted.countDown()
+                Thread.sleep(200)
+                "preprocessed"
+            }
+            val pages = mutableListOf<String>()
+
+            val result = requester(0).request(ORIGINAL, PREPROCESSED) { _, markdown -> pages.add(markdown) }
+
+            assertThat(result.map { it.text() }).contains("original")
+            assertThat(pages).containsExactly("original-0")
+        }
+
+        @Test
+        @DisplayName("전처리 이미지가 준비되지 않으면 → 전처리 요청을 보내지 않는다")
+        fun skipsPreprocessedWhenNotReady() {
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willThrow(RuntimeException("fail"))
+
+            val result = requester(0, preprocessedReady = false).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result).isEmpty
+            then(ocrClient).should(never()).requestOcr(eq(PREPROCESSED), any())
+        }
+
+        @Test
+        @DisplayName("in-process 전처리를 켜면 → 전처리 이미지를 data URL 로 보내고 저장할 URL 은 없다")
+        fun sendsInProcessPreprocessedImage() {
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willThrow(RuntimeException("fail"))
+            given(ocrClient.requestOcr(startsWith("data:image/jpeg;base64,"), any())).willReturn("preprocessed")
+
+            val result = requester(0, preprocessedReady = false, inProcess = true).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result).hasValueSatisfying {
+                assertThat(it.preprocessed()).isTrue()
+                assertThat(it.url()).isNull()
+                assertThat(it.text()).isEqualTo("preprocessed")
+            }
+            then(ocrClient).should(never()).requestOcr(eq(PREPROCESSED), any())
+            assertThat(meterRegistry.get("ocr.preprocessing.resolve").tag("mode", "in-process").timer().count())
+                .isEqualTo(1L)
+        }
+
+        @Test
+        @DisplayName("두 요청 모두 실패하면 → 빈 값을 반환한다")
+        fun emptyWhenBothFail() {
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willThrow(RuntimeException("fail"))
+            given(ocrClient.requestOcr(eq(PREPROCESSED), any())).willThrow(RuntimeException("fail"))
+
+            val result = requester(50).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result).isEmpty
+            assertThat(winnerCount("none")).isEqualTo(1.0)
+        }
+
+        @Test
+        @Timeout(5)
+        @DisplayName("요청 스레드에서 Error 가 나면 → 멈추지 않고 빈 값을 반환한다")
+        fun emptyWhenAttemptsThrowError() {
+            given(ocrClient.requestOcr(eq(ORIGINAL), any())).willThrow(StackOverflowError())
+            given(ocrClient.requestOcr(eq(PREPROCESSED), any())).willThrow(OutOfMemoryError())
+
+            val result = requester(50).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result).isEmpty
+        }
+
+        @Test
+        @Timeout(5)
+        @DisplayName("timeout 안에 끝나지 않으면 → 두 요청을 취소하고 빈 값을 반환한다")
+        fun emptyWhenDeadlinePasses() {
+            val interrupted = CountDownLatch(2)
+            given(ocrClient.requestOcr(any(), any())).willAnswer {
+                try {
+                    Thread.sleep(10_000)
+                    "late"
+                } catch (e: InterruptedException) {
+                    interrupted.countDown()
+                    throw e
+                }
+            }
+
+            val result = requester(0, timeoutMillis = 200).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result).isEmpty
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue()
+            assertThat(winnerCount("none")).isEqualTo(1.0)
+        }
+
+        @Test
+        @DisplayName("OCR_BUSY 가 아닌 애플리케이션 예외면 → 던지지 않고 빈 값을 반환한다")
+        fun swallowsOtherApplicationExceptions() {
+            given(ocrClient.requestOcr(any(), any()))
+                .willThrow(ApplicationException.of(ImageErrorCode.OCR_PROCESSING_FAILED))
+
+            val result = requester(0).request(ORIGINAL, PREPROCESSED)
+
+            assertThat(result).isEmpty
+        }
+
+        @Test
+        @DisplayName("동시 호출 제한에 걸리면 → OCR_BUSY 예외를 던진다")
+        fun throwsBusyWhenBulkheadIsFull() {
+            val bulkhead = OcrBulkhead(SimpleMeterRegistry(), 0, 10)
+
+            ExceptionAssertions.assertApplicationException(
+                { requester(0, bulkhead = bulkhead).request(ORIGINAL, PREPROCESSED) },
+                ImageErrorCode.OCR_BUSY
+            )
+            then(ocrClient).shouldHaveNoInteractions()
+        }
+    }
+
+    private fun winnerCount(variant: String): Double {
+        return meterRegistry.get("ocr.hedge.winner").tag("variant", variant).counter().count()
+    }
+
+    private fun png(): ByteArray {
+        val out = ByteArrayOutputStream()
+        ImageIO.write(BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), "png", out)
+        return out.toByteArray()
+    }
+
+    companion object {
+        private const val ORIGINAL = "https://example.com/ocr/image.png"
+        private const val PREPROCESSED = "https://example.com/ocr-preprocessed/image.jpg"
+    }
+}
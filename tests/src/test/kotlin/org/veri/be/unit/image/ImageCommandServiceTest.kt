@@ -10,7 +10,10 @@ import org.mockito.ArgumentCaptor
 import org.mockito.ArgumentMatchers.any
 import org.mockito.BDDMockito.given
 import org.mockito.BDDMockito.then
+import org.mockito.Mockito.mock
 import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
 import org.veri.be.domain.image.entity.Image
 import org.veri.be.domain.image.exception.ImageErrorCode
 import org.veri.be.domain.image.repository.ImageRepository
@@ -40,7 +43,12 @@ class ImageCommandServiceTest {
 
     @BeforeEach
     fun setUp() {
-        imageCommandService = ImageCommandService(imageRepository, ocrService, memberRepository)
+        imageCommandService = ImageCommandService(
+            imageRepository,
+            ocrService,
+            memberRepository,
+            TransactionTemplate(mock(PlatformTransactionManager::class.java))
+        )
     }
 
     @Nested
@@ -92,6 +100,40 @@ class ImageCommandServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("registerImage")
+    inner class RegisterImage {
+
+        @Test
+        @DisplayName("요청하면 → OCR 없이 이미지만 저장한다")
+        fun savesImageOnly() {
+            val member = member(1L, "member")
+            given(memberRepository.getReferenceById(1L)).willReturn(member)
+
+            imageCommandService.registerImage(member.id, "https://example.com/image.png")
+
+            then(imageRepository).should().save(imageCaptor.capture())
+            assertThat(imageCaptor.value.imageUrl).isEqualTo("https://example.com/image.png")
+            then(ocrService).shouldHaveNoInteractions()
+        }
+    }
+
+    @Nested
+    @DisplayName("registerImages")
+    inner class RegisterImages {
+
+        @Test
+        @DisplayName("여러 이미지를 등록하면 → 한 번의 배치 저장으로 처리한다")
+        fun insertsInBatch() {
+            val urls = listOf("https://example.com/1.png", "https://example.com/2.png")
+
+            imageCommandService.registerImages(1L, urls)
+
+            then(imageRepository).should().insertAll(1L, urls)
+            then(imageRepository).shouldHaveNoMoreInteractions()
+        }
+    }
+
     private fun member(id: Long, nickname: String): org.veri.be.domain.member.entity.Member {
         return MemberFixture.aMember().id(id).nickname(nickname).build()
     }
@@ -0,0 +1,118 @@
+package org.veri.be.unit.image
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.assertj.core.api.Assertions.within
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.veri.be.domain.image.preprocess.GrayImage
+import org.veri.be.domain.image.preprocess.ImagePreprocessor
+import java.awt.BasicStroke
+import java.awt.Color
+import java.awt.image.BufferedImage
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import javax.imageio.ImageIO
+
+class ImagePreprocessorTest {
+
+    private val preprocessor = ImagePreprocessor(2000, 1000, -5.0, 5.0, 0.5, 25_000_000)
+
+    @Nested
+    @DisplayName("estimateSkewAngle")
+    inner class EstimateSkewAngle {
+
+        @Test
+        @DisplayName("시계 방향으로 기울어진 줄 → 반시계 방향 보정 각도를 반환한다")
+        fun detectsClockwiseSkew() {
+            val image = GrayImage.from(lines(600, 400, 3.0))
+
+            assertThat(preprocessor.estimateSkewAngle(image)).isCloseTo(-3.0, within(0.5))
+        }
+
+        @Test
+        @DisplayName("반시계 방향으로 기울어진 줄 → 시계 방향 보정 각도를 반환한다")
+        fun detectsCounterClockwiseSkew() {
+            val image = GrayImage.from(lines(600, 400, -2.0))
+
+            assertThat(preprocessor.estimateSkewAngle(image)).isCloseTo(2.0, within(0.5))
+        }
+
+        @Test
+        @DisplayName("어두운 픽셀이 없으면 → 0 을 반환한다")
+        fun returnsZeroForBlankImage() {
+            val image = GrayImage.from(lines(200, 100, 0.0, count = 0))
+
+            assertThat(preprocessor.estimateSkewAngle(image)).isZero()
+        }
+    }
+
+    @Nested
+    @DisplayName("preprocess")
+    inner class Preprocess {
+
+        @Test
+        @DisplayName("큰 이미지 → 긴 변을 제한한 흑백 JPEG 을 반환한다")
+        fun producesBoundedJpeg() {
+            val result = preprocessor.preprocess(png(lines(3000, 1500, 2.0)))
+
+            val decoded = ImageIO.read(ByteArrayInputStream(result))
+            assertThat(decoded).isNotNull
+            assertThat(maxOf(decoded.width, decoded.height)).isEqualTo(2000)
+            assertThat(decoded.raster.numBands).isEqualTo(1)
+        }
+
+        @Test
+        @DisplayName("작은 이미지 → 확대하지 않는다")
+        fun doesNotUpscale() {
+            val result = preprocessor.preprocess(png(lines(300, 200, 0.0)))
+
+            val decoded = ImageIO.read(ByteArrayInputStream(result))
+            assertThat(decoded.width).isEqualTo(300)
+            assertThat(decoded.height).isEqualTo(200)
+        }
+
+        @Test
+        @DisplayName("이미지가 아니면 → 예외를 던진다")
+        fun rejectsNonImage() {
+            assertThatThrownBy { preprocessor.preprocess("not an image".toByteArray()) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+        }
+
+        @Test
+        @DisplayName("픽셀 수가 상한을 넘으면 → 디코딩하지 않고 예외를 던진다")
+        fun rejectsTooManyPixels() {
+            val small = ImagePreprocessor(2000, 1000, -5.0, 5.0, 0.5, 10_000)
+
+            assertThatThrownBy { small.preprocess(png(lines(200, 100, 0.0))) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+                .hasMessageContaining("200x100")
+        }
+    }
+
+    private fun lines(width: Int, height: Int, angle: Double, count: Int = 8): BufferedImage {
+        val image = BufferedImage(width, height, BufferedImage.TYPE_INT_RGB)
+        val graphics = image.createGraphics()
+        try {
+            graphics.color = Color.WHITE
+            graphics.fillRect(0, 0, width, height)
+            graphics.rotate(Math.toRadians(angle), width / 2.0, height / 2.0)
+            graphics.color = Color.BLACK
+            graphics.stroke = BasicStroke(3f)
+            val gap = height / (count + 1)
+            for (i in 1..count) {
+                graphics.drawLine(width / 8, gap * i, width * 7 / 8, gap * i)
+            }
+        } finally {
+            graphics.dispose()
+        }
+        return image
+    }
+
+    private fun png(image: BufferedImage): ByteArray {
+        val out = ByteArrayOutputStream()
+        ImageIO.write(image, "png", out)
+        return out.toByteArray()
+    }
+}
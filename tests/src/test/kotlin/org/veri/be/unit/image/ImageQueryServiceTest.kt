@@ -11,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
 import org.veri.be.domain.image.repository.ImageRepository
 import org.veri.be.domain.image.service.ImageQueryService
 import org.veri.be.global.response.PageResponse
@@ -67,4 +68,40 @@ class ImageQueryServiceTest {
             assertThat(response.totalPages()).isEqualTo(2)
         }
     }
+
+    @Nested
+    @DisplayName("fetchUploadedImageSlice")
+    inner class FetchUploadedImageSlice {
+
+        @Test
+        @DisplayName("전체 개수 없이 조회하면 → hasNext 만 채운다")
+        fun returnsSliceWithoutTotal() {
+            val pageable = PageRequest.of(0, 2)
+            given(imageRepository.findSliceByMemberId(1L, pageable)).willReturn(
+                SliceImpl(listOf("https://example.com/1.png", "https://example.com/2.png"), pageable, true)
+            )
+
+            val response = imageQueryService.fetchUploadedImageSlice(1L, pageable, null)
+
+            assertThat(response.content()).hasSize(2)
+            assertThat(response.page()).isEqualTo(1)
+            assertThat(response.hasNext()).isTrue()
+            assertThat(response.totalElements()).isNull()
+            assertThat(response.totalPages()).isNull()
+        }
+
+        @Test
+        @DisplayName("전체 개수를 전달하면 → 전체 페이지 수를 계산한다")
+        fun returnsSliceWithTotal() {
+            val pageable = PageRequest.of(0, 2)
+            given(imageRepository.findSliceByMemberId(1L, pageable)).willReturn(
+                SliceImpl(listOf("https://example.com/1.png", "https://example.com/2.png"), pageable, true)
+            )
+
+            val response = imageQueryService.fetchUploadedImageSlice(1L, pageable, 5L)
+
+            assertThat(response.totalElements()).isEqualTo(5L)
+            assertThat(response.totalPages()).isEqualTo(3)
+        }
+    }
 }
@@ -6,43 +6,30 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
-import org.junit.jupiter.api.extension.ExtendWith
-import org.mockito.Answers
-import org.mockito.ArgumentCaptor
-import org.mockito.ArgumentMatchers.any
-import org.mockito.ArgumentMatchers.eq
-import org.mockito.BDDMockito.given
-import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpMethod
 import org.springframework.http.MediaType
-import org.springframework.test.util.ReflectionTestUtils
+import org.springframework.test.web.client.MockRestServiceServer
+import org.springframework.test.web.client.match.MockRestRequestMatchers.header
+import org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath
+import org.springframework.test.web.client.match.MockRestRequestMatchers.method
+import org.springframework.test.web.client.response.MockRestResponseCreators.withServerError
+import org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess
 import org.springframework.web.client.RestClient
-import org.springframework.web.client.RestClientException
 import org.veri.be.domain.image.client.MistralOcrClient
 import org.veri.be.domain.image.client.MistralOcrClientException
-import java.lang.reflect.Constructor
+import tools.jackson.databind.ObjectMapper
 
-@ExtendWith(MockitoExtension::class)
 class MistralOcrClientTest {
 
-    @org.mockito.Mock
-    private lateinit var restClientBuilder: RestClient.Builder
-
-    @org.mockito.Mock(answer = Answers.RETURNS_DEEP_STUBS)
-    private lateinit var restClient: RestClient
-
+    private lateinit var server: MockRestServiceServer
     private lateinit var client: MistralOcrClient
 
-    private lateinit var responseClass: Class<*>
-    private lateinit var pageClass: Class<*>
-
     @BeforeEach
     fun setUp() {
-        given(restClientBuilder.baseUrl("https://mistral.test")).willReturn(restClientBuilder)
-        given(restClientBuilder.build()).willReturn(restClient)
-        client = MistralOcrClient(restClientBuilder, "https://mistral.test", "api-key", "ocr-model")
-        responseClass = Class.forName("org.veri.be.domain.image.client.MistralOcrClient\$MistralOcrResponse")
-        pageClass = Class.forName("org.veri.be.domain.image.client.MistralOcrClient\$Page")
+        val builder = RestClient.builder()
+        server = MockRestServiceServer.bindTo(builder).build()
+        client = MistralOcrClient(builder, ObjectMapper(), "https://mistral.test", "api-key", "ocr-model")
     }
 
     @Nested
@@ -52,39 +39,38 @@ class MistralOcrClientTest {
         @Test
         @DisplayName("응답 페이지가 있으면 → 병합 결과를 반환한다")
         fun returnsMergedMarkdown() {
-            val response = buildResponse(listOf("hello", "world"))
-            val bodyCaptor = ArgumentCaptor.forClass(Any::class.java)
-            given(
-                restClient.post()
-                    .header(eq(HttpHeaders.AUTHORIZATION), eq("Bearer api-key"))
-                    .contentType(eq(MediaType.APPLICATION_JSON))
-                    .body(bodyCaptor.capture())
-                    .retrieve()
-                    .body(any(Class::class.java))
-            ).willAnswer { response }
+            server.expect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer api-key"))
+                .andExpect(jsonPath("$.model").value("ocr-model"))
+                .andExpect(jsonPath("$.document.image_url.url").value("https://example.com/ocr/image.png"))
+                .andRespond(withSuccess(response("hello", "world"), MediaType.APPLICATION_JSON))
 
             val result = client.requestOcr("https://example.com/ocr/image.png")
 
             assertThat(result).isEqualTo("hello\nworld")
-            val requestBody = bodyCaptor.value
-            assertThat(ReflectionTestUtils.getField(requestBody, "model")).isEqualTo("ocr-model")
-            val document = requireNotNull(ReflectionTestUtils.getField(requestBody, "document"))
-            val imageUrl = requireNotNull(ReflectionTestUtils.getField(document, "imageUrl"))
-            assertThat(ReflectionTestUtils.getField(imageUrl, "url"))
-                .isEqualTo("https://example.com/ocr/image.png")
+            server.verify()
+        }
+
+        @Test
+        @DisplayName("페이지 리스너를 넘기면 → 파싱한 순서대로 페이지를 전달한다")
+        fun emitsPagesWhileParsing() {
+            server.expect(method(HttpMethod.POST))
+                .andRespond(withSuccess(response("first", "second", "third"), MediaType.APPLICATION_JSON))
+            val pages = mutableListOf<String>()
+
+            val result = client.requestOcr("https://example.com/ocr/image.png") { index, markdown ->
+                pages.add("$index:$markdown")
+            }
+
+            assertThat(pages).containsExactly("0:first", "1:second", "2:third")
+            assertThat(result).isEqualTo("first\nsecond\nthird")
         }
 
         @Test
         @DisplayName("응답이 비어있으면 → 예외가 발생한다")
         fun throwsWhenResponseEmpty() {
-            org.mockito.Mockito.lenient().`when`(
-                restClient.post()
-                    .header(eq(HttpHeaders.AUTHORIZATION), eq("Bearer api-key"))
-                    .contentType(eq(MediaType.APPLICATION_JSON))
-                    .body(any())
-                    .retrieve()
-                    .body(any(Class::class.java))
-            ).thenReturn(null)
+            server.expect(method(HttpMethod.POST))
+                .andRespond(withSuccess("", MediaType.APPLICATION_JSON))
 
             assertThatThrownBy { client.requestOcr("https://example.com/ocr/image.png") }
                 .isInstanceOf(MistralOcrClientException::class.java)
@@ -93,62 +79,38 @@ class MistralOcrClientTest {
         @Test
         @DisplayName("페이지가 비어있으면 → 예외가 발생한다")
         fun throwsWhenPagesEmpty() {
-            val response = buildResponse(listOf())
-            org.mockito.Mockito.lenient().`when`(
-                restClient.post()
-                    .header(eq(HttpHeaders.AUTHORIZATION), eq("Bearer api-key"))
-                    .contentType(eq(MediaType.APPLICATION_JSON))
-                    .body(any())
-                    .retrieve()
-                    .body(any(Class::class.java))
-            ).thenReturn(response)
+            server.expect(method(HttpMethod.POST))
+                .andRespond(withSuccess(response(), MediaType.APPLICATION_JSON))
 
             assertThatThrownBy { client.requestOcr("https://example.com/ocr/image.png") }
                 .isInstanceOf(MistralOcrClientException::class.java)
         }
 
         @Test
-        @DisplayName("호출에 실패하면 → 예외가 발생한다")
-        fun throwsWhenRestClientFails() {
-            org.mockito.Mockito.lenient().`when`(
-                restClient.post()
-                    .header(eq(HttpHeaders.AUTHORIZATION), eq("Bearer api-key"))
-                    .contentType(eq(MediaType.APPLICATION_JSON))
-                    .body(any())
-                    .retrieve()
-                    .body(eq(responseClass))
-            ).thenThrow(RestClientException("fail"))
+        @DisplayName("응답 JSON 이 잘려 있으면 → 예외가 발생한다")
+        fun throwsWhenResponseMalformed() {
+            server.expect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{\"pages\":[{\"index\":0,\"markdown\":\"hel", MediaType.APPLICATION_JSON))
 
             assertThatThrownBy { client.requestOcr("https://example.com/ocr/image.png") }
                 .isInstanceOf(MistralOcrClientException::class.java)
         }
 
         @Test
-        @DisplayName("요청 생성에 실패하면 → 예외가 발생한다")
-        fun throwsWhenPostFails() {
-            org.mockito.Mockito.lenient().`when`(restClient.post())
-                .thenThrow(RestClientException("fail"))
+        @DisplayName("호출에 실패하면 → 예외가 발생한다")
+        fun throwsWhenRequestFails() {
+            server.expect(method(HttpMethod.POST))
+                .andRespond(withServerError())
 
             assertThatThrownBy { client.requestOcr("https://example.com/ocr/image.png") }
                 .isInstanceOf(MistralOcrClientException::class.java)
         }
     }
 
-    private fun buildResponse(pages: List<String>): Any {
-        val response = newInstance(responseClass)
-        val pageResults = mutableListOf<Any>()
-        for (pageText in pages) {
-            val page = newInstance(pageClass)
-            ReflectionTestUtils.setField(page, "markdown", pageText)
-            pageResults.add(page)
+    private fun response(vararg pages: String): String {
+        val pageJson = pages.mapIndexed { index, markdown ->
+            """{"index":$index,"markdown":"$markdown","images":[{"id":"img-$index","top_left_x":0}],"dimensions":{"dpi":200,"height":10,"width":10}}"""
         }
-        ReflectionTestUtils.setField(response, "pages", pageResults)
-        return response
-    }
-
-    private fun newInstance(targetClass: Class<*>): Any {
-        val constructor: Constructor<*> = targetClass.getDeclaredConstructor()
-        constructor.isAccessible = true
-        return constructor.newInstance()
+        return """{"pages":[${pageJson.joinToString(",")}],"model":"ocr-model","usage_info":{"pages_processed":${pages.size}}}"""
     }
 }
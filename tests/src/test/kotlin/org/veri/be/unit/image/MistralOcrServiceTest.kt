@@ -1,5 +1,6 @@
 package org.veri.be.unit.image
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -8,18 +9,24 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.mockito.ArgumentCaptor
 import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.eq
 import org.mockito.BDDMockito.given
 import org.mockito.BDDMockito.then
-import org.mockito.Mockito.doNothing
 import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.image.cache.OcrResultCache
+import org.veri.be.domain.image.client.HedgedOcrRequester
+import org.veri.be.domain.image.client.OcrBulkhead
 import org.veri.be.domain.image.client.OcrPort
 import org.veri.be.domain.image.entity.OcrResult
 import org.veri.be.domain.image.exception.ImageErrorCode
+import org.veri.be.domain.image.preprocess.ImagePreprocessor
+import org.veri.be.domain.image.preprocess.PreprocessedImageSource
 import org.veri.be.domain.image.repository.OcrResultRepository
 import org.veri.be.domain.image.service.MistralOcrService
+import org.veri.be.global.storage.readiness.StorageReadinessProbe
+import org.veri.be.integration.support.stub.StubStorageService
 import org.veri.be.lib.time.SleepSupport
 import org.veri.be.support.assertion.ExceptionAssertions
-import java.time.Duration
 import java.util.concurrent.Executor
 
 @ExtendWith(MockitoExtension::class)
@@ -31,9 +38,6 @@ class MistralOcrServiceTest {
     @org.mockito.Mock
     private lateinit var ocrClient: OcrPort
 
-    @org.mockito.Mock
-    private lateinit var sleepSupport: SleepSupport
-
     @org.mockito.Captor
     private lateinit var resultCaptor: ArgumentCaptor<OcrResult>
 
@@ -42,7 +46,25 @@ class MistralOcrServiceTest {
     @BeforeEach
     fun setUp() {
         val executor: Executor = Executor { runnable -> runnable.run() }
-        service = MistralOcrService(ocrResultRepository, ocrClient, sleepSupport, executor)
+        val storageService = StubStorageService()
+        service = MistralOcrService(
+            OcrResultCache(ocrResultRepository, SimpleMeterRegistry(), 100),
+            HedgedOcrRequester(
+                ocrClient,
+                PreprocessedImageSource(
+                    StorageReadinessProbe(storageService, SleepSupport(), 10, 20, 50),
+                    storageService,
+                    ImagePreprocessor(2000, 1000, -5.0, 5.0, 0.5, 25_000_000),
+                    SimpleMeterRegistry(),
+                    false
+                ),
+                OcrBulkhead(SimpleMeterRegistry(), 8, 1000),
+                executor,
+                SimpleMeterRegistry(),
+                1500,
+                60_000
+            )
+        )
     }
 
     @Nested
@@ -52,8 +74,7 @@ class MistralOcrServiceTest {
         @Test
         @DisplayName("원본 이미지 OCR 성공 시 → 결과를 저장한다")
         fun savesOriginalResult() {
-            doNothing().`when`(sleepSupport).sleep(any(Duration::class.java))
-            given(ocrClient.requestOcr("https://example.com/ocr/image.png")).willReturn("text")
+            given(ocrClient.requestOcr(eq("https://example.com/ocr/image.png"), any())).willReturn("text")
 
             val result = service.extract("https://example.com/ocr/image.png")
 
@@ -68,10 +89,9 @@ class MistralOcrServiceTest {
         @Test
         @DisplayName("원본 실패 후 전처리 성공 시 → 전처리 URL로 저장한다")
         fun fallsBackToPreprocessedUrl() {
-            doNothing().`when`(sleepSupport).sleep(any(Duration::class.java))
-            given(ocrClient.requestOcr("https://example.com/ocr/image.png"))
+            given(ocrClient.requestOcr(eq("https://example.com/ocr/image.png"), any()))
                 .willThrow(RuntimeException("fail"))
-            given(ocrClient.requestOcr("https://example.com/ocr-preprocessed/image.jpg"))
+            given(ocrClient.requestOcr(eq("https://example.com/ocr-preprocessed/image.jpg"), any()))
                 .willReturn("text")
 
             val result = service.extract("https://example.com/ocr/image.png")
@@ -85,20 +105,7 @@ class MistralOcrServiceTest {
         @Test
         @DisplayName("원본과 전처리 모두 실패하면 → 예외가 발생한다")
         fun throwsWhenBothFail() {
-            doNothing().`when`(sleepSupport).sleep(any(Duration::class.java))
-            given(ocrClient.requestOcr(any(String::class.java))).willThrow(RuntimeException("fail"))
-
-            ExceptionAssertions.assertApplicationException(
-                { service.extract("https://example.com/ocr/image.png") },
-                ImageErrorCode.OCR_PROCESSING_FAILED
-            )
-        }
-
-        @Test
-        @DisplayName("슬립 중 인터럽트가 발생하면 → 예외가 발생한다")
-        fun throwsWhenInterrupted() {
-            org.mockito.Mockito.doThrow(InterruptedException("interrupt"))
-                .`when`(sleepSupport).sleep(any(Duration::class.java))
+            given(ocrClient.requestOcr(any(String::class.java), any())).willThrow(RuntimeException("fail"))
 
             ExceptionAssertions.assertApplicationException(
                 { service.extract("https://example.com/ocr/image.png") },
@@ -0,0 +1,98 @@
+package org.veri.be.unit.image
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.image.exception.ImageErrorCode
+import org.veri.be.domain.image.service.ImageCommandService
+import org.veri.be.domain.image.service.OcrBatchService
+import org.veri.be.domain.image.service.OcrService
+import org.veri.be.lib.exception.ApplicationException
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+@ExtendWith(MockitoExtension::class)
+class OcrBatchServiceTest {
+
+    @org.mockito.Mock
+    private lateinit var imageCommandService: ImageCommandService
+
+    @org.mockito.Mock
+    private lateinit var ocrService: OcrService
+
+    private fun service(executor: Executor = Executor { it.run() }, concurrency: Int = 4): OcrBatchService {
+        return OcrBatchService(imageCommandService, ocrService, executor, concurrency)
+    }
+
+    @Nested
+    @DisplayName("extractAll")
+    inner class ExtractAll {
+
+        @Test
+        @DisplayName("여러 페이지를 OCR하면 → 이미지를 한 번에 저장하고 입력 순서대로 결과를 반환한다")
+        fun returnsResultsInInputOrder() {
+            val urls = listOf("https://example.com/1.png", "https://example.com/2.png", "https://example.com/3.png")
+            urls.forEachIndexed { index, url -> given(ocrService.extract(url)).willReturn("text-$index") }
+
+            val result = service().extractAll(1L, urls)
+
+            then(imageCommandService).should().registerImages(1L, urls)
+            assertThat(result.pages().map { it.page() }).containsExactly(0, 1, 2)
+            assertThat(result.pages().map { it.text() }).containsExactly("text-0", "text-1", "text-2")
+            assertThat(result.succeeded()).isEqualTo(3)
+            assertThat(result.failed()).isZero()
+        }
+
+        @Test
+        @DisplayName("일부 페이지가 실패하면 → 해당 페이지만 오류로 표시한다")
+        fun reportsPartialFailure() {
+            val urls = listOf("https://example.com/1.png", "https://example.com/2.png", "https://example.com/3.png")
+            given(ocrService.extract(urls[0])).willReturn("text")
+            given(ocrService.extract(urls[1])).willThrow(ApplicationException.of(ImageErrorCode.OCR_BUSY))
+            given(ocrService.extract(urls[2])).willThrow(RuntimeException("boom"))
+
+            val result = service().extractAll(1L, urls)
+
+            assertThat(result.pages().map { it.succeeded() }).containsExactly(true, false, false)
+            assertThat(result.pages()[1].errorCode()).isEqualTo(ImageErrorCode.OCR_BUSY.code)
+            assertThat(result.pages()[2].errorCode()).isEqualTo(ImageErrorCode.OCR_PROCESSING_FAILED.code)
+            assertThat(result.succeeded()).isEqualTo(1)
+            assertThat(result.failed()).isEqualTo(2)
+        }
+
+        @Test
+        @DisplayName("동시 실행 수를 넘지 않는다")
+        fun boundsConcurrency() {
+            val urls = (1..8).map { "https://example.com/$it.png" }
+            val running = AtomicInteger()
+            val peak = AtomicInteger()
+            urls.forEach { url ->
+                given(ocrService.extract(url)).willAnswer {
+                    val now = running.incrementAndGet()
+                    peak.accumulateAndGet(now) { a, b -> maxOf(a, b) }
+                    Thread.sleep(20)
+                    running.decrementAndGet()
+                    "text"
+                }
+            }
+            val executor = Executors.newVirtualThreadPerTaskExecutor()
+
+            try {
+                val result = service(executor, concurrency = 2).extractAll(1L, urls)
+
+                assertThat(result.succeeded()).isEqualTo(8)
+                assertThat(peak.get()).isLessThanOrEqualTo(2)
+            } finally {
+                executor.shutdown()
+                executor.awaitTermination(1, TimeUnit.SECONDS)
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.veri.be.unit.image
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.veri.be.domain.image.client.OcrBulkhead
+import org.veri.be.domain.image.exception.ImageErrorCode
+import org.veri.be.support.assertion.ExceptionAssertions
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class OcrBulkheadTest {
+
+    private val meterRegistry = SimpleMeterRegistry()
+
+    @Nested
+    @DisplayName("call")
+    inner class Call {
+
+        @Test
+        @DisplayName("자리가 있으면 → 호출 결과를 반환하고 자리를 반납한다")
+        fun returnsResult() {
+            val bulkhead = OcrBulkhead(meterRegistry, 1, 100)
+
+            assertThat(bulkhead.call { "text" }).isEqualTo("text")
+            assertThat(bulkhead.call { "again" }).isEqualTo("again")
+            assertThat(bulkhead.inFlight()).isZero()
+        }
+
+        @Test
+        @DisplayName("호출이 실패해도 → 자리를 반납한다")
+        fun releasesOnFailure() {
+            val bulkhead = OcrBulkhead(meterRegistry, 1, 100)
+
+            runCatching { bulkhead.call<String> { throw IllegalStateException("fail") } }
+
+            assertThat(bulkhead.inFlight()).isZero()
+        }
+
+        @Test
+        @DisplayName("자리가 가득 차면 → 대기 시간 후 OCR_BUSY 로 실패한다")
+        fun failsFastWhenSaturated() {
+            val bulkhead = OcrBulkhead(meterRegistry, 1, 50)
+            val entered = CountDownLatch(1)
+            val release = CountDownLatch(1)
+            val executor = Executors.newVirtualThreadPerTaskExecutor()
+
+            try {
+                executor.execute {
+                    bulkhead.call {
+                        entered.countDown()
+                        release.await(5, TimeUnit.SECONDS)
+                        "slow"
+                    }
+                }
+                entered.await(5, TimeUnit.SECONDS)
+
+                assertThat(gauge("ocr.bulkhead.in_flight")).isEqualTo(1.0)
+                ExceptionAssertions.assertApplicationException(
+                    { bulkhead.call { "rejected" } },
+                    ImageErrorCode.OCR_BUSY
+                )
+                assertThat(meterRegistry.get("ocr.bulkhead.wait").timer().count()).isEqualTo(2)
+            } finally {
+                release.countDown()
+                executor.shutdownNow()
+            }
+        }
+    }
+
+    private fun gauge(name: String): Double = meterRegistry.get(name).gauge().value()
+}
@@ -0,0 +1,180 @@
+package org.veri.be.unit.image
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.eq
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.image.client.OcrPageListener
+import org.veri.be.domain.image.exception.ImageErrorCode
+import org.veri.be.domain.image.job.OcrJobRegistry
+import org.veri.be.domain.image.job.OcrJobStatus
+import org.veri.be.domain.image.service.ImageCommandService
+import org.veri.be.domain.image.service.OcrJobService
+import org.veri.be.domain.image.service.OcrService
+import org.veri.be.lib.exception.ApplicationException
+import org.veri.be.lib.exception.CommonErrorCode
+import org.veri.be.support.assertion.ExceptionAssertions
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneOffset
+import java.util.concurrent.Executor
+import java.util.concurrent.RejectedExecutionException
+
+@ExtendWith(MockitoExtension::class)
+class OcrJobServiceTest {
+
+    @org.mockito.Mock
+    private lateinit var imageCommandService: ImageCommandService
+
+    @org.mockito.Mock
+    private lateinit var ocrService: OcrService
+
+    private val clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC)
+    private lateinit var registry: OcrJobRegistry
+    private val pending = mutableListOf<Runnable>()
+
+    @BeforeEach
+    fun setUp() {
+        registry = OcrJobRegistry(600, 100)
+        pending.clear()
+    }
+
+    private fun service(executor: Executor = Executor { pending.add(it) }): OcrJobService {
+        return OcrJobService(imageCommandService, ocrService, registry, executor, clock, 1000)
+    }
+
+    @Nested
+    @DisplayName("submit")
+    inner class Submit {
+
+        @Test
+        @DisplayName("작업을 등록하면 → OCR 을 기다리지 않고 PENDING 상태를 반환한다")
+        fun returnsPendingJob() {
+            val response = service().submit(1L, "https://example.com/image.png")
+
+            assertThat(response.status()).isEqualTo(OcrJobStatus.PENDING)
+            assertThat(pending).hasSize(1)
+            then(imageCommandService).should().registerImage(1L, "https://example.com/image.png")
+            then(ocrService).shouldHaveNoInteractions()
+        }
+
+        @Test
+        @DisplayName("OCR 이 끝나면 → 작업 조회 시 결과를 반환한다")
+        fun completesJob() {
+            given(ocrService.extract(eq("https://example.com/image.png"), any())).willReturn("text")
+            val service = service()
+
+            val submitted = service.submit(1L, "https://example.com/image.png")
+            pending.forEach { it.run() }
+
+            val result = service.getJob(1L, submitted.jobId())
+            assertThat(result.status()).isEqualTo(OcrJobStatus.SUCCEEDED)
+            assertThat(result.text()).isEqualTo("text")
+        }
+
+        @Test
+        @DisplayName("OCR 응답의 페이지가 파싱되면 → 작업 구독자에게 바로 전달한다")
+        fun forwardsPages() {
+            given(ocrService.extract(eq("https://example.com/image.png"), any())).willAnswer {
+                val listener = it.getArgument<OcrPageListener>(1)
+                listener.onPage(0, "page-0")
+                listener.onPage(1, "page-1")
+                "page-0\npage-1"
+            }
+            val service = service()
+            val submitted = service.submit(1L, "https://example.com/image.png")
+            val pages = mutableListOf<String>()
+            registry.find(submitted.jobId()).orElseThrow().onPage { pages.add(it.text()) }
+
+            pending.forEach { it.run() }
+
+            assertThat(pages).containsExactly("page-0", "page-1")
+            assertThat(service.getJob(1L, submitted.jobId()).text()).isEqualTo("page-0\npage-1")
+        }
+
+        @Test
+        @DisplayName("OCR 이 실패하면 → 작업에 오류 코드를 남긴다")
+        fun recordsFailure() {
+            given(ocrService.extract(eq("https://example.com/image.png"), any()))
+                .willThrow(ApplicationException.of(ImageErrorCode.OCR_PROCESSING_FAILED))
+            val service = service()
+
+            val submitted = service.submit(1L, "https://example.com/image.png")
+            pending.forEach { it.run() }
+
+            val result = service.getJob(1L, submitted.jobId())
+            assertThat(result.status()).isEqualTo(OcrJobStatus.FAILED)
+            assertThat(result.errorCode()).isEqualTo(ImageErrorCode.OCR_PROCESSING_FAILED.code)
+        }
+
+        @Test
+        @DisplayName("동시 호출 제한에 걸리면 → 작업에 OCR_BUSY 를 남긴다")
+        fun recordsBusy() {
+            given(ocrService.extract(eq("https://example.com/image.png"), any()))
+                .willThrow(ApplicationException.of(ImageErrorCode.OCR_BUSY))
+            val service = service()
+
+            val submitted = service.submit(1L, "https://example.com/image.png")
+            pending.forEach { it.run() }
+
+            assertThat(service.getJob(1L, submitted.jobId()).errorCode()).isEqualTo(ImageErrorCode.OCR_BUSY.code)
+        }
+
+        @Test
+        @DisplayName("예상치 못한 예외면 → OCR 처리 실패로 기록한다")
+        fun recordsUnexpectedFailure() {
+            given(ocrService.extract(eq("https://example.com/image.png"), any())).willThrow(RuntimeException("boom"))
+            val service = service()
+
+            val submitted = service.submit(1L, "https://example.com/image.png")
+            pending.forEach { it.run() }
+
+            assertThat(service.getJob(1L, submitted.jobId()).errorCode())
+                .isEqualTo(ImageErrorCode.OCR_PROCESSING_FAILED.code)
+        }
+
+        @Test
+        @DisplayName("실행기가 작업을 거절하면 → OCR_BUSY 예외를 던지고 작업을 남기지 않는다")
+        fun rejectsWhenBusy() {
+            val service = service { throw RejectedExecutionException("full") }
+
+            ExceptionAssertions.assertApplicationException(
+                { service.submit(1L, "https://example.com/image.png") },
+                ImageErrorCode.OCR_BUSY
+            )
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob")
+    inner class GetJob {
+
+        @Test
+        @DisplayName("다른 회원의 작업이면 → 찾을 수 없음 예외를 던진다")
+        fun hidesOtherMembersJob() {
+            val service = service()
+            val submitted = service.submit(1L, "https://example.com/image.png")
+
+            ExceptionAssertions.assertApplicationException(
+                { service.getJob(2L, submitted.jobId()) },
+                CommonErrorCode.RESOURCE_NOT_FOUND
+            )
+        }
+
+        @Test
+        @DisplayName("없는 작업이면 → 찾을 수 없음 예외를 던진다")
+        fun throwsWhenMissing() {
+            ExceptionAssertions.assertApplicationException(
+                { service().getJob(1L, "missing") },
+                CommonErrorCode.RESOURCE_NOT_FOUND
+            )
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.veri.be.unit.image
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.Timeout
+import org.veri.be.domain.image.job.OcrJob
+import org.veri.be.domain.image.job.OcrJobStatus
+import java.time.Instant
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class OcrJobTest {
+
+    private val now = Instant.parse("2024-01-01T00:00:00Z")
+
+    @Nested
+    @DisplayName("addPage")
+    inner class AddPage {
+
+        @Test
+        @DisplayName("구독 전에 파싱된 페이지도 → 구독하면 먼저 전달한다")
+        fun replaysEarlierPages() {
+            val job = OcrJob(1L, "https://example.com/image.png", now)
+            val pages = mutableListOf<String>()
+            job.addPage(0, "page-0")
+
+            job.onPage { pages.add(it.text()) }
+            job.addPage(1, "page-1")
+
+            assertThat(pages).containsExactly("page-0", "page-1")
+        }
+
+        @Test
+        @Timeout(5)
+        @DisplayName("listener 가 멈춰 있어도 → 다른 구독과 작업 완료는 막히지 않는다")
+        fun doesNotHoldLockWhileNotifying() {
+            val job = OcrJob(1L, "https://example.com/image.png", now)
+            val entered = CountDownLatch(1)
+            val release = CountDownLatch(1)
+            job.onPage {
+                entered.countDown()
+                release.await(5, TimeUnit.SECONDS)
+            }
+            val executor = Executors.newSingleThreadExecutor()
+
+            try {
+                val ocrThread = executor.submit { job.addPage(0, "page-0") }
+                assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue()
+
+                job.onPage { }
+                job.succeed("page-0", now)
+
+                assertThat(job.status).isEqualTo(OcrJobStatus.SUCCEEDED)
+                release.countDown()
+                ocrThread.get(5, TimeUnit.SECONDS)
+            } finally {
+                release.countDown()
+                executor.shutdownNow()
+            }
+        }
+    }
+}
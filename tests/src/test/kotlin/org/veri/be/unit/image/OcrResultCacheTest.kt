@@ -0,0 +1,113 @@
+package org.veri.be.unit.image
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.Mockito.times
+import org.mockito.junit.jupiter.MockitoExtension
+import org.veri.be.domain.image.cache.OcrResultCache
+import org.veri.be.domain.image.entity.OcrResult
+import org.veri.be.domain.image.repository.OcrResultRepository
+import java.util.Optional
+
+@ExtendWith(MockitoExtension::class)
+class OcrResultCacheTest {
+
+    @org.mockito.Mock
+    private lateinit var ocrResultRepository: OcrResultRepository
+
+    private val meterRegistry = SimpleMeterRegistry()
+    private lateinit var cache: OcrResultCache
+
+    @BeforeEach
+    fun setUp() {
+        cache = OcrResultCache(ocrResultRepository, meterRegistry, 100)
+    }
+
+    @Nested
+    @DisplayName("find")
+    inner class Find {
+
+        @Test
+        @DisplayName("DB 에 결과가 있으면 → 반환하고 이후에는 메모리에서 읽는다")
+        fun readsThroughDatabase() {
+            val url = "https://example.com/ocr/image.png"
+            given(ocrResultRepository.findFirstByImageUrlHashOrderByIdDesc(OcrResult.hashOf(url)))
+                .willReturn(Optional.of(result(url, "stored")))
+
+            val first = cache.find(url)
+            val second = cache.find(url)
+
+            assertThat(first).contains("stored")
+            assertThat(second).contains("stored")
+            then(ocrResultRepository).should(times(1)).findFirstByImageUrlHashOrderByIdDesc(OcrResult.hashOf(url))
+            assertThat(lookups("database")).isEqualTo(1.0)
+            assertThat(lookups("memory")).isEqualTo(1.0)
+        }
+
+        @Test
+        @DisplayName("결과가 없으면 → 빈 값을 반환하고 미스로 기록한다")
+        fun recordsMiss() {
+            val url = "https://example.com/ocr/none.png"
+            given(ocrResultRepository.findFirstByImageUrlHashOrderByIdDesc(OcrResult.hashOf(url)))
+                .willReturn(Optional.empty())
+
+            assertThat(cache.find(url)).isEmpty
+            assertThat(lookups("miss")).isEqualTo(1.0)
+        }
+
+        @Test
+        @DisplayName("해시는 같지만 URL 이 다르면 → 결과로 쓰지 않는다")
+        fun ignoresHashCollision() {
+            val url = "https://example.com/ocr/image.png"
+            given(ocrResultRepository.findFirstByImageUrlHashOrderByIdDesc(OcrResult.hashOf(url)))
+                .willReturn(Optional.of(result("https://example.com/ocr/other.png", "other")))
+
+            assertThat(cache.find(url)).isEmpty
+        }
+
+        @Test
+        @DisplayName("DB 조회가 실패하면 → 미스로 취급한다")
+        fun treatsFailureAsMiss() {
+            val url = "https://example.com/ocr/image.png"
+            given(ocrResultRepository.findFirstByImageUrlHashOrderByIdDesc(OcrResult.hashOf(url)))
+                .willThrow(IllegalStateException("db down"))
+
+            assertThat(cache.find(url)).isEmpty
+        }
+    }
+
+    @Nested
+    @DisplayName("save")
+    inner class Save {
+
+        @Test
+        @DisplayName("저장하면 → DB 조회 없이 바로 찾을 수 있다")
+        fun storesInMemory() {
+            val url = "https://example.com/ocr/image.png"
+
+            cache.save(result(url, "text"))
+
+            assertThat(cache.find(url)).contains("text")
+            then(ocrResultRepository).should(times(0)).findFirstByImageUrlHashOrderByIdDesc(OcrResult.hashOf(url))
+        }
+    }
+
+    private fun lookups(result: String): Double {
+        return meterRegistry.get("ocr.result.lookups").tag("result", result).counter().count()
+    }
+
+    private fun result(imageUrl: String, text: String): OcrResult {
+        return OcrResult.builder()
+            .imageUrl(imageUrl)
+            .resultText(text)
+            .ocrService("Mistral")
+            .build()
+    }
+}
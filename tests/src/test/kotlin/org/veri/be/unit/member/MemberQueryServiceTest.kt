@@ -11,12 +11,13 @@ import org.mockito.junit.jupiter.MockitoExtension
 import org.veri.be.domain.book.repository.ReadingRepository
 import org.veri.be.domain.card.repository.CardRepository
 import org.veri.be.domain.member.dto.MemberResponse
+import org.veri.be.domain.member.dto.MemberSnapshot
 import org.veri.be.domain.member.exception.MemberErrorCode
 import org.veri.be.domain.member.repository.MemberRepository
 import org.veri.be.domain.member.service.MemberQueryService
 import org.veri.be.global.auth.JwtClaimsPayload
+import org.veri.be.global.auth.context.CurrentMemberAccessor
 import org.veri.be.global.auth.context.CurrentMemberInfo
-import org.veri.be.global.auth.context.ThreadLocalCurrentMemberAccessor
 import org.veri.be.support.assertion.MemberAssert
 import org.veri.be.support.assertion.ExceptionAssertions
 import org.veri.be.support.fixture.MemberFixture
@@ -35,7 +36,7 @@ class MemberQueryServiceTest {
     private lateinit var cardRepository: CardRepository
 
     @org.mockito.Mock
-    private lateinit var threadLocalCurrentMemberAccessor: ThreadLocalCurrentMemberAccessor
+    private lateinit var currentMemberAccessor: CurrentMemberAccessor
 
     private lateinit var memberQueryService: MemberQueryService
 
@@ -45,7 +46,7 @@ class MemberQueryServiceTest {
             memberRepository,
             readingRepository,
             cardRepository,
-            threadLocalCurrentMemberAccessor
+            currentMemberAccessor
         )
     }
 
@@ -95,7 +96,7 @@ class MemberQueryServiceTest {
 
             given(readingRepository.countAllByMemberId(1L)).willReturn(3)
             given(cardRepository.countAllByMemberId(1L)).willReturn(2)
-            given(threadLocalCurrentMemberAccessor.memberOrThrow).willReturn(member)
+            given(currentMemberAccessor.memberSnapshotOrThrow).willReturn(MemberSnapshot.from(member))
 
             val response: MemberResponse.MemberInfoResponse =
                 memberQueryService.findMyInfo(CurrentMemberInfo.from(JwtClaimsPayload(member.id, member.email, member.nickname, false)))
@@ -0,0 +1,139 @@
+package org.veri.be.unit.post
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentMatchers.anyCollection
+import org.mockito.ArgumentMatchers.anyLong
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.never
+import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import org.veri.be.domain.post.counter.LikeCountBuffer
+import org.veri.be.domain.post.repository.PostRepository
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+
+@ExtendWith(MockitoExtension::class)
+class LikeCountBufferTest {
+
+    @org.mockito.Mock
+    private lateinit var postRepository: PostRepository
+
+    private val meterRegistry = SimpleMeterRegistry()
+    private lateinit var buffer: LikeCountBuffer
+
+    @BeforeEach
+    fun setUp() {
+        buffer = LikeCountBuffer(
+            postRepository,
+            TransactionTemplate(mock(PlatformTransactionManager::class.java)),
+            Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneId.of("UTC")),
+            meterRegistry
+        )
+    }
+
+    @Nested
+    @DisplayName("approximate")
+    inner class Approximate {
+
+        @Test
+        @DisplayName("반영 전 증감이 있으면 → DB 값에 더해 반환한다")
+        fun includesPendingDeltas() {
+            buffer.add(1L, 1)
+            buffer.add(1L, 1)
+            buffer.add(1L, -1)
+
+            assertThat(buffer.approximate(1L, 10L)).isEqualTo(11L)
+            assertThat(buffer.approximate(2L, 10L)).isEqualTo(10L)
+            assertThat(meterRegistry.get("post.like.buffer.pending.posts").gauge().value()).isEqualTo(1.0)
+        }
+
+        @Test
+        @DisplayName("트랜잭션이 없으면 → 즉시 반영 대기열에 추가한다")
+        fun addsImmediatelyWithoutTransaction() {
+            buffer.addAfterCommit(1L, 1)
+
+            assertThat(buffer.approximate(1L, 0L)).isEqualTo(1L)
+        }
+    }
+
+    @Nested
+    @DisplayName("flush")
+    inner class Flush {
+
+        @Test
+        @DisplayName("증감이 쌓여 있으면 → 같은 증감량끼리 묶어 반영하고 비운다")
+        fun flushesGroupedByDelta() {
+            buffer.add(1L, 1)
+            buffer.add(2L, 1)
+            buffer.add(3L, 2)
+            buffer.add(3L, 1)
+            buffer.add(3L, -1)
+            buffer.add(4L, 1)
+            buffer.add(4L, -1)
+
+            buffer.flush()
+
+            then(postRepository).should().addLikeCounts(listOf(1L, 2L), 1L)
+            then(postRepository).should().addLikeCounts(listOf(3L), 2L)
+            then(postRepository).should(never()).addLikeCounts(listOf(4L), 0L)
+            assertThat(buffer.approximate(1L, 0L)).isZero()
+        }
+
+        @Test
+        @DisplayName("반영 UPDATE 중에는 → 증감을 더하고, 커밋 전에 빼서 반영된 DB 값과 이중 집계하지 않는다")
+        fun countsFlushingDeltasUntilCommit() {
+            buffer.add(1L, 3)
+            var duringUpdate = -1L
+            given(postRepository.addLikeCounts(listOf(1L), 3L)).willAnswer {
+                duringUpdate = buffer.approximate(1L, 10L)
+                1
+            }
+
+            buffer.flush()
+
+            assertThat(duringUpdate).isEqualTo(13L)
+            assertThat(buffer.approximate(1L, 13L)).isEqualTo(13L)
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 → 증감을 다시 대기열에 넣는다")
+        fun requeuesOnFailure() {
+            buffer.add(1L, 3)
+            given(postRepository.addLikeCounts(anyCollection(), anyLong())).willThrow(IllegalStateException("db down"))
+
+            buffer.flush()
+
+            assertThat(buffer.approximate(1L, 0L)).isEqualTo(3L)
+        }
+    }
+
+    @Nested
+    @DisplayName("stop")
+    inner class Stop {
+
+        @Test
+        @DisplayName("애플리케이션이 종료되면 → 남은 증감을 반영하고 멈춘다")
+        fun flushesOnShutdown() {
+            buffer.start()
+            buffer.add(1L, 2)
+            buffer.add(2L, -1)
+
+            buffer.stop()
+
+            then(postRepository).should().addLikeCounts(listOf(1L), 2L)
+            then(postRepository).should().addLikeCounts(listOf(2L), -1L)
+            assertThat(buffer.isRunning).isFalse()
+            assertThat(buffer.approximate(1L, 2L)).isEqualTo(2L)
+        }
+    }
+}
@@ -15,9 +15,9 @@ import org.mockito.junit.jupiter.MockitoExtension
 import org.veri.be.domain.book.service.BookService
 import org.veri.be.domain.card.entity.CardErrorInfo
 import org.veri.be.domain.member.repository.MemberRepository
+import org.veri.be.domain.post.counter.LikeCountBuffer
 import org.veri.be.domain.post.dto.request.PostCreateRequest
 import org.veri.be.domain.post.dto.response.LikeInfoResponse
-import org.veri.be.domain.post.entity.LikePost
 import org.veri.be.domain.post.entity.Post
 import org.veri.be.domain.post.entity.PostImage
 import org.veri.be.domain.post.repository.LikePostRepository
@@ -27,11 +27,13 @@ import org.veri.be.domain.post.service.PostQueryService
 import org.veri.be.global.storage.dto.PresignedUrlRequest
 import org.veri.be.global.storage.dto.PresignedUrlResponse
 import org.veri.be.global.storage.service.StorageService
+import org.veri.be.lib.exception.CommonErrorCode
 import org.veri.be.support.assertion.ExceptionAssertions
 import org.veri.be.support.fixture.BookFixture
 import org.veri.be.support.fixture.MemberFixture
 import org.veri.be.support.fixture.PostFixture
 import java.util.Comparator
+import java.util.Optional
 
 @ExtendWith(MockitoExtension::class)
 class PostCommandServiceTest {
@@ -54,14 +56,14 @@ class PostCommandServiceTest {
     @org.mockito.Mock
     private lateinit var memberRepository: MemberRepository
 
+    @org.mockito.Mock
+    private lateinit var likeCountBuffer: LikeCountBuffer
+
     private lateinit var postCommandService: PostCommandService
 
     @org.mockito.Captor
     private lateinit var postCaptor: ArgumentCaptor<Post>
 
-    @org.mockito.Captor
-    private lateinit var likePostCaptor: ArgumentCaptor<LikePost>
-
     @BeforeEach
     fun setUp() {
         postCommandService = PostCommandService(
@@ -70,7 +72,8 @@ class PostCommandServiceTest {
             bookService,
             storageService,
             likePostRepository,
-            memberRepository
+            memberRepository,
+            likeCountBuffer
         )
     }
 
@@ -236,43 +239,46 @@ class PostCommandServiceTest {
     inner class LikePostAction {
 
         @Test
-        @DisplayName("이미 좋아요가 있으면 → 저장하지 않는다")
+        @DisplayName("이미 좋아요가 있으면 → 카운트를 증가시키지 않는다")
         fun returnsLikeInfoWhenAlreadyLiked() {
             val member = MemberFixture.aMember().id(1L).nickname("member").build()
-            given(likePostRepository.existsByPostIdAndMemberId(1L, 1L)).willReturn(true)
-            given(likePostRepository.countByPostId(1L)).willReturn(2L)
+            given(likePostRepository.like(1L, 1L)).willReturn(false)
+            given(postRepository.findLikeCountById(1L)).willReturn(Optional.of(2L))
+            given(likeCountBuffer.approximate(1L, 2L)).willReturn(2L)
 
             val result: LikeInfoResponse = postCommandService.likePost(1L, member.id)
 
             assertThat(result.likeCount()).isEqualTo(2L)
             assertThat(result.isLiked()).isTrue()
-            then(likePostRepository).should(never()).save(any(LikePost::class.java))
+            then(likeCountBuffer).should(never()).addAfterCommit(1L, 1L)
         }
-    }
-
-    @Nested
-    @DisplayName("likePost")
-    inner class LikePostActionNotExists {
 
         @Test
-        @DisplayName("좋아요를 저장하면 → 카운트를 반환한다")
+        @DisplayName("좋아요를 저장하면 → 증가된 카운트를 반환한다")
         fun savesLikeWhenNotExists() {
             val member = MemberFixture.aMember().id(1L).nickname("member").build()
-            val post = PostFixture.aPost().id(1L).author(member).title("title").content("content").build()
-
-            given(likePostRepository.existsByPostIdAndMemberId(1L, 1L)).willReturn(false)
-            given(postQueryService.getPostById(1L)).willReturn(post)
-            given(memberRepository.getReferenceById(1L)).willReturn(member)
-            given(likePostRepository.countByPostId(1L)).willReturn(1L)
+            given(likePostRepository.like(1L, 1L)).willReturn(true)
+            given(postRepository.findLikeCountById(1L)).willReturn(Optional.of(0L))
+            given(likeCountBuffer.approximate(1L, 0L)).willReturn(0L)
 
             val result: LikeInfoResponse = postCommandService.likePost(1L, member.id)
 
-            then(likePostRepository).should().save(likePostCaptor.capture())
-            assertThat(likePostCaptor.value.post).isEqualTo(post)
-            assertThat(likePostCaptor.value.member).isEqualTo(member)
+            then(likeCountBuffer).should().addAfterCommit(1L, 1L)
             assertThat(result.likeCount()).isEqualTo(1L)
             assertThat(result.isLiked()).isTrue()
         }
+
+        @Test
+        @DisplayName("게시글이 없으면 → 예외를 던진다")
+        fun throwsWhenPostMissing() {
+            given(likePostRepository.like(1L, 1L)).willReturn(false)
+            given(postRepository.findLikeCountById(1L)).willReturn(Optional.empty())
+
+            ExceptionAssertions.assertApplicationException(
+                { postCommandService.likePost(1L, 1L) },
+                CommonErrorCode.RESOURCE_NOT_FOUND
+            )
+        }
     }
 
     @Nested
@@ -283,13 +289,29 @@ class PostCommandServiceTest {
         @DisplayName("좋아요를 삭제하면 → 카운트를 반환한다")
         fun deletesLike() {
             val member = MemberFixture.aMember().id(1L).nickname("member").build()
-            given(likePostRepository.countByPostId(1L)).willReturn(0L)
+            given(likePostRepository.unlike(1L, 1L)).willReturn(true)
+            given(postRepository.findLikeCountById(1L)).willReturn(Optional.of(1L))
+            given(likeCountBuffer.approximate(1L, 1L)).willReturn(1L)
 
             val result: LikeInfoResponse = postCommandService.unlikePost(1L, member.id)
 
-            then(likePostRepository).should().deleteByPostIdAndMemberId(1L, 1L)
+            then(likeCountBuffer).should().addAfterCommit(1L, -1L)
             assertThat(result.likeCount()).isZero()
             assertThat(result.isLiked()).isFalse()
         }
+
+        @Test
+        @DisplayName("좋아요가 없었으면 → 카운트를 감소시키지 않는다")
+        fun skipsDecrementWhenNotLiked() {
+            val member = MemberFixture.aMember().id(1L).nickname("member").build()
+            given(likePostRepository.unlike(1L, 1L)).willReturn(false)
+            given(postRepository.findLikeCountById(1L)).willReturn(Optional.of(3L))
+            given(likeCountBuffer.approximate(1L, 3L)).willReturn(3L)
+
+            val result: LikeInfoResponse = postCommandService.unlikePost(1L, member.id)
+
+            then(likeCountBuffer).should(never()).addAfterCommit(1L, -1L)
+            assertThat(result.likeCount()).isEqualTo(3L)
+        }
     }
 }
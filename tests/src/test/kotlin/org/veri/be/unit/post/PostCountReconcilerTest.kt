@@ -0,0 +1,94 @@
+package org.veri.be.unit.post
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.BDDMockito.given
+import org.mockito.BDDMockito.then
+import org.mockito.Mockito.inOrder
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.never
+import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import org.veri.be.domain.post.counter.LikeCountBuffer
+import org.veri.be.domain.post.repository.PostRepository
+import org.veri.be.domain.post.repository.dto.LikeCountDrift
+import org.veri.be.domain.post.service.PostCountReconciler
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+
+@ExtendWith(MockitoExtension::class)
+class PostCountReconcilerTest {
+
+    @org.mockito.Mock
+    private lateinit var postRepository: PostRepository
+
+    private val transactionTemplate = TransactionTemplate(mock(PlatformTransactionManager::class.java))
+    private lateinit var likeCountBuffer: LikeCountBuffer
+    private lateinit var reconciler: PostCountReconciler
+
+    @BeforeEach
+    fun setUp() {
+        likeCountBuffer = LikeCountBuffer(
+            postRepository,
+            transactionTemplate,
+            Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneId.of("UTC")),
+            SimpleMeterRegistry()
+        )
+        reconciler = PostCountReconciler(postRepository, likeCountBuffer, transactionTemplate)
+    }
+
+    @Test
+    @DisplayName("보정을 실행하면 → 버퍼를 먼저 반영한 뒤 좋아요/댓글 카운터를 보정한다")
+    fun reconcilesBothCounters() {
+        likeCountBuffer.add(1L, 1)
+        given(postRepository.findLikeCountDrifts()).willReturn(listOf(LikeCountDrift(2L, 3L)))
+
+        reconciler.reconcile()
+
+        val order = inOrder(postRepository)
+        order.verify(postRepository).addLikeCounts(listOf(1L), 1L)
+        order.verify(postRepository).findLikeCountDrifts()
+        order.verify(postRepository).setLikeCount(2L, 3L)
+        then(postRepository).should().reconcileCommentCounts()
+    }
+
+    @Test
+    @DisplayName("flush 와 재계산 사이에 좋아요가 들어오면 → 그 게시글은 보정하지 않고 증감은 다음 flush 로 반영한다")
+    fun skipsPostsLikedDuringReconcile() {
+        given(postRepository.findLikeCountDrifts()).willAnswer {
+            // COUNT 에는 이미 들어간 좋아요가 커밋 후 버퍼에도 쌓인 상황
+            likeCountBuffer.add(1L, 1)
+            listOf(LikeCountDrift(1L, 5L), LikeCountDrift(2L, 3L))
+        }
+
+        reconciler.reconcile()
+
+        then(postRepository).should(never()).setLikeCount(1L, 5L)
+        then(postRepository).should().setLikeCount(2L, 3L)
+        assertThat(likeCountBuffer.approximate(1L, 4L)).isEqualTo(5L)
+
+        likeCountBuffer.flush()
+
+        then(postRepository).should().addLikeCounts(listOf(1L), 1L)
+    }
+
+    @Test
+    @DisplayName("보정이 끝난 뒤 들어온 좋아요는 → 다음 보정에서 제외하지 않는다")
+    fun stopsTrackingAfterReconcile() {
+        given(postRepository.findLikeCountDrifts()).willReturn(listOf())
+        reconciler.reconcile()
+        likeCountBuffer.add(1L, 1)
+        likeCountBuffer.flush()
+        given(postRepository.findLikeCountDrifts()).willReturn(listOf(LikeCountDrift(1L, 2L)))
+
+        reconciler.reconcile()
+
+        then(postRepository).should().setLikeCount(1L, 2L)
+    }
+}
@@ -13,10 +13,13 @@ import org.mockito.BDDMockito.then
 import org.mockito.junit.jupiter.MockitoExtension
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
+import org.springframework.data.domain.SliceImpl
 import org.veri.be.api.common.dto.MemberProfileResponse
+import org.veri.be.domain.book.repository.dto.BookSummaryQueryResult
 import org.veri.be.domain.comment.service.CommentQueryService
 import org.veri.be.domain.member.repository.dto.MemberProfileQueryResult
 import org.veri.be.domain.post.controller.enums.PostSortType
+import org.veri.be.domain.post.counter.LikeCountBuffer
 import org.veri.be.domain.post.dto.response.PostDetailResponse
 import org.veri.be.domain.post.dto.response.PostFeedResponseItem
 import org.veri.be.domain.post.repository.PostRepository
@@ -24,6 +27,7 @@ import org.veri.be.domain.post.repository.dto.DetailLikeInfoQueryResult
 import org.veri.be.domain.post.repository.dto.PostFeedQueryResult
 import org.veri.be.domain.post.service.LikePostQueryService
 import org.veri.be.domain.post.service.PostQueryService
+import org.veri.be.global.response.FeedCursor
 import org.veri.be.lib.exception.CommonErrorCode
 import org.veri.be.support.assertion.ExceptionAssertions
 import org.veri.be.support.fixture.BookFixture
@@ -44,6 +48,9 @@ class PostQueryServiceTest {
     @org.mockito.Mock
     private lateinit var commentQueryService: CommentQueryService
 
+    @org.mockito.Mock
+    private lateinit var likeCountBuffer: LikeCountBuffer
+
     private lateinit var postQueryService: PostQueryService
 
     @org.mockito.Captor
@@ -54,7 +61,8 @@ class PostQueryServiceTest {
         postQueryService = PostQueryService(
             postRepository,
             likePostQueryService,
-            commentQueryService
+            commentQueryService,
+            likeCountBuffer
         )
     }
 
@@ -77,6 +85,44 @@ class PostQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getPostFeedsByCursor")
+    inner class GetPostFeedsByCursor {
+
+        @Test
+        @DisplayName("커서가 없으면 → 최신 게시글부터 조회한다")
+        fun readsLatestWithoutCursor() {
+            given(postRepository.getLatestPostFeeds(any(Pageable::class.java))).willReturn(SliceImpl(listOf()))
+
+            postQueryService.getPostFeedsByCursor(null, 20)
+
+            then(postRepository).should().getLatestPostFeeds(pageableCaptor.capture())
+            assertThat(pageableCaptor.value.pageSize).isEqualTo(20)
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 → INVALID_REQUEST 예외를 던진다")
+        fun throwsWhenCursorInvalid() {
+            ExceptionAssertions.assertApplicationException(
+                { postQueryService.getPostFeedsByCursor("%%%", 20) },
+                CommonErrorCode.INVALID_REQUEST
+            )
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 → 커서 이전 게시글을 조회한다")
+        fun seeksBeforeCursor() {
+            val createdAt = LocalDateTime.of(2024, 1, 1, 0, 0)
+            given(postRepository.getPostFeedsBefore(createdAt, 7L, org.springframework.data.domain.PageRequest.of(0, 20)))
+                .willReturn(SliceImpl(listOf()))
+
+            postQueryService.getPostFeedsByCursor(FeedCursor.of(createdAt, 7L).encode(), 20)
+
+            then(postRepository).should()
+                .getPostFeedsBefore(createdAt, 7L, org.springframework.data.domain.PageRequest.of(0, 20))
+        }
+    }
+
     @Nested
     @DisplayName("getPostsOfMember")
     inner class GetPostsOfMember {
@@ -91,8 +137,8 @@ class PostQueryServiceTest {
                 "title",
                 "content",
                 "https://example.com/thumbnail.png",
-                author,
-                book,
+                MemberProfileQueryResult.from(author),
+                BookSummaryQueryResult.from(book),
                 2L,
                 3L,
                 LocalDateTime.now(),
@@ -143,6 +189,8 @@ class PostQueryServiceTest {
                 .book(book)
                 .title("title")
                 .content("content")
+                .likeCount(1L)
+                .commentCount(1L)
                 .build()
             post.addImage("https://example.com/1.png", 1)
             post.addComment(CommentFixture.aComment().author(author).post(post).content("comment").build())
@@ -157,11 +205,12 @@ class PostQueryServiceTest {
             given(postRepository.findByIdWithAllAssociations(1L)).willReturn(java.util.Optional.of(post))
             given(likePostQueryService.getDetailLikeInfoOfPost(1L, 2L)).willReturn(likeInfo)
             given(commentQueryService.getCommentsByPostId(1L)).willReturn(comments)
+            given(likeCountBuffer.approximate(1L, 1L)).willReturn(2L)
 
             val response = postQueryService.getPostDetail(1L, requester.id)
 
             assertThat(response.postId()).isEqualTo(1L)
-            assertThat(response.likeCount()).isEqualTo(1L)
+            assertThat(response.likeCount()).isEqualTo(2L)
             assertThat(response.isLiked()).isTrue()
             assertThat(response.commentCount()).isEqualTo(1L)
             assertThat(response.images()).containsExactly("https://example.com/1.png")
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.PageRequest
+import org.veri.be.domain.book.repository.dto.BookSummaryQueryResult
 import org.veri.be.domain.member.repository.dto.MemberProfileQueryResult
 import org.veri.be.domain.post.dto.response.PostDetailResponse
 import org.veri.be.domain.post.dto.response.PostFeedResponse
@@ -34,8 +35,8 @@ class PostResponseMappingTest {
                 "title",
                 "content",
                 "https://example.com/thumb.png",
-                author,
-                book,
+                MemberProfileQueryResult.from(author),
+                BookSummaryQueryResult.from(book),
                 3L,
                 2L,
                 LocalDateTime.of(2024, 1, 1, 0, 0),
@@ -76,6 +77,8 @@ class PostResponseMappingTest {
                 .book(book)
                 .title("title")
                 .content("content")
+                .likeCount(1L)
+                .commentCount(1L)
                 .build()
             post.addImage("https://example.com/1.png", 1)
             post.addComment(CommentFixture.aComment().author(author).post(post).content("comment").build())
@@ -87,7 +90,7 @@ class PostResponseMappingTest {
             )
             val comments: List<PostDetailResponse.CommentResponse> = listOf()
 
-            val response = PostDetailResponse.from(post, likeInfo, comments)
+            val response = PostDetailResponse.from(post, 1L, likeInfo, comments)
 
             assertThat(response.images()).containsExactly("https://example.com/1.png")
             assertThat(response.commentCount()).isEqualTo(1L)